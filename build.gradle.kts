@@ -1,5 +1,6 @@
 plugins {
     id("java")
+    id("me.champeau.jmh") version "0.7.3"
 }
 
 group = "com.sportradar.football.worldcup"
@@ -18,4 +19,12 @@ dependencies {
 
 tasks.test {
     useJUnitPlatform()
-}
\ No newline at end of file
+}
+
+jmh {
+    warmupIterations = 2
+    iterations = 3
+    fork = 1
+    threads = providers.gradleProperty("jmhThreads").map { it.toInt() }.orElse(1)
+    profilers = listOf("gc")
+}
@@ -0,0 +1,45 @@
+package com.sportradar.football.worldcup.scoreboard;
+
+/**
+ * Team name source of the benchmarks. Names are shaped like real club and national team names, so hashing and comparing them costs what it costs in production.
+ * Every index answers with a distinct name, so boards of any size can be loaded with unique team pairs.
+ *
+ * @author Ozan Aksoy
+ */
+final class BenchmarkTeams {
+
+    private static final String[] NATIONS = {
+            "Mexico", "Canada", "Spain", "Brazil", "Germany", "France", "Uruguay", "Italy", "Argentina", "Australia",
+            "Peru", "USA", "Croatia", "Sweden", "Netherlands", "Portugal", "England", "Belgium", "Morocco", "Japan",
+            "South Korea", "Senegal", "Switzerland", "Denmark", "Poland", "Serbia", "Ecuador", "Cameroon", "Ghana", "Tunisia",
+            "Costa Rica", "Saudi Arabia", "Iran", "Qatar", "Wales", "Colombia", "Chile", "Nigeria", "Egypt", "Norway"
+    };
+
+    private static final String[] SQUADS = {
+            "", " U17", " U19", " U20", " U21", " U23", " Women", " Women U19", " Olympic", " B"
+    };
+
+    private BenchmarkTeams() {
+    }
+
+    /**
+     * Returns a distinct team name for each index.
+     *
+     * @param index Team index
+     * @return Team name
+     */
+    static String name(int index) {
+        String name = NATIONS[index % NATIONS.length] + SQUADS[(index / NATIONS.length) % SQUADS.length];
+        int edition = index / (NATIONS.length * SQUADS.length);
+        return edition == 0 ? name : name + " " + (1930 + edition);
+    }
+
+    static String homeTeam(int match) {
+        return name(2 * match);
+    }
+
+    static String awayTeam(int match) {
+        return name(2 * match + 1);
+    }
+
+}
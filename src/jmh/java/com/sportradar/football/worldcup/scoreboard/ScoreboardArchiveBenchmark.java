@@ -0,0 +1,61 @@
+package com.sportradar.football.worldcup.scoreboard;
+
+import com.sportradar.football.worldcup.scoreboard.exception.ScoreboardConsistencyException;
+import com.sportradar.football.worldcup.scoreboard.exception.ScoreboardInputException;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmark of the finished match archive, on a board of 1000 matches that are finished and started again, with and without an archive.
+ *
+ * @author Ozan Aksoy
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@State(Scope.Benchmark)
+public class ScoreboardArchiveBenchmark {
+
+    private static final int BOARD_SIZE = 1000;
+
+    @Param({"0", "10000"})
+    int archiveCapacity;
+
+    Scoreboard scoreboard;
+
+    int next;
+
+    @Setup
+    public void setUp() throws ScoreboardInputException, ScoreboardConsistencyException {
+        ScoreboardFactory.Builder builder = ScoreboardFactory.builder();
+        scoreboard = (archiveCapacity > 0 ? builder.archive(archiveCapacity) : builder).build();
+        for (int match = 0; match < BOARD_SIZE; match++) {
+            scoreboard.startMatch(BenchmarkTeams.homeTeam(match), BenchmarkTeams.awayTeam(match));
+        }
+        for (int match = 0; match < archiveCapacity; match++) {
+            startAndFinishMatch();
+        }
+    }
+
+    @Benchmark
+    public void startAndFinishMatch() throws ScoreboardInputException, ScoreboardConsistencyException {
+        int match = next;
+        next = (next + 1) % BOARD_SIZE;
+        scoreboard.finishMatch(BenchmarkTeams.homeTeam(match), BenchmarkTeams.awayTeam(match));
+        scoreboard.startMatch(BenchmarkTeams.homeTeam(match), BenchmarkTeams.awayTeam(match));
+    }
+
+    @Benchmark
+    public List<FinishedMatch> finishedMatchesOfTeam() throws ScoreboardInputException {
+        return scoreboard.finishedMatches(BenchmarkTeams.homeTeam(next));
+    }
+
+}
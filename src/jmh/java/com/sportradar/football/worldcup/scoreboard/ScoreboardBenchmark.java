@@ -0,0 +1,203 @@
+package com.sportradar.football.worldcup.scoreboard;
+
+import com.sportradar.football.worldcup.scoreboard.exception.ScoreboardConsistencyException;
+import com.sportradar.football.worldcup.scoreboard.exception.ScoreboardInputException;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.infra.BenchmarkParams;
+import org.openjdk.jmh.infra.ThreadParams;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Random;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * <p>Benchmarks of the scoreboard operations on a loaded board.</p>
+ * <br>
+ * <p>Board size, summary mode and read/write mix are benchmark parameters. Thread count is given to the run, for example with {@code gradle jmh -PjmhThreads=4}.
+ * Each benchmark thread writes only to its own slice of the board, so every write is a valid one and no time is spent on rejections,
+ * except for the rejection benchmarks, which resend the recorded score of a match.</p>
+ * <br>
+ * <p>Starting and finishing are measured together as a match turnover, which keeps the board size steady through the run.</p>
+ *
+ * @author Ozan Aksoy
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class ScoreboardBenchmark {
+
+    @State(Scope.Benchmark)
+    public static class Board {
+
+        @Param({"10", "1000", "100000"})
+        int boardSize;
+
+        @Param({"COMPUTED_ON_READ", "PUBLISHED_ON_WRITE"})
+        SummaryMode summaryMode;
+
+        Scoreboard scoreboard;
+
+        @Setup
+        public void setUp(BenchmarkParams params) throws ScoreboardInputException, ScoreboardConsistencyException {
+            if (boardSize < params.getThreads()) {
+                throw new IllegalStateException("Each benchmark thread needs at least one match on the board.");
+            }
+            scoreboard = ScoreboardFactory.builder().summaryMode(summaryMode).build();
+            Random random = new Random(boardSize);
+            for (int match = 0; match < boardSize; match++) {
+                scoreboard.startMatch(BenchmarkTeams.homeTeam(match), BenchmarkTeams.awayTeam(match));
+                int homeScore = random.nextInt(4);
+                int awayScore = random.nextInt(4);
+                if (homeScore + awayScore > 0) {
+                    scoreboard.updateScore(BenchmarkTeams.homeTeam(match), BenchmarkTeams.awayTeam(match), homeScore, awayScore);
+                }
+            }
+        }
+
+    }
+
+    /**
+     * Slice of the board that belongs to a single benchmark thread, and the scores the thread has written to it.
+     */
+    @State(Scope.Thread)
+    public static class Slice {
+
+        private String[] homeTeams;
+
+        private String[] awayTeams;
+
+        private int[] homeScores;
+
+        private int[] awayScores;
+
+        private int next;
+
+        @Setup
+        public void setUp(Board board, ThreadParams thread) {
+            int size = (board.boardSize - thread.getThreadIndex() + thread.getThreadCount() - 1) / thread.getThreadCount();
+            homeTeams = new String[size];
+            awayTeams = new String[size];
+            homeScores = new int[size];
+            awayScores = new int[size];
+            Map<String, Match> running = board.scoreboard.summary().stream().collect(Collectors.toMap(Match::getHomeTeam, Function.identity()));
+            for (int i = 0; i < size; i++) {
+                int match = thread.getThreadIndex() + i * thread.getThreadCount();
+                homeTeams[i] = BenchmarkTeams.homeTeam(match);
+                awayTeams[i] = BenchmarkTeams.awayTeam(match);
+                homeScores[i] = running.get(homeTeams[i]).getHomeScore();
+                awayScores[i] = running.get(homeTeams[i]).getAwayScore();
+            }
+        }
+
+        int nextMatch() {
+            int match = next++;
+            if (next == homeTeams.length) {
+                next = 0;
+            }
+            return match;
+        }
+
+    }
+
+    /**
+     * Share of the writes among the operations of a mixed read/write workload.
+     */
+    @State(Scope.Benchmark)
+    public static class Mix {
+
+        @Param({"1", "10", "50"})
+        int writePercent;
+
+        boolean nextIsWrite() {
+            return ThreadLocalRandom.current().nextInt(100) < writePercent;
+        }
+
+    }
+
+    @Benchmark
+    public List<Match> summary(Board board) {
+        return board.scoreboard.summary();
+    }
+
+    @Benchmark
+    public List<Match> summaryTop10(Board board) throws ScoreboardInputException {
+        return board.scoreboard.summary(10);
+    }
+
+    @Benchmark
+    public Optional<Match> match(Board board, Slice slice) throws ScoreboardInputException {
+        int match = slice.nextMatch();
+        return board.scoreboard.match(slice.homeTeams[match], slice.awayTeams[match]);
+    }
+
+    @Benchmark
+    public void updateScore(Board board, Slice slice) throws ScoreboardInputException, ScoreboardConsistencyException {
+        update(board, slice, slice.nextMatch());
+    }
+
+    @Benchmark
+    public void goal(Board board, Slice slice) throws ScoreboardInputException, ScoreboardConsistencyException {
+        int match = slice.nextMatch();
+        if ((match & 1) == 0) {
+            board.scoreboard.homeGoal(slice.homeTeams[match], slice.awayTeams[match]);
+        } else {
+            board.scoreboard.awayGoal(slice.homeTeams[match], slice.awayTeams[match]);
+        }
+    }
+
+    @Benchmark
+    public Object rejectedUpdateScore(Board board, Slice slice) throws ScoreboardInputException {
+        int match = slice.nextMatch();
+        try {
+            board.scoreboard.updateScore(slice.homeTeams[match], slice.awayTeams[match], slice.homeScores[match], slice.awayScores[match]);
+            return null;
+        } catch (ScoreboardConsistencyException e) {
+            return e;
+        }
+    }
+
+    @Benchmark
+    public ScoreboardOutcome triedRejectedUpdateScore(Board board, Slice slice) {
+        int match = slice.nextMatch();
+        return board.scoreboard.tryUpdateScore(slice.homeTeams[match], slice.awayTeams[match], slice.homeScores[match], slice.awayScores[match]);
+    }
+
+    @Benchmark
+    public void startAndFinishMatch(Board board, Slice slice) throws ScoreboardInputException, ScoreboardConsistencyException {
+        int match = slice.nextMatch();
+        board.scoreboard.finishMatch(slice.homeTeams[match], slice.awayTeams[match]);
+        board.scoreboard.startMatch(slice.homeTeams[match], slice.awayTeams[match]);
+        slice.homeScores[match] = 0;
+        slice.awayScores[match] = 0;
+    }
+
+    @Benchmark
+    public Object readWriteMix(Board board, Slice slice, Mix mix) throws ScoreboardInputException, ScoreboardConsistencyException {
+        if (mix.nextIsWrite()) {
+            update(board, slice, slice.nextMatch());
+            return null;
+        }
+        return board.scoreboard.summary();
+    }
+
+    private void update(Board board, Slice slice, int match) throws ScoreboardInputException, ScoreboardConsistencyException {
+        if ((match & 1) == 0) {
+            slice.homeScores[match]++;
+        } else {
+            slice.awayScores[match]++;
+        }
+        board.scoreboard.updateScore(slice.homeTeams[match], slice.awayTeams[match], slice.homeScores[match], slice.awayScores[match]);
+    }
+
+}
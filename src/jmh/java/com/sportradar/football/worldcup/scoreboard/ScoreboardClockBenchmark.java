@@ -0,0 +1,53 @@
+package com.sportradar.football.worldcup.scoreboard;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.time.Clock;
+import java.time.LocalDateTime;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmark of a start time read by the clock strategy. {@code LEGACY} is the clock that resolved the default zone on every read.
+ *
+ * @author Ozan Aksoy
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@State(Scope.Benchmark)
+public class ScoreboardClockBenchmark {
+
+    @Param({"LEGACY", "SYSTEM", "COARSE", "MONOTONIC"})
+    String clockStrategy;
+
+    ScoreboardClock clock;
+
+    @Setup
+    public void setUp() {
+        Clock system = Clock.systemDefaultZone();
+        clock = switch (clockStrategy) {
+            case "LEGACY" -> new ScoreboardClock() {
+                @Override
+                public LocalDateTime fetchTime() {
+                    return LocalDateTime.now(Clock.systemDefaultZone());
+                }
+            };
+            case "SYSTEM" -> new ScoreboardClock(system);
+            case "COARSE" -> new CoarseScoreboardClock(system);
+            case "MONOTONIC" -> new MonotonicScoreboardClock(system);
+            default -> throw new IllegalArgumentException(clockStrategy);
+        };
+    }
+
+    @Benchmark
+    public LocalDateTime fetchTime() {
+        return clock.fetchTime();
+    }
+
+}
@@ -0,0 +1,67 @@
+package com.sportradar.football.worldcup.scoreboard;
+
+import com.sportradar.football.worldcup.scoreboard.exception.ScoreboardConsistencyException;
+import com.sportradar.football.worldcup.scoreboard.exception.ScoreboardInputException;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmark of the summary deltas against the whole summary, on a board of 1000 matches polled after a single score update.
+ *
+ * @author Ozan Aksoy
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@State(Scope.Benchmark)
+public class ScoreboardDeltaBenchmark {
+
+    private static final int BOARD_SIZE = 1000;
+
+    Scoreboard scoreboard;
+
+    int[] homeScores;
+
+    int next;
+
+    @Setup
+    public void setUp() throws ScoreboardInputException, ScoreboardConsistencyException {
+        scoreboard = ScoreboardFactory.getScoreboard();
+        homeScores = new int[BOARD_SIZE];
+        for (int match = 0; match < BOARD_SIZE; match++) {
+            scoreboard.startMatch(BenchmarkTeams.homeTeam(match), BenchmarkTeams.awayTeam(match));
+        }
+    }
+
+    @Benchmark
+    public List<Match> updateAndSummary() throws ScoreboardInputException, ScoreboardConsistencyException {
+        update();
+        return scoreboard.summary();
+    }
+
+    @Benchmark
+    public ScoreboardDelta updateAndSummarySince() throws ScoreboardInputException, ScoreboardConsistencyException {
+        long version = scoreboard.version();
+        update();
+        return scoreboard.summarySince(version);
+    }
+
+    @Benchmark
+    public ScoreboardDelta unchangedSummarySince() throws ScoreboardInputException {
+        return scoreboard.summarySince(scoreboard.version());
+    }
+
+    private void update() throws ScoreboardInputException, ScoreboardConsistencyException {
+        int match = next;
+        next = (next + 1) % BOARD_SIZE;
+        scoreboard.updateScore(BenchmarkTeams.homeTeam(match), BenchmarkTeams.awayTeam(match), ++homeScores[match], 0);
+    }
+
+}
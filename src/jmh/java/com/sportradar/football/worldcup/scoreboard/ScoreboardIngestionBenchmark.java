@@ -0,0 +1,88 @@
+package com.sportradar.football.worldcup.scoreboard;
+
+import com.sportradar.football.worldcup.scoreboard.exception.ScoreboardConsistencyException;
+import com.sportradar.football.worldcup.scoreboard.exception.ScoreboardInputException;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.infra.ThreadParams;
+
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+
+/**
+ * <p>Benchmark of the sustained score update throughput of direct writes against the writes of an ingestion pipeline.</p>
+ * <br>
+ * <p>Each benchmark thread updates its own match. Pipeline writes are completed by a callback that does nothing, and a full ring makes the producers wait,
+ * so the throughput is the rate the writer thread applies them. Thread count is given to the run, for example with {@code gradle jmh -PjmhThreads=4}.</p>
+ *
+ * @author Ozan Aksoy
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+public class ScoreboardIngestionBenchmark {
+
+    private static final Consumer<ScoreboardOutcome> IGNORED = outcome -> {
+    };
+
+    @State(Scope.Benchmark)
+    public static class Board {
+
+        @Param({"COMPUTED_ON_READ", "PUBLISHED_ON_WRITE"})
+        SummaryMode summaryMode;
+
+        Scoreboard scoreboard;
+
+        ScoreboardIngestion ingestion;
+
+        @Setup
+        public void setUp() {
+            scoreboard = ScoreboardFactory.builder().summaryMode(summaryMode).build();
+            ingestion = ScoreboardFactory.ingestion(scoreboard, 1024);
+        }
+
+        @TearDown
+        public void tearDown() {
+            ingestion.close();
+        }
+
+    }
+
+    /**
+     * Match of a single benchmark thread and its last written score.
+     */
+    @State(Scope.Thread)
+    public static class OwnMatch {
+
+        String homeTeam;
+
+        String awayTeam;
+
+        int homeScore;
+
+        @Setup
+        public void setUp(Board board, ThreadParams thread) throws ScoreboardInputException, ScoreboardConsistencyException {
+            homeTeam = BenchmarkTeams.homeTeam(thread.getThreadIndex());
+            awayTeam = BenchmarkTeams.awayTeam(thread.getThreadIndex());
+            board.scoreboard.startMatch(homeTeam, awayTeam);
+        }
+
+    }
+
+    @Benchmark
+    public void directUpdateScore(Board board, OwnMatch match) throws ScoreboardInputException, ScoreboardConsistencyException {
+        board.scoreboard.updateScore(match.homeTeam, match.awayTeam, ++match.homeScore, 0);
+    }
+
+    @Benchmark
+    public void ingestedUpdateScore(Board board, OwnMatch match) {
+        board.ingestion.updateScore(match.homeTeam, match.awayTeam, ++match.homeScore, 0, IGNORED);
+    }
+
+}
@@ -0,0 +1,85 @@
+package com.sportradar.football.worldcup.scoreboard;
+
+import com.sportradar.football.worldcup.scoreboard.exception.ScoreboardConsistencyException;
+import com.sportradar.football.worldcup.scoreboard.exception.ScoreboardInputException;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.infra.ThreadParams;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Comparator;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+
+/**
+ * <p>Benchmark of the score updates on a scoreboard persisted by a journal.</p>
+ * <br>
+ * <p>Each update waits for its sync to disk, so the throughput shows how well concurrent writers share the syncs. Thread count is given to the run,
+ * for example with {@code gradle jmh -PjmhThreads=4}.</p>
+ *
+ * @author Ozan Aksoy
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+public class ScoreboardJournalBenchmark {
+
+    @State(Scope.Benchmark)
+    public static class JournaledBoard {
+
+        Path directory;
+
+        Scoreboard scoreboard;
+
+        @Setup
+        public void setUp() throws IOException {
+            directory = Files.createTempDirectory("scoreboard-journal");
+            scoreboard = ScoreboardFactory.builder().journal(directory).build();
+        }
+
+        @TearDown
+        public void tearDown() throws IOException {
+            scoreboard.close();
+            try (Stream<Path> files = Files.walk(directory)) {
+                for (Path file : files.sorted(Comparator.reverseOrder()).toList()) {
+                    Files.delete(file);
+                }
+            }
+        }
+
+    }
+
+    /**
+     * Match of a single benchmark thread and its last written score.
+     */
+    @State(Scope.Thread)
+    public static class OwnMatch {
+
+        String homeTeam;
+
+        String awayTeam;
+
+        int homeScore;
+
+        @Setup
+        public void setUp(JournaledBoard board, ThreadParams thread) throws ScoreboardInputException, ScoreboardConsistencyException {
+            homeTeam = BenchmarkTeams.homeTeam(thread.getThreadIndex());
+            awayTeam = BenchmarkTeams.awayTeam(thread.getThreadIndex());
+            board.scoreboard.startMatch(homeTeam, awayTeam);
+        }
+
+    }
+
+    @Benchmark
+    public void journaledUpdateScore(JournaledBoard board, OwnMatch match) throws ScoreboardInputException, ScoreboardConsistencyException {
+        board.scoreboard.updateScore(match.homeTeam, match.awayTeam, ++match.homeScore, 0);
+    }
+
+}
@@ -0,0 +1,59 @@
+package com.sportradar.football.worldcup.scoreboard;
+
+import com.sportradar.football.worldcup.scoreboard.exception.ScoreboardConsistencyException;
+import com.sportradar.football.worldcup.scoreboard.exception.ScoreboardInputException;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmark of the cost of the operation metrics, on a board of 1000 matches with and without metrics.
+ *
+ * @author Ozan Aksoy
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@State(Scope.Benchmark)
+public class ScoreboardMetricsBenchmark {
+
+    private static final int BOARD_SIZE = 1000;
+
+    @Param({"false", "true"})
+    boolean metrics;
+
+    Scoreboard scoreboard;
+
+    int[] homeScores;
+
+    int next;
+
+    @Setup
+    public void setUp() throws ScoreboardInputException, ScoreboardConsistencyException {
+        scoreboard = ScoreboardFactory.builder().metrics(metrics).build();
+        homeScores = new int[BOARD_SIZE];
+        for (int match = 0; match < BOARD_SIZE; match++) {
+            scoreboard.startMatch(BenchmarkTeams.homeTeam(match), BenchmarkTeams.awayTeam(match));
+        }
+    }
+
+    @Benchmark
+    public void updateScore() throws ScoreboardInputException, ScoreboardConsistencyException {
+        int match = next;
+        next = (next + 1) % BOARD_SIZE;
+        scoreboard.updateScore(BenchmarkTeams.homeTeam(match), BenchmarkTeams.awayTeam(match), ++homeScores[match], 0);
+    }
+
+    @Benchmark
+    public List<Match> summaryTop10() throws ScoreboardInputException {
+        return scoreboard.summary(10);
+    }
+
+}
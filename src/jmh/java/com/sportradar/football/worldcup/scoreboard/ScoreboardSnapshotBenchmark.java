@@ -0,0 +1,63 @@
+package com.sportradar.football.worldcup.scoreboard;
+
+import com.sportradar.football.worldcup.scoreboard.exception.ScoreboardConsistencyException;
+import com.sportradar.football.worldcup.scoreboard.exception.ScoreboardInputException;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks of saving a loaded board to a snapshot file and loading a board from it.
+ *
+ * @author Ozan Aksoy
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@State(Scope.Benchmark)
+public class ScoreboardSnapshotBenchmark {
+
+    @Param({"1000", "100000"})
+    int boardSize;
+
+    Scoreboard scoreboard;
+
+    Path file;
+
+    @Setup
+    public void setUp() throws ScoreboardInputException, ScoreboardConsistencyException, IOException {
+        scoreboard = ScoreboardFactory.getScoreboard();
+        for (int match = 0; match < boardSize; match++) {
+            scoreboard.startMatch(BenchmarkTeams.homeTeam(match), BenchmarkTeams.awayTeam(match));
+            scoreboard.updateScore(BenchmarkTeams.homeTeam(match), BenchmarkTeams.awayTeam(match), match % 5, match % 3 + 1);
+        }
+        file = Files.createTempFile("scoreboard", ".snapshot");
+        ScoreboardFactory.saveSnapshot(scoreboard, file);
+    }
+
+    @TearDown
+    public void tearDown() throws IOException {
+        Files.deleteIfExists(file);
+    }
+
+    @Benchmark
+    public void saveSnapshot() throws IOException {
+        ScoreboardFactory.saveSnapshot(scoreboard, file);
+    }
+
+    @Benchmark
+    public Scoreboard loadSnapshot() throws IOException {
+        return ScoreboardFactory.loadSnapshot(file);
+    }
+
+}
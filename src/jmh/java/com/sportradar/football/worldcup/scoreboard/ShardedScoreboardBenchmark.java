@@ -0,0 +1,85 @@
+package com.sportradar.football.worldcup.scoreboard;
+
+import com.sportradar.football.worldcup.scoreboard.exception.ScoreboardConsistencyException;
+import com.sportradar.football.worldcup.scoreboard.exception.ScoreboardInputException;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.infra.ThreadParams;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * <p>Benchmark of the write throughput of a scoreboard by its shard count.</p>
+ * <br>
+ * <p>Each benchmark thread updates the scores of its own matches, so the writers contend only on the shared structures of a cache.
+ * Thread count is given to the run, for example with {@code gradle jmh -PjmhThreads=8}, and should be run up to the core count to see the writes scale.</p>
+ *
+ * @author Ozan Aksoy
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+public class ShardedScoreboardBenchmark {
+
+    /**
+     * Count of the matches of each benchmark thread.
+     */
+    private static final int MATCHES_PER_THREAD = 64;
+
+    @State(Scope.Benchmark)
+    public static class Board {
+
+        @Param({"1", "4", "16"})
+        int shards;
+
+        Scoreboard scoreboard;
+
+        @Setup
+        public void setUp() {
+            scoreboard = ScoreboardFactory.builder().shards(shards).build();
+        }
+
+    }
+
+    /**
+     * Matches of a single benchmark thread and their last written home scores.
+     */
+    @State(Scope.Thread)
+    public static class OwnMatches {
+
+        String[] homeTeams;
+
+        String[] awayTeams;
+
+        int[] homeScores;
+
+        int next;
+
+        @Setup
+        public void setUp(Board board, ThreadParams thread) throws ScoreboardInputException, ScoreboardConsistencyException {
+            homeTeams = new String[MATCHES_PER_THREAD];
+            awayTeams = new String[MATCHES_PER_THREAD];
+            homeScores = new int[MATCHES_PER_THREAD];
+            for (int i = 0; i < MATCHES_PER_THREAD; i++) {
+                int match = thread.getThreadIndex() * MATCHES_PER_THREAD + i;
+                homeTeams[i] = BenchmarkTeams.homeTeam(match);
+                awayTeams[i] = BenchmarkTeams.awayTeam(match);
+                board.scoreboard.startMatch(homeTeams[i], awayTeams[i]);
+            }
+        }
+
+    }
+
+    @Benchmark
+    public void shardedUpdateScore(Board board, OwnMatches matches) throws ScoreboardInputException, ScoreboardConsistencyException {
+        int i = matches.next;
+        matches.next = (i + 1) % MATCHES_PER_THREAD;
+        board.scoreboard.updateScore(matches.homeTeams[i], matches.awayTeams[i], ++matches.homeScores[i], 0);
+    }
+
+}
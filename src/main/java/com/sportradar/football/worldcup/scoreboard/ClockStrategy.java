@@ -0,0 +1,28 @@
+package com.sportradar.football.worldcup.scoreboard;
+
+/**
+ * <p>Strategy of a scoreboard to read the start time of a match from its clock. See {@link ScoreboardFactory.Builder#clockStrategy(ClockStrategy)}.</p>
+ * <br>
+ * <p>The clock itself is given with {@link ScoreboardFactory.Builder#clock(java.time.Clock)}, for example a fixed clock for deterministic tests.
+ * Matches started at the same time are still ordered by their start order.</p>
+ *
+ * @author Ozan Aksoy
+ */
+public enum ClockStrategy {
+
+    /**
+     * Each start reads the clock. This is the default strategy.
+     */
+    SYSTEM,
+
+    /**
+     * The clock is read at most once per millisecond, and the starts within the millisecond share the time read. Suits bulk starts.
+     */
+    COARSE,
+
+    /**
+     * The clock is read once, and the start times advance from it by the monotonic time of the JVM, so a start time is never earlier than a previous one.
+     */
+    MONOTONIC
+
+}
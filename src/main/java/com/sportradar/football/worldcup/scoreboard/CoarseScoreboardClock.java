@@ -0,0 +1,48 @@
+package com.sportradar.football.worldcup.scoreboard;
+
+import java.time.Clock;
+import java.time.LocalDateTime;
+
+/**
+ * Package-private module clock that reads its time source at most once per tick, and answers with the same time within the tick.
+ * A read within the tick costs a {@link System#nanoTime()} call and allocates nothing. See {@link ClockStrategy#COARSE}.
+ *
+ * @author Ozan Aksoy
+ */
+class CoarseScoreboardClock extends ScoreboardClock {
+
+    /**
+     * Length of a tick in nanoseconds.
+     */
+    static final long TICK_NANOS = 1_000_000L;
+
+    /**
+     * Last read of the time source, replaced as a whole so readers never see a time of one tick with the start of another.
+     */
+    private volatile Tick last;
+
+    public CoarseScoreboardClock(Clock clock) {
+        super(clock);
+    }
+
+    @Override
+    public LocalDateTime fetchTime() {
+        long now = System.nanoTime();
+        Tick tick = last;
+        if (tick == null || now - tick.readAt() >= TICK_NANOS) {
+            tick = new Tick(now, super.fetchTime());
+            last = tick;
+        }
+        return tick.time();
+    }
+
+    /**
+     * A read of the time source.
+     *
+     * @param readAt {@link System#nanoTime()} of the read
+     * @param time   Time read
+     */
+    private record Tick(long readAt, LocalDateTime time) {
+    }
+
+}
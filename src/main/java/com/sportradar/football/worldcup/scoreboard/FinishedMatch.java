@@ -0,0 +1,13 @@
+package com.sportradar.football.worldcup.scoreboard;
+
+import java.time.LocalDateTime;
+
+/**
+ * Finished match of the archive of a scoreboard, see {@link ScoreboardFactory.Builder#archive(int)}.
+ *
+ * @param match      Final state of the match
+ * @param finishTime Time the match was finished, read from the clock of the scoreboard.
+ * @author Ozan Aksoy
+ */
+public record FinishedMatch(Match match, LocalDateTime finishTime) {
+}
@@ -0,0 +1,93 @@
+package com.sportradar.football.worldcup.scoreboard;
+
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * <p>Package-private concurrent latency histogram with log-linear buckets, in the style of an HDR histogram.</p>
+ * <br>
+ * <p>Values below {@link LatencyHistogram#SUB_BUCKETS} have a bucket each. Every power of two above is split into {@link LatencyHistogram#SUB_BUCKETS} buckets,
+ * so a value is reported within 1/32 of its size over the whole range of a long, in a fixed array of counters.
+ * Recording a value is a few atomic increments and never allocates.</p>
+ *
+ * @author Ozan Aksoy
+ */
+final class LatencyHistogram {
+
+    private static final int SUB_BUCKET_BITS = 5;
+
+    private static final int SUB_BUCKETS = 1 << SUB_BUCKET_BITS;
+
+    private final AtomicLongArray counts = new AtomicLongArray((Long.SIZE - SUB_BUCKET_BITS + 1) * SUB_BUCKETS);
+
+    private final LongAdder total = new LongAdder();
+
+    private final LongAccumulator max = new LongAccumulator(Math::max, 0L);
+
+    /**
+     * Records a value. A negative value is recorded as zero.
+     *
+     * @param value Latency in nanoseconds
+     */
+    void record(long value) {
+        long recorded = Math.max(value, 0L);
+        counts.incrementAndGet(indexOf(recorded));
+        total.add(recorded);
+        max.accumulate(recorded);
+    }
+
+    /**
+     * Copies the counters to an immutable summary. Values recorded during the copy may or may not be in the summary.
+     *
+     * @return Latency summary
+     */
+    ScoreboardMetrics.Latency snapshot() {
+        long[] copy = new long[counts.length()];
+        long count = 0L;
+        for (int index = 0; index < copy.length; index++) {
+            copy[index] = counts.get(index);
+            count += copy[index];
+        }
+        long highest = max.get();
+        return new ScoreboardMetrics.Latency(count, count == 0L ? 0L : total.sum() / count,
+                percentile(copy, count, 0.5, highest), percentile(copy, count, 0.9, highest),
+                percentile(copy, count, 0.99, highest), percentile(copy, count, 0.999, highest), highest);
+    }
+
+    /**
+     * Returns the highest value of the bucket that holds the given percentile, capped by the highest recorded value.
+     */
+    private static long percentile(long[] copy, long count, double percentile, long highest) {
+        if (count == 0L) {
+            return 0L;
+        }
+        long rank = Math.max(1L, (long) Math.ceil(percentile * count));
+        long seen = 0L;
+        for (int index = 0; index < copy.length; index++) {
+            seen += copy[index];
+            if (seen >= rank) {
+                return Math.min(highestValueOf(index), highest);
+            }
+        }
+        return highest;
+    }
+
+    static int indexOf(long value) {
+        if (value < SUB_BUCKETS) {
+            return (int) value;
+        }
+        int shift = Long.SIZE - 1 - Long.numberOfLeadingZeros(value) - SUB_BUCKET_BITS;
+        return (shift + 1) * SUB_BUCKETS + (int) ((value >>> shift) - SUB_BUCKETS);
+    }
+
+    static long highestValueOf(int index) {
+        if (index < SUB_BUCKETS) {
+            return index;
+        }
+        int shift = index / SUB_BUCKETS - 1;
+        long lowest = (long) (SUB_BUCKETS + index % SUB_BUCKETS) << shift;
+        return lowest + (1L << shift) - 1L;
+    }
+
+}
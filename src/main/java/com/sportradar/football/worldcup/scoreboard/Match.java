@@ -2,84 +2,41 @@ package com.sportradar.football.worldcup.scoreboard;
 
 import java.io.Serializable;
 import java.time.LocalDateTime;
-import java.util.Objects;
 
 /**
- * Scoreboard aggregate match data representative entity.
+ * <p>Scoreboard aggregate match data representative entity.</p>
+ * <br>
+ * <p>Match is an immutable value, thus the same instance is safely shared by every summary that holds it, without a copy.</p>
  *
+ * @param homeTeam  Home team name
+ * @param awayTeam  Away team name
+ * @param matchTime Start time of the match
+ * @param homeScore Home team score point
+ * @param awayScore Away team score point
  * @author Ozan Aksoy
  */
-public final class Match implements Serializable {
-
-    private String homeTeam;
-
-    private String awayTeam;
-
-    private LocalDateTime matchTime;
-
-    private Integer homeScore;
-
-    private Integer awayScore;
-
-    public Match() {
-    }
+public record Match(String homeTeam, String awayTeam, LocalDateTime matchTime, int homeScore, int awayScore) implements Serializable {
 
     public String getHomeTeam() {
         return homeTeam;
     }
 
-    public void setHomeTeam(String homeTeam) {
-        this.homeTeam = homeTeam;
-    }
-
     public String getAwayTeam() {
         return awayTeam;
     }
 
-    public void setAwayTeam(String awayTeam) {
-        this.awayTeam = awayTeam;
-    }
-
     public LocalDateTime getMatchTime() {
         return matchTime;
     }
 
-    public void setMatchTime(LocalDateTime matchTime) {
-        this.matchTime = matchTime;
-    }
-
-    public Integer getHomeScore() {
+    public int getHomeScore() {
         return homeScore;
     }
 
-    public void setHomeScore(Integer homeScore) {
-        this.homeScore = homeScore;
-    }
-
-    public Integer getAwayScore() {
+    public int getAwayScore() {
         return awayScore;
     }
 
-    public void setAwayScore(Integer awayScore) {
-        this.awayScore = awayScore;
-    }
-
-    @Override
-    public boolean equals(Object o) {
-        if (this == o) return true;
-        if (!(o instanceof Match match)) return false;
-        return Objects.equals(homeTeam, match.homeTeam)
-                && Objects.equals(awayTeam, match.awayTeam)
-                && Objects.equals(matchTime, match.matchTime)
-                && Objects.equals(homeScore, match.homeScore)
-                && Objects.equals(awayScore, match.awayScore);
-    }
-
-    @Override
-    public int hashCode() {
-        return Objects.hash(homeTeam, awayTeam, matchTime, homeScore, awayScore);
-    }
-
     @Override
     public String toString() {
         return "Match{" +
@@ -0,0 +1,280 @@
+package com.sportradar.football.worldcup.scoreboard;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * <p>Package encapsulated bounded archive of the finished matches, kept apart from the live board so the records of the running matches do not grow.</p>
+ * <br>
+ * <p>Finished matches are kept in a ring of primitive columns, one entry per finish in the order of the finishes:</p>
+ * <ol>
+ * <li>Teams as ids of the team table of the archive, and scores as ints.</li>
+ * <li>Start and finish times as nanoseconds since the epoch, read as UTC as the snapshot does.</li>
+ * <li>For each team of an entry, the archive sequence of the previous entry of the same team, which chains the entries of a team from its latest one.</li>
+ * </ol>
+ * <p>The oldest entry is evicted when the ring is full, or when it finished longer than the retention window before the latest finish.
+ * The team table holds only the teams of the entries kept: a team is dropped when its last entry is evicted, and its id is reused by a later team,
+ * so the archive stays bounded however many teams have finished a match.
+ * Finish times never decrease along the ring, a clock that steps back is read as the previous finish time, thus a finish time range is found by a binary search.
+ * Entries are written and read within the monitor of the archive. Finishes are rare next to the score updates, which never touch the archive.</p>
+ *
+ * @author Ozan Aksoy
+ */
+final class MatchArchive {
+
+    /**
+     * Archive sequence answered for a team without a previous entry.
+     */
+    private static final long NO_ENTRY = -1L;
+
+    private final int capacity;
+
+    private final long retentionNanos;
+
+    private final ScoreboardClock clock;
+
+    /**
+     * Team ids of the teams of the entries kept, by team name.
+     */
+    private final Map<String, Integer> teamIds = new HashMap<>();
+
+    /**
+     * Team names by team id, null for a free id.
+     */
+    private String[] teamNames = new String[64];
+
+    /**
+     * Count of the entries kept of each team, by team id. A team is dropped when its count falls to zero.
+     */
+    private int[] entriesOfTeam = new int[64];
+
+    /**
+     * Team ids freed by the dropped teams, reused before a new id is taken.
+     */
+    private int[] freeTeamIds = new int[64];
+
+    private int freeTeamCount;
+
+    /**
+     * Count of the team ids taken, either in use or free.
+     */
+    private int teamIdCount;
+
+    private final int[] homeTeamIds;
+
+    private final int[] awayTeamIds;
+
+    private final int[] homeScores;
+
+    private final int[] awayScores;
+
+    private final long[] startTimes;
+
+    private final long[] finishTimes;
+
+    private final long[] previousOfHomeTeam;
+
+    private final long[] previousOfAwayTeam;
+
+    /**
+     * Archive sequence of the latest entry of each team, by team id.
+     */
+    private long[] latestOfTeam = new long[64];
+
+    /**
+     * Archive sequence of the oldest entry kept.
+     */
+    private long oldest;
+
+    /**
+     * Archive sequence of the next entry.
+     */
+    private long next;
+
+    /**
+     * Bounded archive of the finished matches.
+     *
+     * @param capacity  Maximum count of the entries kept
+     * @param retention Maximum time an entry is kept after the latest finish, null to keep the entries until the ring is full.
+     * @param clock     Clock of the finish times
+     */
+    MatchArchive(int capacity, Duration retention, ScoreboardClock clock) {
+        this.capacity = capacity;
+        this.retentionNanos = retention == null || retention.compareTo(Duration.ofNanos(Long.MAX_VALUE)) >= 0 ? Long.MAX_VALUE : retention.toNanos();
+        this.clock = clock;
+        this.homeTeamIds = new int[capacity];
+        this.awayTeamIds = new int[capacity];
+        this.homeScores = new int[capacity];
+        this.awayScores = new int[capacity];
+        this.startTimes = new long[capacity];
+        this.finishTimes = new long[capacity];
+        this.previousOfHomeTeam = new long[capacity];
+        this.previousOfAwayTeam = new long[capacity];
+        Arrays.fill(latestOfTeam, NO_ENTRY);
+    }
+
+    /**
+     * Archives a finished match with the current time of the clock as its finish time, evicting the entries out of the capacity or the retention window.
+     *
+     * @param match Final state of the finished match
+     */
+    synchronized void add(Match match) {
+        long finishTime = MatchDetails.epochNanosOf(clock.fetchTime());
+        if (next > oldest) {
+            finishTime = Math.max(finishTime, finishTimes[slot(next - 1)]);
+        }
+        if (next - oldest == capacity) {
+            evictOldest();
+        }
+        while (oldest < next && finishTime - finishTimes[slot(oldest)] > retentionNanos) {
+            evictOldest();
+        }
+        int homeTeamId = teamIdOf(match.getHomeTeam());
+        int awayTeamId = teamIdOf(match.getAwayTeam());
+        entriesOfTeam[homeTeamId]++;
+        entriesOfTeam[awayTeamId]++;
+        int slot = slot(next);
+        homeTeamIds[slot] = homeTeamId;
+        awayTeamIds[slot] = awayTeamId;
+        homeScores[slot] = match.getHomeScore();
+        awayScores[slot] = match.getAwayScore();
+        startTimes[slot] = MatchDetails.epochNanosOf(match.getMatchTime());
+        finishTimes[slot] = finishTime;
+        previousOfHomeTeam[slot] = latestOfTeam[homeTeamId];
+        previousOfAwayTeam[slot] = latestOfTeam[awayTeamId];
+        latestOfTeam[homeTeamId] = next;
+        latestOfTeam[awayTeamId] = next;
+        next++;
+    }
+
+    /**
+     * Returns the archived matches of a team, walking only the entries of the team.
+     *
+     * @param team Team name, either the home or the away team of the matches.
+     * @return Finished matches of the team, latest finish first.
+     */
+    synchronized List<FinishedMatch> byTeam(String team) {
+        Integer id = teamIds.get(team);
+        if (id == null) {
+            return List.of();
+        }
+        int teamId = id;
+        List<FinishedMatch> matches = new ArrayList<>();
+        long sequence = latestOfTeam[teamId];
+        while (sequence >= oldest) {
+            int slot = slot(sequence);
+            matches.add(entry(slot));
+            sequence = homeTeamIds[slot] == teamId ? previousOfHomeTeam[slot] : previousOfAwayTeam[slot];
+        }
+        return matches;
+    }
+
+    /**
+     * Returns the archived matches finished within a time range, found by a binary search of the finish times.
+     *
+     * @param from Start of the range, inclusive.
+     * @param to   End of the range, exclusive.
+     * @return Finished matches of the range, earliest finish first.
+     */
+    synchronized List<FinishedMatch> finishedBetween(LocalDateTime from, LocalDateTime to) {
+        long fromNanos = MatchDetails.epochNanosOf(from);
+        long toNanos = MatchDetails.epochNanosOf(to);
+        List<FinishedMatch> matches = new ArrayList<>();
+        for (long sequence = firstFinishedAt(fromNanos); sequence < next && finishTimes[slot(sequence)] < toNanos; sequence++) {
+            matches.add(entry(slot(sequence)));
+        }
+        return matches;
+    }
+
+    /**
+     * Returns the count of the archived matches.
+     *
+     * @return Count of the entries kept
+     */
+    synchronized int size() {
+        return (int) (next - oldest);
+    }
+
+    /**
+     * Returns the count of the teams of the archived matches.
+     *
+     * @return Count of the entries of the team table
+     */
+    synchronized int teamCount() {
+        return teamIds.size();
+    }
+
+    /**
+     * Evicts the oldest entry, and drops its teams if it is their last entry.
+     */
+    private void evictOldest() {
+        int slot = slot(oldest);
+        release(homeTeamIds[slot]);
+        release(awayTeamIds[slot]);
+        oldest++;
+    }
+
+    private void release(int teamId) {
+        if (--entriesOfTeam[teamId] == 0) {
+            teamIds.remove(teamNames[teamId]);
+            teamNames[teamId] = null;
+            latestOfTeam[teamId] = NO_ENTRY;
+            freeTeamIds[freeTeamCount++] = teamId;
+        }
+    }
+
+    /**
+     * Returns the id of a team, taking a free id, or a new one, if the team has no entry kept.
+     */
+    private int teamIdOf(String team) {
+        Integer id = teamIds.get(team);
+        if (id != null) {
+            return id;
+        }
+        int teamId = freeTeamCount > 0 ? freeTeamIds[--freeTeamCount] : teamIdCount++;
+        if (teamId == teamNames.length) {
+            int length = teamNames.length;
+            teamNames = Arrays.copyOf(teamNames, 2 * length);
+            entriesOfTeam = Arrays.copyOf(entriesOfTeam, 2 * length);
+            freeTeamIds = Arrays.copyOf(freeTeamIds, 2 * length);
+            latestOfTeam = Arrays.copyOf(latestOfTeam, 2 * length);
+            Arrays.fill(latestOfTeam, length, 2 * length, NO_ENTRY);
+        }
+        teamNames[teamId] = team;
+        teamIds.put(team, teamId);
+        return teamId;
+    }
+
+    /**
+     * Archive sequence of the first entry finished at or after a time, or the next archive sequence if there is none.
+     */
+    private long firstFinishedAt(long finishTime) {
+        long low = oldest;
+        long high = next;
+        while (low < high) {
+            long middle = (low + high) >>> 1;
+            if (finishTimes[slot(middle)] < finishTime) {
+                low = middle + 1;
+            } else {
+                high = middle;
+            }
+        }
+        return low;
+    }
+
+    private FinishedMatch entry(int slot) {
+        Match match = new Match(teamNames[homeTeamIds[slot]], teamNames[awayTeamIds[slot]], MatchDetails.timeOf(startTimes[slot]), homeScores[slot], awayScores[slot]);
+        return new FinishedMatch(match, MatchDetails.timeOf(finishTimes[slot]));
+    }
+
+    private int slot(long sequence) {
+        return (int) (sequence % capacity);
+    }
+
+
+}
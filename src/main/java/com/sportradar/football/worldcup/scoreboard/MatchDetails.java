@@ -2,68 +2,200 @@ package com.sportradar.football.worldcup.scoreboard;
 
 import java.io.Serializable;
 import java.time.LocalDateTime;
+import java.time.ZoneOffset;
 import java.util.Objects;
 
 /**
- * <p>Package encapsulated data entity to store scoreboard match details in correlation to {@link MatchTeamPair}.</p>
+ * <p>Package encapsulated data entity to store scoreboard match details of a {@link MatchTeamPair}.</p>
  * <br>
- * <p>Match details mainly carries {@link MatchDetails#startTime} that signals initial match start time. Score details are also stored in this entity.</p>
+ * <p>Match details mainly carries {@link MatchDetails#startTime} that signals initial match start time, and {@link MatchDetails#startSequence} that signals the order in which the match was started on the scoreboard. Score details are also stored in this entity.</p>
+ * <br>
+ * <p>Teams and start of the match never change once the record is created. Score is held as a single packed primitive, so a running match record is updated in place and read without tearing the home and away scores apart.
+ * Start time is held as a primitive of nanoseconds since the epoch, as {@link MatchArchive} holds it, so a record does not keep a date and a time object alive for the whole match.</p>
  *
  * @author Ozan Aksoy
  */
 class MatchDetails implements Serializable {
 
-    private LocalDateTime startTime;
+    /**
+     * Event sequence of an update that is not sequenced, and of a record that has not applied a sequenced update yet.
+     */
+    public static final long NO_EVENT = Long.MIN_VALUE;
+
+    private final MatchTeamPair teamPair;
+
+    /**
+     * Primitive key of the match that combines the team ids of the {@link MatchDetails#teamPair}. See {@link TeamRegistry#matchKey(int, int)}.
+     */
+    private final long matchKey;
+
+    /**
+     * Start time of the match in nanoseconds since the epoch, read as UTC. See {@link MatchDetails#epochNanosOf(LocalDateTime)}.
+     */
+    private final long startTime;
+
+    private final long startSequence;
+
+    /**
+     * Home score in the high 32 bits, away score in the low 32 bits. See {@link MatchDetails#packScore(int, int)}.
+     */
+    private volatile long score;
 
-    private MatchScore score;
+    /**
+     * Signals that the match has been removed from the scoreboard. Guarded by the monitor of the record.
+     */
+    private transient boolean finished;
 
     /**
-     * Scoreboard match details in correlation to {@link MatchTeamPair}.
+     * Current entry of the record in the ranked index of the cache. Changed within the monitor of the record, and read without it by the snapshot of the cache.
      */
-    public MatchDetails() {
+    private transient volatile MatchRank rank;
+
+    /**
+     * Event sequence of the last sequenced update applied to the record. Only increased, within the monitor of the record,
+     * so an update found stale without the monitor stays stale. Kept in memory only, thus a restored record starts without one.
+     */
+    private transient volatile long eventSequence = NO_EVENT;
+
+    /**
+     * Scoreboard match details of a {@link MatchTeamPair}.
+     *
+     * @param teamPair      Two teams of the match
+     * @param matchKey      Primitive key of the match
+     * @param startTime     Start time of the match in nanoseconds since the epoch
+     * @param startSequence Start order of the match
+     * @param score         Packed score of the match
+     */
+    public MatchDetails(MatchTeamPair teamPair, long matchKey, long startTime, long startSequence, long score) {
+        this.teamPair = teamPair;
+        this.matchKey = matchKey;
+        this.startTime = startTime;
+        this.startSequence = startSequence;
+        this.score = score;
     }
 
     /**
-     * Deep copy enabling cloning constructor.
+     * Packs a pair of scores into a single primitive.
      *
-     * @param details Match details to be cloned.
+     * @param homeScore Home team score point
+     * @param awayScore Away team score point
+     * @return Packed score
      */
-    public MatchDetails(MatchDetails details) {
-        this.startTime = details.getStartTime();
-        this.score = new MatchScore(details.getScore());
+    public static long packScore(int homeScore, int awayScore) {
+        return ((long) homeScore << 32) | (awayScore & 0xFFFFFFFFL);
+    }
+
+    /**
+     * Encodes a time as nanoseconds since the epoch, read as UTC as the snapshot does. A time outside the years 1677 to 2262, which a query range
+     * such as {@link LocalDateTime#MIN} may reach, is saturated to the lowest or the highest encoding.
+     *
+     * @param time Local date time
+     * @return Nanoseconds since the epoch
+     */
+    static long epochNanosOf(LocalDateTime time) {
+        long seconds = time.toEpochSecond(ZoneOffset.UTC);
+        if (seconds >= Long.MAX_VALUE / 1_000_000_000L) {
+            return Long.MAX_VALUE;
+        }
+        if (seconds < Long.MIN_VALUE / 1_000_000_000L) {
+            return Long.MIN_VALUE;
+        }
+        return seconds * 1_000_000_000L + time.getNano();
+    }
+
+    static LocalDateTime timeOf(long epochNanos) {
+        return LocalDateTime.ofEpochSecond(Math.floorDiv(epochNanos, 1_000_000_000L), (int) Math.floorMod(epochNanos, 1_000_000_000L), ZoneOffset.UTC);
+    }
+
+    public static int homeScoreOf(long packedScore) {
+        return (int) (packedScore >>> 32);
+    }
+
+    public static int awayScoreOf(long packedScore) {
+        return (int) packedScore;
+    }
+
+    public static int totalScoreOf(long packedScore) {
+        return homeScoreOf(packedScore) + awayScoreOf(packedScore);
+    }
+
+    public MatchTeamPair getTeamPair() {
+        return teamPair;
+    }
+
+    public long getMatchKey() {
+        return matchKey;
     }
 
+    /**
+     * Decodes the start time of the match. Ranked entries take it from the match of the previous entry instead, see {@link MatchRank#of(MatchDetails, long, long)}.
+     *
+     * @return Start time of the match
+     */
     public LocalDateTime getStartTime() {
-        return startTime;
+        return timeOf(startTime);
     }
 
-    public void setStartTime(LocalDateTime startTime) {
-        this.startTime = startTime;
+    public long getStartSequence() {
+        return startSequence;
     }
 
-    public MatchScore getScore() {
+    public long getPackedScore() {
         return score;
     }
 
-    public void setScore(MatchScore score) {
+    public void setPackedScore(long score) {
         this.score = score;
     }
 
+    public MatchScore getScore() {
+        long packedScore = this.score;
+        return new MatchScore(homeScoreOf(packedScore), awayScoreOf(packedScore));
+    }
+
+    boolean isFinished() {
+        return finished;
+    }
+
+    void setFinished(boolean finished) {
+        this.finished = finished;
+    }
+
+    long getEventSequence() {
+        return eventSequence;
+    }
+
+    void setEventSequence(long eventSequence) {
+        this.eventSequence = eventSequence;
+    }
+
+    MatchRank getRank() {
+        return rank;
+    }
+
+    void setRank(MatchRank rank) {
+        this.rank = rank;
+    }
+
     @Override
     public boolean equals(Object o) {
         if (this == o) return true;
         if (!(o instanceof MatchDetails details)) return false;
-        return Objects.equals(startTime, details.startTime) && Objects.equals(score, details.score);
+        return matchKey == details.matchKey
+                && startSequence == details.startSequence
+                && score == details.score
+                && Objects.equals(teamPair, details.teamPair)
+                && startTime == details.startTime;
     }
 
     @Override
     public int hashCode() {
-        return Objects.hash(startTime, score);
+        return Objects.hash(teamPair, matchKey, startTime, startSequence, score);
     }
 
     @Override
     public String toString() {
-        return "Details{" + "matchTime=" + startTime + ", score=" + score + '}';
+        return "Details{" + "teamPair=" + teamPair + ", matchTime=" + getStartTime() + ", startSequence=" + startSequence + ", score=" + getScore() + '}';
     }
 
 }
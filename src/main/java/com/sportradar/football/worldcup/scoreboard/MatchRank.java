@@ -0,0 +1,38 @@
+package com.sportradar.football.worldcup.scoreboard;
+
+import java.time.LocalDateTime;
+
+/**
+ * Package encapsulated immutable entry of the ranked index of {@link ScoreboardCache}.
+ * A running match record is updated in place, thus the index holds the match as it was ranked, and a new entry replaces it on every score change.
+ * The ranked match is an immutable value, so a summary hands it out as it is.
+ * The ranking keys are copied to primitive components, so comparing two entries does not reach into other objects.
+ *
+ * @param match         Match as it was ranked
+ * @param details       Ranked match record
+ * @param totalScore    Total score of the ranked match
+ * @param startSequence Start order of the match
+ * @param version       Board version of the write that ranked the match, see {@link ScoreboardStore#version()}.
+ * @author Ozan Aksoy
+ */
+record MatchRank(Match match, MatchDetails details, int totalScore, long startSequence, long version) {
+
+    /**
+     * Creates the entry of a record ranked with the given score. The start time is taken from the match of the current entry of the record,
+     * so it is decoded from the record only when the record is first ranked.
+     *
+     * @param details Match record
+     * @param score   Packed score the record is ranked with. See {@link MatchDetails#packScore(int, int)}.
+     * @param version Board version of the write that ranks the record
+     * @return Ranked index entry
+     */
+    static MatchRank of(MatchDetails details, long score, long version) {
+        MatchTeamPair teamPair = details.getTeamPair();
+        MatchRank current = details.getRank();
+        LocalDateTime startTime = current == null ? details.getStartTime() : current.match().getMatchTime();
+        Match match = new Match(teamPair.homeTeam(), teamPair.awayTeam(), startTime,
+                MatchDetails.homeScoreOf(score), MatchDetails.awayScoreOf(score));
+        return new MatchRank(match, details, MatchDetails.totalScoreOf(score), details.getStartSequence(), version);
+    }
+
+}
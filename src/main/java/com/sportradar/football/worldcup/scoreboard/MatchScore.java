@@ -1,63 +1,24 @@
 package com.sportradar.football.worldcup.scoreboard;
 
 import java.io.Serializable;
-import java.util.Objects;
 
 /**
  * Granular score pair storing representative entity.
  *
+ * @param homeScore Home team score point
+ * @param awayScore Away team score point
  * @author Ozan Aksoy
  */
-class MatchScore implements Serializable {
+record MatchScore(int homeScore, int awayScore) implements Serializable {
 
-    private Integer homeScore;
-
-    private Integer awayScore;
-
-    /**
-     * Score data of the Match
-     */
-    public MatchScore() {
-    }
-
-    /**
-     * Deep copy enabling cloning constructor.
-     *
-     * @param score Match score.
-     */
-    public MatchScore(MatchScore score) {
-        this.homeScore = score.getHomeScore();
-        this.awayScore = score.getAwayScore();
-    }
-
-    public Integer getHomeScore() {
+    public int getHomeScore() {
         return homeScore;
     }
 
-    public void setHomeScore(Integer homeScore) {
-        this.homeScore = homeScore;
-    }
-
-    public Integer getAwayScore() {
+    public int getAwayScore() {
         return awayScore;
     }
 
-    public void setAwayScore(Integer awayScore) {
-        this.awayScore = awayScore;
-    }
-
-    @Override
-    public boolean equals(Object o) {
-        if (this == o) return true;
-        if (!(o instanceof MatchScore score)) return false;
-        return Objects.equals(homeScore, score.homeScore) && Objects.equals(awayScore, score.awayScore);
-    }
-
-    @Override
-    public int hashCode() {
-        return Objects.hash(homeScore, awayScore);
-    }
-
     @Override
     public String toString() {
         return "Score{" +
@@ -0,0 +1,153 @@
+package com.sportradar.football.worldcup.scoreboard;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+/**
+ * <p>Package-private hash table of the running match records keyed on their primitive match key, see {@link TeamRegistry#matchKey(int, int)}.</p>
+ * <br>
+ * <p>Lookups are lock-free and do not box the key. Writes must be made holding the monitor of the table.
+ * Records are kept in an open addressing array with linear probing, and a removed record leaves a marker behind until the array is rebuilt.</p>
+ *
+ * @author Ozan Aksoy
+ */
+class MatchTable {
+
+    private static final int MINIMUM_CAPACITY = 64;
+
+    /**
+     * Marker of a slot that held a removed record. Probing continues past it.
+     */
+    private static final MatchDetails REMOVED = new MatchDetails(null, 0L, 0L, 0L, 0L);
+
+    private volatile AtomicReferenceArray<MatchDetails> slots;
+
+    /**
+     * Count of the records in the table. Written holding the monitor of the table, and readable without it.
+     */
+    private volatile int size;
+
+    /**
+     * Count of the slots that hold a record or a removed marker.
+     */
+    private int used;
+
+    public MatchTable() {
+        this.slots = new AtomicReferenceArray<>(MINIMUM_CAPACITY);
+    }
+
+    /**
+     * Returns the record of a match key.
+     *
+     * @param matchKey Match key
+     * @return Match record, null if there is none.
+     */
+    public MatchDetails get(long matchKey) {
+        AtomicReferenceArray<MatchDetails> table = slots;
+        int mask = table.length() - 1;
+        for (int slot = spread(matchKey) & mask; ; slot = (slot + 1) & mask) {
+            MatchDetails details = table.get(slot);
+            if (details == null) {
+                return null;
+            }
+            if (details != REMOVED && details.getMatchKey() == matchKey) {
+                return details;
+            }
+        }
+    }
+
+    /**
+     * Adds a record that is not in the table yet. Must be called holding the monitor of the table.
+     *
+     * @param details Match record
+     */
+    public void insert(MatchDetails details) {
+        if ((used + 1) * 2 > slots.length()) {
+            rebuild();
+        }
+        AtomicReferenceArray<MatchDetails> table = slots;
+        int mask = table.length() - 1;
+        int slot = spread(details.getMatchKey()) & mask;
+        while (table.get(slot) != null && table.get(slot) != REMOVED) {
+            slot = (slot + 1) & mask;
+        }
+        if (table.get(slot) == null) {
+            used++;
+        }
+        table.set(slot, details);
+        size++;
+    }
+
+    /**
+     * Removes the record of a match key. Must be called holding the monitor of the table.
+     *
+     * @param matchKey Match key
+     */
+    public void remove(long matchKey) {
+        AtomicReferenceArray<MatchDetails> table = slots;
+        int mask = table.length() - 1;
+        for (int slot = spread(matchKey) & mask; table.get(slot) != null; slot = (slot + 1) & mask) {
+            MatchDetails details = table.get(slot);
+            if (details != REMOVED && details.getMatchKey() == matchKey) {
+                table.set(slot, REMOVED);
+                size--;
+                return;
+            }
+        }
+    }
+
+    /**
+     * Returns the count of the records in the table, read without the monitor of the table.
+     *
+     * @return Count of the records
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Returns the records of the table at the time of the call.
+     *
+     * @return Match records
+     */
+    public List<MatchDetails> values() {
+        AtomicReferenceArray<MatchDetails> table = slots;
+        List<MatchDetails> values = new ArrayList<>();
+        for (int slot = 0; slot < table.length(); slot++) {
+            MatchDetails details = table.get(slot);
+            if (details != null && details != REMOVED) {
+                values.add(details);
+            }
+        }
+        return values;
+    }
+
+    /**
+     * Copies the records into a new array sized for the current record count, which also drops the removed markers.
+     * Readers that still hold the previous array find the records as they were before the rebuild.
+     */
+    private void rebuild() {
+        int capacity = MINIMUM_CAPACITY;
+        while (capacity < (size + 1) * 4) {
+            capacity <<= 1;
+        }
+        AtomicReferenceArray<MatchDetails> rebuilt = new AtomicReferenceArray<>(capacity);
+        int mask = capacity - 1;
+        for (MatchDetails details : values()) {
+            int slot = spread(details.getMatchKey()) & mask;
+            while (rebuilt.get(slot) != null) {
+                slot = (slot + 1) & mask;
+            }
+            rebuilt.set(slot, details);
+        }
+        slots = rebuilt;
+        used = size;
+    }
+
+    private static int spread(long matchKey) {
+        long hash = matchKey * 0x9E3779B97F4A7C15L;
+        return (int) (hash ^ (hash >>> 32));
+    }
+
+}
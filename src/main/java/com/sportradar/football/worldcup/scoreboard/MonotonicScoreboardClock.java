@@ -0,0 +1,39 @@
+package com.sportradar.football.worldcup.scoreboard;
+
+import java.time.Clock;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+
+/**
+ * Package-private module clock that reads its time source once, and advances from it by {@link System#nanoTime()}, so the time never goes backwards.
+ * The zone offset at creation is kept, so the time does not jump at a daylight saving change or a system clock adjustment. See {@link ClockStrategy#MONOTONIC}.
+ *
+ * @author Ozan Aksoy
+ */
+class MonotonicScoreboardClock extends ScoreboardClock {
+
+    private final long originEpochSecond;
+
+    private final long originNano;
+
+    private final long originNanoTime;
+
+    private final ZoneOffset offset;
+
+    public MonotonicScoreboardClock(Clock clock) {
+        super(clock);
+        this.originNanoTime = System.nanoTime();
+        Instant origin = clock.instant();
+        this.originEpochSecond = origin.getEpochSecond();
+        this.originNano = origin.getNano();
+        this.offset = clock.getZone().getRules().getOffset(origin);
+    }
+
+    @Override
+    public LocalDateTime fetchTime() {
+        long nanos = originNano + (System.nanoTime() - originNanoTime);
+        return LocalDateTime.ofEpochSecond(originEpochSecond + Math.floorDiv(nanos, 1_000_000_000L), (int) Math.floorMod(nanos, 1_000_000_000L), offset);
+    }
+
+}
@@ -0,0 +1,37 @@
+package com.sportradar.football.worldcup.scoreboard;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Package encapsulated consistent read of a ranked index with the finished matches that are still remembered, at a board version.
+ * Every write up to the version is reflected by the read. A later write may be reflected as well, in which case it is answered again by the next delta.
+ *
+ * @param version  Board version the read is current to
+ * @param ranked   Ranked index entries in summary order
+ * @param finished Matches finished since the version the read was made for
+ * @param complete If every match finished since the version the read was made for is remembered
+ * @author Ozan Aksoy
+ */
+record RankedChanges(long version, List<MatchRank> ranked, List<Match> finished, boolean complete) {
+
+    /**
+     * Builds the delta of the summary since a board version. Only the entries ranked after the version are copied to the delta.
+     * If the finished matches since the version are not all remembered, or nothing is known since the version, then the delta is full.
+     *
+     * @param since Board version of the summary of the caller
+     * @return Delta of the summary
+     */
+    ScoreboardDelta delta(long since) {
+        boolean full = !complete || since == 0L;
+        List<ScoreboardDelta.RankedMatch> changed = new ArrayList<>();
+        for (int position = 0; position < ranked.size(); position++) {
+            MatchRank rank = ranked.get(position);
+            if (full || rank.version() > since) {
+                changed.add(new ScoreboardDelta.RankedMatch(position, rank.match()));
+            }
+        }
+        return new ScoreboardDelta(version, full, List.copyOf(changed), full ? List.of() : List.copyOf(finished));
+    }
+
+}
@@ -3,22 +3,32 @@ package com.sportradar.football.worldcup.scoreboard;
 import com.sportradar.football.worldcup.scoreboard.exception.ScoreboardConsistencyException;
 import com.sportradar.football.worldcup.scoreboard.exception.ScoreboardInputException;
 
+import java.nio.ByteBuffer;
+import java.time.LocalDateTime;
 import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.Flow;
 
 /**
  * <p>Scoreboard stored an incoming starting match data with team, start time and latest score details in a memory cache.
- * Data is not stored in a persistent data store. Scoreboard supports starting a match, updating score points,
- * finalizing a match, and generating a summary of the scoreboard.</p>
+ * Data is not stored in a persistent data store, unless the scoreboard is built with a journal. See {@link ScoreboardFactory.Builder#journal(java.nio.file.Path)}.
+ * Scoreboard supports starting a match, updating score points, finalizing a match, and generating a summary of the scoreboard.</p>
  * <br>
- * <p>Note that only running matches are stored, and finished matches are removed from the scoreboard and are not traced.</p>
+ * <p>Note that only running matches are stored on the scoreboard. Finished matches are removed from it, and are kept only by a scoreboard built with an archive,
+ * which holds the latest finished matches within its capacity and retention window. See {@link ScoreboardFactory.Builder#archive(int)}.</p>
+ * <br>
+ * <p>A write of a Scoreboard with a journal returns once the journal has synced it to disk. If the sync fails, or the Scoreboard has been closed, the journal fails for good:
+ * the write is answered with {@link ScoreboardOutcome#WRITE_FAILED} by the tried operations, and thrown as a {@link java.io.UncheckedIOException} by the throwing ones.
+ * A write that was applied while its sync failed stays in memory, but not on disk, thus it is lost on recovery. Every later write is refused before it changes the Scoreboard.</p>
  *
  * @author Ozan Aksoy
  */
-public interface Scoreboard {
+public interface Scoreboard extends AutoCloseable {
 
 
     /**
-     * Initiates a match and registers it to the score board.
+     * Initiates a match and registers it to the score board. A team plays a single match at a time,
+     * thus a match cannot be started for a team that is already in a running match, either at home or away.
      *
      * @param homeTeam Home Team Name
      * @param awayTeam Away Team Name
@@ -37,6 +47,27 @@ public interface Scoreboard {
      */
     void updateScore(String homeTeam, String awayTeam, int homeTeamScore, int awayTeamScore) throws ScoreboardInputException, ScoreboardConsistencyException;
 
+    /**
+     * Adds a goal to the home team score of a running match. The new score is computed from the recorded score by the Scoreboard as a single atomic operation,
+     * so goals reported for the same match by several threads are all counted, without reading the score first.
+     *
+     * @param homeTeam Home team
+     * @param awayTeam Away team
+     * @throws ScoreboardInputException       Signals invalid input such as blank or null values.
+     * @throws ScoreboardConsistencyException Signals input that is inconsistent with the existing state of the Scoreboard.
+     */
+    void homeGoal(String homeTeam, String awayTeam) throws ScoreboardInputException, ScoreboardConsistencyException;
+
+    /**
+     * Adds a goal to the away team score of a running match, as {@link Scoreboard#homeGoal(String, String)} does for the home team.
+     *
+     * @param homeTeam Home team
+     * @param awayTeam Away team
+     * @throws ScoreboardInputException       Signals invalid input such as blank or null values.
+     * @throws ScoreboardConsistencyException Signals input that is inconsistent with the existing state of the Scoreboard.
+     */
+    void awayGoal(String homeTeam, String awayTeam) throws ScoreboardInputException, ScoreboardConsistencyException;
+
     /**
      * Removes a match from the scoreboard.
      *
@@ -47,9 +78,202 @@ public interface Scoreboard {
      */
     void finishMatch(String homeTeam, String awayTeam) throws ScoreboardInputException, ScoreboardConsistencyException;
 
+    /**
+     * Initiates a match as {@link Scoreboard#startMatch(String, String)} does, but answers a rejection with its outcome instead of throwing.
+     * A rejection neither allocates nor captures a stack trace, thus it suits feeds where rejections are frequent.
+     * A failed journal is answered with {@link ScoreboardOutcome#WRITE_FAILED} as well, so the tried operations never throw.
+     *
+     * @param homeTeam Home Team Name
+     * @param awayTeam Away Team Name
+     * @return {@link ScoreboardOutcome#APPLIED} if the match has started, otherwise the reason of the rejection.
+     */
+    ScoreboardOutcome tryStartMatch(String homeTeam, String awayTeam);
+
+    /**
+     * Updates a score as {@link Scoreboard#updateScore(String, String, int, int)} does, but answers a rejection with its outcome instead of throwing.
+     *
+     * @param homeTeamScore Home team score point
+     * @param awayTeamScore Away team score point
+     * @return {@link ScoreboardOutcome#APPLIED} if the score has been updated, otherwise the reason of the rejection.
+     */
+    ScoreboardOutcome tryUpdateScore(String homeTeam, String awayTeam, int homeTeamScore, int awayTeamScore);
+
+    /**
+     * Updates a score by an event of an at-least-once feed, which may redeliver an event or deliver it late. Events of a match are numbered by the feed in their order.
+     * An event that is not after the last applied event of its match is dropped silently with {@link ScoreboardOutcome#STALE_EVENT}, and counted by {@link Scoreboard#droppedEvents()}.
+     * Other rejections are answered as {@link Scoreboard#tryUpdateScore(String, String, int, int)} does, and a rejected event does not become the last applied one.
+     *
+     * @param homeTeamScore Home team score point
+     * @param awayTeamScore Away team score point
+     * @param eventSequence Event sequence of the update in its match, any value but {@link Long#MIN_VALUE}.
+     * @return {@link ScoreboardOutcome#APPLIED} if the score has been updated, otherwise the reason of the rejection.
+     */
+    ScoreboardOutcome tryUpdateScore(String homeTeam, String awayTeam, int homeTeamScore, int awayTeamScore, long eventSequence);
+
+    /**
+     * Returns the count of the sequenced updates that have been dropped as redelivered or late events.
+     *
+     * @return Count of the dropped events
+     */
+    long droppedEvents();
+
+    /**
+     * Adds a goal to the home team score as {@link Scoreboard#homeGoal(String, String)} does, but answers a rejection with its outcome instead of throwing.
+     *
+     * @param homeTeam Home team
+     * @param awayTeam Away team
+     * @return {@link ScoreboardOutcome#APPLIED} if the goal has been added, otherwise the reason of the rejection.
+     */
+    ScoreboardOutcome tryHomeGoal(String homeTeam, String awayTeam);
+
+    /**
+     * Adds a goal to the away team score as {@link Scoreboard#awayGoal(String, String)} does, but answers a rejection with its outcome instead of throwing.
+     *
+     * @param homeTeam Home team
+     * @param awayTeam Away team
+     * @return {@link ScoreboardOutcome#APPLIED} if the goal has been added, otherwise the reason of the rejection.
+     */
+    ScoreboardOutcome tryAwayGoal(String homeTeam, String awayTeam);
+
+    /**
+     * Removes a match as {@link Scoreboard#finishMatch(String, String)} does, but answers a rejection with its outcome instead of throwing.
+     *
+     * @param homeTeam Home team
+     * @param awayTeam Away team
+     * @return {@link ScoreboardOutcome#APPLIED} if the match has been removed, otherwise the reason of the rejection.
+     */
+    ScoreboardOutcome tryFinishMatch(String homeTeam, String awayTeam);
+
+    /**
+     * Polls a snapshot of the operation counters, latencies and gauges of the Scoreboard.
+     * Metrics are kept only if they are enabled on creation, see {@link ScoreboardFactory.Builder#metrics(boolean)}.
+     *
+     * @return Metrics snapshot, or an empty result if the Scoreboard keeps no metrics.
+     */
+    Optional<ScoreboardMetrics> metrics();
+
+    /**
+     * Applies a list of start match, update score and finish match commands in the given order as a single batch.
+     * All commands are checked for invalid input before any of them is applied. A rejected command does not stop the batch,
+     * its cause is reported in its result instead.
+     * A summary fetched concurrently sees either none or all of the applied commands of the batch.
+     *
+     * @param commands Scoreboard commands
+     * @return A result for each command, in the order of the commands.
+     * @throws java.io.UncheckedIOException The journal of the Scoreboard has failed, either before the batch, which is then not applied, or while the batch is synced.
+     */
+    List<ScoreboardCommandResult> applyBatch(List<ScoreboardCommand> commands);
+
+    /**
+     * Subscribes to the change feed of the Scoreboard. Each applied start, score update and finish, including the ones of a batch, is pushed to the subscriber as a {@link ScoreboardEvent}.
+     * Events are delivered asynchronously as the subscriber requests them, and a writer never waits for a subscriber.
+     * A subscriber that does not keep up misses events, which it can detect by the gaps in the event sequence numbers.
+     *
+     * @param subscriber Subscriber of the change events
+     */
+    void subscribe(Flow.Subscriber<? super ScoreboardEvent> subscriber);
+
+    /**
+     * Fetches a running match by its teams, found in constant time without going through the summary.
+     *
+     * @param homeTeam Home team name
+     * @param awayTeam Away team name
+     * @return Running match of the teams, or an empty result if the match is not running.
+     * @throws ScoreboardInputException Signals invalid input such as blank or null values.
+     */
+    Optional<Match> match(String homeTeam, String awayTeam) throws ScoreboardInputException;
+
+    /**
+     * Fetches the running match of a team, found in constant time by the team name.
+     *
+     * @param team Team name, either the home or the away team of the match.
+     * @return Running match of the team, or an empty result if the team is not playing.
+     * @throws ScoreboardInputException Signals invalid input such as blank or null values.
+     */
+    Optional<Match> currentMatch(String team) throws ScoreboardInputException;
+
+    /**
+     * Fetches the finished matches of a team from the archive of the Scoreboard. Only a Scoreboard built with {@link ScoreboardFactory.Builder#archive(int)} keeps its finished matches,
+     * and the archive holds the latest finished matches within its capacity and retention window.
+     *
+     * @param team Team name, either the home or the away team of the matches.
+     * @return Finished matches of the team, latest finish first, or an empty list if the finished matches are not kept.
+     * @throws ScoreboardInputException Signals invalid input such as blank or null values.
+     */
+    List<FinishedMatch> finishedMatches(String team) throws ScoreboardInputException;
+
+    /**
+     * Fetches the matches finished within a time range from the archive of the Scoreboard, see {@link Scoreboard#finishedMatches(String)}.
+     *
+     * @param from Start of the range, inclusive.
+     * @param to   End of the range, exclusive.
+     * @return Finished matches of the range, earliest finish first, or an empty list if the finished matches are not kept.
+     * @throws ScoreboardInputException Signals invalid input such as null values.
+     */
+    List<FinishedMatch> finishedMatches(LocalDateTime from, LocalDateTime to) throws ScoreboardInputException;
+
     /**
      * Fetches a summary of the Scoreboard.
      */
     List<Match> summary();
 
+    /**
+     * Returns the current board version of the Scoreboard. Every applied start, score update and finish raises the version, including the ones of a batch.
+     *
+     * @return Board version, zero for a new empty Scoreboard.
+     */
+    long version();
+
+    /**
+     * Fetches the changes of the summary of the Scoreboard since a board version, rather than the whole summary.
+     * The version of the delta is passed to the next call, and an unchanged summary is answered without reading the matches.
+     * Pass zero to fetch the whole summary as a full delta.
+     *
+     * @param version Board version of the summary of the caller, taken from the previous delta.
+     * @return Started, changed and finished matches since the version, see {@link ScoreboardDelta}.
+     * @throws ScoreboardInputException Signals invalid input such as a negative version.
+     */
+    ScoreboardDelta summarySince(long version) throws ScoreboardInputException;
+
+    /**
+     * Fetches the summary of the Scoreboard rendered to a wire format, ready to be written out as it is.
+     * The summary is rendered once per board version and format, and every caller is handed a read-only view of the same bytes with its own position and limit,
+     * so serving an unchanged summary neither renders nor copies it.
+     *
+     * @param format Wire format
+     * @return Read-only buffer of the rendered summary, positioned at its start.
+     * @throws ScoreboardInputException Signals invalid input such as a null format.
+     */
+    ByteBuffer renderedSummary(SummaryFormat format) throws ScoreboardInputException;
+
+    /**
+     * Fetches the leading matches of the summary of the Scoreboard, in summary order.
+     *
+     * @param limit Maximum count of the matches to return
+     * @return At most the given count of matches from the top of the summary.
+     * @throws ScoreboardInputException Signals invalid input such as a negative limit.
+     */
+    List<Match> summary(int limit) throws ScoreboardInputException;
+
+    /**
+     * Fetches a page of the summary of the Scoreboard, in summary order.
+     *
+     * @param offset Count of the leading matches of the summary to skip
+     * @param limit  Maximum count of the matches to return
+     * @return At most the given count of matches that follow the skipped ones in the summary.
+     * @throws ScoreboardInputException Signals invalid input such as a negative offset or limit.
+     */
+    List<Match> summary(int offset, int limit) throws ScoreboardInputException;
+
+    /**
+     * Closes the Scoreboard and releases its storage. The journal of the Scoreboard is synced and closed, and its directory is unlocked,
+     * so a new Scoreboard can be built on it. A Scoreboard with a journal cannot be written after it is closed, as its writes cannot be made durable.
+     * The change feed is closed as well, so each subscriber receives {@link Flow.Subscriber#onComplete()} after its pending events, and later writes are not pushed.
+     * A Scoreboard without a journal holds no other storage, thus it can still be written and read after it is closed.
+     *
+     * @throws java.io.UncheckedIOException The journal cannot be synced or closed.
+     */
+    @Override
+    void close();
+
 }
@@ -34,78 +34,131 @@ class ScoreboardAudit {
     public static final String AWAY_TEAM_SCORE = "Away Team";
 
     /**
-     * Checks if match already exists. If not so, then throws an exception to signal the caught match already started.
+     * Input team field descriptor name
+     */
+    public static final String TEAM = "Team";
+
+    /**
+     * Input batch command field descriptor name
+     */
+    public static final String COMMAND = "Command";
+
+    /**
+     * Input summary offset field descriptor name
+     */
+    public static final String SUMMARY_OFFSET = "Offset";
+
+    /**
+     * Input summary limit field descriptor name
+     */
+    public static final String SUMMARY_LIMIT = "Limit";
+
+    /**
+     * Input summary board version field descriptor name
+     */
+    public static final String SUMMARY_VERSION = "Version";
+
+    /**
+     * Input summary format field descriptor name
+     */
+    public static final String SUMMARY_FORMAT = "Format";
+
+    /**
+     * Input finish time range start field descriptor name
+     */
+    public static final String FINISHED_FROM = "From";
+
+    /**
+     * Input finish time range end field descriptor name
+     */
+    public static final String FINISHED_TO = "To";
+
+    /**
+     * Audits a score update against the recorded score of its match. The score can only be increased, and it must change the recorded score.
+     * Nothing is allocated, so a rejected update costs no more than an applied one.
      *
-     * @param hasEntry Flag to signal whether if the home-away team pair is already stored.
-     * @param homeTeam Home team name
-     * @param awayTeam Away team name
-     * @throws ScoreboardConsistencyException Match already started exception.
+     * @param homeScoreInput Home team score from incoming method input
+     * @param awayScoreInput Away team score from incoming method input
+     * @param homeScoreEntry Home team score from scoreboard
+     * @param awayScoreEntry Away team score from scoreboard
+     * @return {@link ScoreboardOutcome#APPLIED} if the update is consistent, otherwise the reason of the rejection.
      */
-    public void checkIfMustNotHaveEntry(boolean hasEntry, String homeTeam, String awayTeam) throws ScoreboardConsistencyException {
-        if (hasEntry) {
-            throw new ScoreboardConsistencyException(String.format("This match(%s-%s) has already started.", homeTeam, awayTeam));
+    public ScoreboardOutcome auditScore(int homeScoreInput, int awayScoreInput, int homeScoreEntry, int awayScoreEntry) {
+        if (homeScoreInput == homeScoreEntry && awayScoreInput == awayScoreEntry) {
+            return ScoreboardOutcome.SCORE_ALREADY_RECORDED;
+        }
+        if (homeScoreInput < homeScoreEntry) {
+            return ScoreboardOutcome.HOME_SCORE_DECREASED;
+        }
+        if (awayScoreInput < awayScoreEntry) {
+            return ScoreboardOutcome.AWAY_SCORE_DECREASED;
         }
+        return ScoreboardOutcome.APPLIED;
     }
 
     /**
-     * Checks if match does not exist, thus has not started yet. If not so, then throws an exception to signal the caught match has not started.
+     * Checks the outcome of an operation. If the operation has been rejected, then throws the exception of the rejection.
      *
-     * @param hasEntry Flag to signal whether if the home-away team pair is already stored.
+     * @param outcome  Outcome of the operation
      * @param homeTeam Home team name
      * @param awayTeam Away team name
-     * @throws ScoreboardConsistencyException Match that should have started, has not started exception.
+     * @throws ScoreboardInputException       Team input is invalid.
+     * @throws ScoreboardConsistencyException The operation is inconsistent with the existing state of the Scoreboard.
      */
-    public void checkIfMustHaveEntry(boolean hasEntry, String homeTeam, String awayTeam) throws ScoreboardConsistencyException {
-        if (!hasEntry) {
-            throw new ScoreboardConsistencyException(String.format("This match(%s-%s) has not been started.", homeTeam, awayTeam));
+    public void checkOutcome(ScoreboardOutcome outcome, String homeTeam, String awayTeam) throws ScoreboardInputException, ScoreboardConsistencyException {
+        if (outcome == ScoreboardOutcome.INVALID_INPUT) {
+            checkInputValidity(homeTeam, awayTeam);
+        }
+        if (!outcome.isApplied()) {
+            throw rejectionOf(outcome, homeTeam, awayTeam);
         }
     }
 
     /**
-     * Checks if an incoming score value does not try to override a lower score to an existing match. If so, then throws an exception.
+     * Builds the exception of a rejected operation. Messages are built only here, on the throwing path.
      *
-     * @param homeScoreInput Home team score from incoming method input
-     * @param awayScoreInput Away team score from incoming method input
-     * @param homeScoreEntry Home team score from scoreboard
-     * @param awayScoreEntry Away team score from scoreboard
-     * @throws ScoreboardConsistencyException Input scores are trying to write lower scores from the existing match record.
+     * @param outcome  Outcome of a rejected operation
+     * @param homeTeam Home team name
+     * @param awayTeam Away team name
+     * @return Exception that signals the rejection
      */
-    public void checkScoreConsistency(int homeScoreInput, int awayScoreInput, int homeScoreEntry, int awayScoreEntry) throws ScoreboardConsistencyException {
-        checkIfScoresAreExactSameWithEntry(homeScoreInput, awayScoreInput, homeScoreEntry, awayScoreEntry);
-        checkIfScoresAreConsistent(HOME_TEAM_SCORE, homeScoreInput, homeScoreEntry);
-        checkIfScoresAreConsistent(AWAY_TEAM_SCORE, awayScoreInput, awayScoreEntry);
+    public ScoreboardConsistencyException rejectionOf(ScoreboardOutcome outcome, String homeTeam, String awayTeam) {
+        return new ScoreboardConsistencyException(switch (outcome) {
+            case MATCH_ALREADY_STARTED -> String.format("This match(%s-%s) has already started.", homeTeam, awayTeam);
+            case HOME_TEAM_ALREADY_PLAYING -> String.format("This team(%s) is already playing a match.", homeTeam);
+            case AWAY_TEAM_ALREADY_PLAYING -> String.format("This team(%s) is already playing a match.", awayTeam);
+            case MATCH_NOT_STARTED -> String.format("This match(%s-%s) has not been started.", homeTeam, awayTeam);
+            case SCORE_ALREADY_RECORDED -> "The score input is already recorded.";
+            case HOME_SCORE_DECREASED -> inconsistentScoreMessage(HOME_TEAM_SCORE);
+            case AWAY_SCORE_DECREASED -> inconsistentScoreMessage(AWAY_TEAM_SCORE);
+            case APPLIED, INVALID_INPUT, STALE_EVENT, WRITE_FAILED -> throw new IllegalArgumentException("Not a consistency rejection: " + outcome);
+        });
+    }
+
+    private String inconsistentScoreMessage(String inputName) {
+        return "An input value is inconsistent: " + inputName + ". " +
+                "The score can only be increased or unchanged.";
     }
 
     /**
-     * Checks if an incoming score request is an already existing state of the match scores. If so, then throws an exception.
+     * Checks if the team name inputs are valid without throwing, that is neither of them is null or blank.
      *
-     * @param homeScoreInput Home team score from incoming method input
-     * @param awayScoreInput Away team score from incoming method input
-     * @param homeScoreEntry Home team score from scoreboard
-     * @param awayScoreEntry Away team score from scoreboard
-     * @throws ScoreboardConsistencyException Input scores will not be changing any existing record, thus it is a redundant request.
+     * @param homeTeam Home team input
+     * @param awayTeam Away team input
+     * @return If both team names are valid.
      */
-    public void checkIfScoresAreExactSameWithEntry(int homeScoreInput, int awayScoreInput, int homeScoreEntry, int awayScoreEntry) throws ScoreboardConsistencyException {
-        if (homeScoreInput == homeScoreEntry && awayScoreInput == awayScoreEntry) {
-            throw new ScoreboardConsistencyException(
-                    "The score input is already recorded.");
-        }
+    public boolean isValidInput(String homeTeam, String awayTeam) {
+        return isValidTeam(homeTeam) && isValidTeam(awayTeam);
     }
 
     /**
-     * Checks if a given score field has received a lower score value then already existing score.
+     * Checks if a team name input is valid without throwing, that is it is neither null nor blank.
      *
-     * @param inputName  Input field descriptor name
-     * @param inputScore incoming input score value
-     * @param entryScore previously recorded input score value
-     * @throws ScoreboardConsistencyException Input score is trying to write a lower score from the existing match record.
-     */
-    public void checkIfScoresAreConsistent(String inputName, int inputScore, int entryScore) throws ScoreboardConsistencyException {
-        if (inputScore < entryScore) {
-            throw new ScoreboardConsistencyException(
-                    "An input value is inconsistent: " + inputName + ". " +
-                            "The score can only be increased or unchanged.");
-        }
+     * @param team Team input
+     * @return If the team name is valid.
+     */
+    public boolean isValidTeam(String team) {
+        return team != null && !team.isBlank();
     }
 
     /**
@@ -120,6 +173,44 @@ class ScoreboardAudit {
         checkBlankInput(AWAY_TEAM, awayTeam);
     }
 
+    /**
+     * Checks if a given summary range is valid, that is neither the offset nor the limit is negative. If not so, then throws invalid input exception.
+     *
+     * @param offset Count of the leading summary entries to skip
+     * @param limit  Maximum count of the summary entries to return
+     * @throws ScoreboardInputException Range input is invalid.
+     */
+    public void checkRangeValidity(int offset, int limit) throws ScoreboardInputException {
+        checkNegativeInput(SUMMARY_OFFSET, offset);
+        checkNegativeInput(SUMMARY_LIMIT, limit);
+    }
+
+    /**
+     * Checks if a given count input value is negative. If so, then throws invalid input exception.
+     *
+     * @param inputName Input field descriptor name
+     * @param input     actual input value
+     * @throws ScoreboardInputException Count input is negative.
+     */
+    public void checkNegativeInput(String inputName, int input) throws ScoreboardInputException {
+        if (input < 0) {
+            throw new ScoreboardInputException("An input value is negative: " + inputName);
+        }
+    }
+
+    /**
+     * Checks if a given long input value is negative. If so, then throws invalid input exception.
+     *
+     * @param inputName Input field descriptor name
+     * @param input     actual input value
+     * @throws ScoreboardInputException Input is negative.
+     */
+    public void checkNegativeInput(String inputName, long input) throws ScoreboardInputException {
+        if (input < 0L) {
+            throw new ScoreboardInputException("An input value is negative: " + inputName);
+        }
+    }
+
     /**
      * Checks if a given team name input value is blank. If so, then throws invalid input exception.
      *
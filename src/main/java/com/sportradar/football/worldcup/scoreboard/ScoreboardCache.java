@@ -1,77 +1,899 @@
 package com.sportradar.football.worldcup.scoreboard;
 
-import java.util.Map;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.lang.invoke.VarHandle;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.NavigableSet;
+import java.util.Objects;
 import java.util.concurrent.ConcurrentHashMap;
-import java.util.stream.Collectors;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ConcurrentSkipListSet;
+import java.util.concurrent.Flow;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.StampedLock;
+import java.util.function.Function;
+import java.util.function.Supplier;
 
 /**
  * Thread-Safe, fast read, locked write data structure based internal scoreboard cache. It stores the match in atomized data entities.
+ * Each write is a single atomic operation on its match, which applies the {@link ScoreboardAudit} rules against the record it changes.
+ * A rejected write answers with the {@link ScoreboardOutcome} of its rejection, so rejections neither throw nor allocate.
+ * Next to the records, the cache maintains a ranked index of the records in summary order, so a summary is a plain walk of the index,
+ * and an index of the playing teams to their records, so a team plays a single match at a time and its match is found in constant time.
+ * Single writes share the cache with each other, while a batch of writes holds the cache exclusively, thus readers see a batch either as a whole or not at all.
+ * Each applied write is published to the change feed of the cache within the monitor of its match record, so the events of a match are in the order of its writes.
+ * If the cache has a {@link ScoreboardJournal}, then each applied write is also appended to the journal within the same monitors,
+ * and the write returns once the journal has synced it to disk. A start is appended before its record is found in the table, so no update of the match is appended before its start.
+ * Once the journal has failed, every write is refused with {@link ScoreboardOutcome#WRITE_FAILED} before it changes the cache. A write that was applied while the sync of its record failed
+ * is answered with the same outcome, as the write is in memory but not on disk.
  *
  * @author Ozan Aksoy
  */
-class ScoreboardCache {
+class ScoreboardCache implements ScoreboardStore {
 
+    /**
+     * Summary order of the records: higher total score first, then the most recently started match first.
+     * Start order is the start sequence of the records, not their start time, so matches started in the same clock tick, or while the clock was adjusted,
+     * are still ordered the way they were started, and every record has a distinct rank.
+     */
+    static final Comparator<MatchRank> RANKING = ScoreboardCache::compareRank;
+
+    /**
+     * Count of the latest finished matches remembered for the deltas of the summary.
+     */
+    static final int FINISHES_REMEMBERED = 1024;
+
+    /**
+     * Registry of the team names on the scoreboard, which interns each team name to a team id. Shared by the shards of a sharded store.
+     */
+    private final TeamRegistry teams;
+
+    /**
+     * Score board cache as match key to match records, where the match key is built from the team ids. See {@link TeamRegistry#matchKey(int, int)}.
+     * Matches are started and finished within the monitor of the table, and scores are updated within the monitor of their match record.
+     */
+    private final MatchTable scoreboard;
+
+    /**
+     * Ranked index of the scoreboard records ordered by {@link ScoreboardCache#RANKING}. It is kept up to date by every write on the cache.
+     */
+    private final NavigableSet<MatchRank> ranking;
+
+    /**
+     * Playing teams by their interned name to their running match record, shared by the shards of a sharded store.
+     * A team is claimed before its match is ranked and released after its match is unranked, both within the monitor of the table.
+     */
+    private final ConcurrentMap<String, MatchDetails> playing;
+
+    /**
+     * Source of the start order of the matches, shared by the shards of a sharded store.
+     */
+    private final AtomicLong startSequence;
+
+    /**
+     * Board version, bumped by each change of the ranked index and stamped on the change. Shared by the shards of a sharded store.
+     */
+    private final AtomicLong versions;
+
+    /**
+     * Ring of the matches finished lately, with the board versions of their finishes, so a delta since a recent version can tell the finished matches.
+     * Written within the monitor of the table as a change of the ranked index, and read as the ranked index is.
+     */
+    private final Match[] finishedMatches = new Match[FINISHES_REMEMBERED];
+
+    private final long[] finishVersions = new long[FINISHES_REMEMBERED];
 
     /**
-     * Score board cache. In-built mechanisms of @link {@link ConcurrentHashMap} collection enables desired fast read and securely locked write operations by default.
+     * Count of the finishes written to the ring.
      */
-    private final Map<MatchTeamPair, MatchDetails> scoreboard;
+    private long finishes;
+
+    /**
+     * Board version of the latest finish dropped from the ring. A delta since an earlier version cannot tell all the finished matches.
+     */
+    private long forgottenFinishVersion;
+
+    /**
+     * Count of the ranked index changes that have been started. Paired with {@link ScoreboardCache#rankingChangesCompleted} to detect a walk that overlapped a change.
+     */
+    private final AtomicLong rankingChangesStarted;
+
+    /**
+     * Count of the ranked index changes that have been completed.
+     */
+    private final AtomicLong rankingChangesCompleted;
+
+    /**
+     * Gate between the single writes, which share it, and the batches of writes, which hold it exclusively.
+     */
+    private final StampedLock gate;
+
+    /**
+     * Thread that holds the gate exclusively for a batch. Writes of the batch pass the gate without taking it again.
+     */
+    private volatile Thread batchWriter;
+
+    /**
+     * Change feed of the cache, shared by the shards of a sharded store.
+     */
+    private final ScoreboardFeed feed;
+
+    /**
+     * Signals that rank changes are published. A shard ranks only its own matches, thus it does not publish them.
+     */
+    private final boolean publishesRankChanges;
+
+    /**
+     * Write-ahead journal of the cache, null if the cache is not persisted.
+     */
+    private final ScoreboardJournal journal;
 
     public ScoreboardCache() {
-        this.scoreboard = new ConcurrentHashMap<>();
+        this((ScoreboardJournal) null);
     }
 
     /**
-     * Returns whether if the team pair has a corresponding record in the cache.
+     * Scoreboard cache that starts with a saved state, such as a snapshot.
      *
-     * @param teamPair Team Pair as Key to check.
-     * @return If key exists.
+     * @param state Saved state of a cache
      */
-    public boolean hasEntry(MatchTeamPair teamPair) {
-        return scoreboard.containsKey(teamPair);
+    public ScoreboardCache(ScoreboardState state) {
+        this((ScoreboardJournal) null);
+        restore(state);
     }
 
     /**
-     * Returns corresponding match details.
+     * Scoreboard cache persisted by a journal. The cache starts with the state recovered from the journal.
      *
-     * @param teamPair Team Pair as Key used in finding match details.
-     * @return Match details.
+     * @param journal Write-ahead journal of the cache, null if the cache is not persisted.
+     * @throws UncheckedIOException The journal cannot be recovered.
      */
-    public MatchDetails getDetails(MatchTeamPair teamPair) {
-        return scoreboard.get(teamPair);
+    public ScoreboardCache(ScoreboardJournal journal) {
+        this(journal, new TeamRegistry(), new ConcurrentHashMap<>(), new AtomicLong(), new AtomicLong(), new ScoreboardFeed(), true);
     }
 
     /**
-     * Store {@link MatchTeamPair} - @{@link MatchDetails}  key - value pair in the scoreboard cache.
+     * Scoreboard cache that is a shard of a {@link ShardedScoreboardCache}. Shards share the team registry, the playing teams, the start order, the board version and the change feed.
+     * The team ids of the saved state are the ids of the shared registry.
      *
-     * @param teamPair Teams in the Match
-     * @param details  Match Details
+     * @param state         Saved state of the shard
+     * @param teams         Team registry of the sharded store
+     * @param playing       Playing teams of the sharded store
+     * @param startSequence Start sequence of the sharded store
+     * @param versions      Board version of the sharded store
+     * @param feed          Change feed of the sharded store
      */
-    public void put(MatchTeamPair teamPair, MatchDetails details) {
-        scoreboard.put(teamPair, details);
+    ScoreboardCache(ScoreboardState state, TeamRegistry teams, ConcurrentMap<String, MatchDetails> playing, AtomicLong startSequence, AtomicLong versions, ScoreboardFeed feed) {
+        this(null, teams, playing, startSequence, versions, feed, false);
+        restore(state);
+    }
+
+    private ScoreboardCache(ScoreboardJournal journal, TeamRegistry teams, ConcurrentMap<String, MatchDetails> playing, AtomicLong startSequence, AtomicLong versions,
+                            ScoreboardFeed feed, boolean publishesRankChanges) {
+        this.teams = teams;
+        this.scoreboard = new MatchTable();
+        this.playing = playing;
+        this.ranking = new ConcurrentSkipListSet<>(RANKING);
+        this.startSequence = startSequence;
+        this.versions = versions;
+        this.rankingChangesStarted = new AtomicLong();
+        this.rankingChangesCompleted = new AtomicLong();
+        this.gate = new StampedLock();
+        this.feed = feed;
+        this.publishesRankChanges = publishesRankChanges;
+        this.journal = journal;
+        if (journal != null) {
+            try {
+                restore(journal.recover());
+            } catch (IOException e) {
+                UncheckedIOException failure = new UncheckedIOException("Scoreboard journal cannot be recovered.", e);
+                try {
+                    journal.close();
+                } catch (IOException closing) {
+                    failure.addSuppressed(closing);
+                }
+                throw failure;
+            }
+        }
     }
 
     /**
-     * Removes the corresponding match from the pair.
+     * Loads a saved state into an empty cache. The teams of the running matches are registered with their saved ids, so the match keys of the saved state stay valid,
+     * and the teams of no running match are not registered. Shards restore their own matches to their shared registry.
+     * The index entries are sorted before they are added, so the ranked index is filled in order.
      *
-     * @param teamPair Corresponding key to the record.
+     * @param state Saved state
      */
-    public void remove(MatchTeamPair teamPair) {
-        this.scoreboard.remove(teamPair);
+    private void restore(ScoreboardState state) {
+        MatchRank[] ranks = new MatchRank[state.matches().size()];
+        long version = ranks.length == 0 ? versions.get() : versions.incrementAndGet();
+        synchronized (scoreboard) {
+            for (int i = 0; i < ranks.length; i++) {
+                ScoreboardState.RunningMatch entry = state.matches().get(i);
+                long matchKey = entry.matchKey();
+                int homeTeamId = TeamRegistry.homeTeamIdOf(matchKey);
+                int awayTeamId = TeamRegistry.awayTeamIdOf(matchKey);
+                teams.restore(homeTeamId, state.teams().get(homeTeamId));
+                teams.restore(awayTeamId, state.teams().get(awayTeamId));
+                MatchTeamPair teamPair = teamPair(homeTeamId, awayTeamId);
+                MatchDetails details = new MatchDetails(teamPair, matchKey, MatchDetails.epochNanosOf(entry.startTime()), entry.startSequence(), entry.score());
+                claimRestored(details);
+                ranks[i] = MatchRank.of(details, entry.score(), version);
+                details.setRank(ranks[i]);
+                scoreboard.insert(details);
+            }
+        }
+        Arrays.sort(ranks, RANKING);
+        ranking.addAll(Arrays.asList(ranks));
+        startSequence.accumulateAndGet(state.lastStartSequence(), Math::max);
     }
 
     /**
-     * Takes a snapshot of the current state of the scoreboard records and returns them as a map.
+     * Returns the next start sequence number. Each call answers with a higher number than the previous one.
      *
-     * @return A snapshot of scoreboard.
+     * @return Start sequence number of a newly started match.
      */
-    public Map<MatchTeamPair, MatchDetails> snapshot() {
-        return scoreboard.entrySet().stream().collect(
-                Collectors.toMap(
-                        entry -> new MatchTeamPair(entry.getKey()),
-                        entry -> new MatchDetails(entry.getValue())
-                )
-        );
+    private long nextStartSequence() {
+        return startSequence.incrementAndGet();
+    }
+
+    /**
+     * Stores a new match as a single atomic operation on the scoreboard. The match must not have a record already, and neither team may be playing.
+     * Team names are only looked up while the start is checked, and registered to the team registry once the checks have passed, so a rejected start registers no name.
+     * The record carries the interned team names and the match key. The match starts with no goals, in the next start sequence.
+     *
+     * @param homeTeam  Home team name
+     * @param awayTeam  Away team name
+     * @param startTime Supplier of the start time of the match, called only if the match can be started.
+     * @return Outcome of the start, rejected if the match has already started, or one of its teams is playing another match.
+     */
+    @Override
+    public ScoreboardOutcome start(String homeTeam, String awayTeam, Supplier<LocalDateTime> startTime) {
+        long position = 0L;
+        long stamp = enter();
+        try {
+            if (refusesWrites()) {
+                return ScoreboardOutcome.WRITE_FAILED;
+            }
+            synchronized (scoreboard) {
+                if (find(homeTeam, awayTeam) != null) {
+                    return ScoreboardOutcome.MATCH_ALREADY_STARTED;
+                }
+                if (playing.containsKey(homeTeam)) {
+                    return ScoreboardOutcome.HOME_TEAM_ALREADY_PLAYING;
+                }
+                if (playing.containsKey(awayTeam)) {
+                    return ScoreboardOutcome.AWAY_TEAM_ALREADY_PLAYING;
+                }
+                int homeTeamId = teams.register(homeTeam);
+                int awayTeamId = teams.register(awayTeam);
+                long matchKey = TeamRegistry.matchKey(homeTeamId, awayTeamId);
+                LocalDateTime started = startTime.get();
+                MatchDetails details = new MatchDetails(teamPair(homeTeamId, awayTeamId), matchKey, MatchDetails.epochNanosOf(started), nextStartSequence(), MatchDetails.packScore(0, 0));
+                ScoreboardOutcome claimed = claim(details);
+                if (!claimed.isApplied()) {
+                    teams.release(homeTeamId);
+                    teams.release(awayTeamId);
+                    return claimed;
+                }
+                if (journal != null) {
+                    position = journal.appendStart(teams, matchKey, started, details.getStartSequence());
+                }
+                synchronized (details) {
+                    rank(details, details.getPackedScore());
+                    if (feed.isActive()) {
+                        feed.publish(ScoreboardEvent.Type.MATCH_STARTED, details.getRank().match(), null);
+                    }
+                }
+                scoreboard.insert(details);
+            }
+        } finally {
+            leave(stamp);
+        }
+        return commit(position);
+    }
+
+    /**
+     * Replaces the score of a running match as a single atomic operation on the match record, thus the score consistency is checked against the score it replaces.
+     * The record is found by team ids and its score is updated in place. An applied update allocates its ranked entry and the immutable match it holds,
+     * and the ranked index allocates a node for the entry, while a rejected update allocates nothing.
+     * A sequenced update that is not after the last sequenced update of the match is dropped before the score is audited, and an applied one becomes the last.
+     * As the last event sequence only increases, a stale update is found without taking the monitor of the record.
+     *
+     * @param homeTeam      Home team name
+     * @param awayTeam      Away team name
+     * @param homeScore     Home team score point
+     * @param awayScore     Away team score point
+     * @param eventSequence Event sequence of the update in its match, or {@link MatchDetails#NO_EVENT} if the update is not sequenced.
+     * @param audit         Audit of the scoreboard rules
+     * @return Outcome of the update, rejected if the match has not started, the event is stale, or the score is not an increase of the recorded score.
+     */
+    @Override
+    public ScoreboardOutcome update(String homeTeam, String awayTeam, int homeScore, int awayScore, long eventSequence, ScoreboardAudit audit) {
+        return rescore(homeTeam, awayTeam, false, homeScore, awayScore, eventSequence, audit);
+    }
+
+    /**
+     * Adds goals to the score of a running match, as a single atomic operation on the match record. The new score is computed from the score it replaces,
+     * within the monitor of the record, so goals reported for the same match by several threads are all counted. The new score is audited as an update is,
+     * thus an overflowing score is rejected as a decrease.
+     *
+     * @param homeTeam  Home team name
+     * @param awayTeam  Away team name
+     * @param homeGoals Goals to add to the home team score
+     * @param awayGoals Goals to add to the away team score
+     * @param audit     Audit of the scoreboard rules
+     * @return Outcome of the goals, rejected if the match has not started, or the new score is not an increase of the recorded score.
+     */
+    @Override
+    public ScoreboardOutcome addGoals(String homeTeam, String awayTeam, int homeGoals, int awayGoals, ScoreboardAudit audit) {
+        return rescore(homeTeam, awayTeam, true, homeGoals, awayGoals, MatchDetails.NO_EVENT, audit);
+    }
+
+    /**
+     * Replaces the score of a running match by an absolute score, or by the recorded score with goals added to it.
+     */
+    private ScoreboardOutcome rescore(String homeTeam, String awayTeam, boolean relative, int home, int away, long eventSequence, ScoreboardAudit audit) {
+        long position = 0L;
+        long stamp = enter();
+        try {
+            if (refusesWrites()) {
+                return ScoreboardOutcome.WRITE_FAILED;
+            }
+            MatchDetails details = find(homeTeam, awayTeam);
+            if (details == null) {
+                return ScoreboardOutcome.MATCH_NOT_STARTED;
+            }
+            boolean sequenced = eventSequence != MatchDetails.NO_EVENT;
+            if (sequenced && eventSequence <= details.getEventSequence()) {
+                return ScoreboardOutcome.STALE_EVENT;
+            }
+            synchronized (details) {
+                if (details.isFinished()) {
+                    return ScoreboardOutcome.MATCH_NOT_STARTED;
+                }
+                if (sequenced && eventSequence <= details.getEventSequence()) {
+                    return ScoreboardOutcome.STALE_EVENT;
+                }
+                long score = details.getPackedScore();
+                int homeScore = relative ? MatchDetails.homeScoreOf(score) + home : home;
+                int awayScore = relative ? MatchDetails.awayScoreOf(score) + away : away;
+                ScoreboardOutcome audited = audit.auditScore(homeScore, awayScore, MatchDetails.homeScoreOf(score), MatchDetails.awayScoreOf(score));
+                if (!audited.isApplied()) {
+                    return audited;
+                }
+                if (sequenced) {
+                    details.setEventSequence(eventSequence);
+                }
+                if (feed.isActive() && publishesRankChanges) {
+                    rankAndPublish(details, MatchDetails.packScore(homeScore, awayScore));
+                } else {
+                    rank(details, MatchDetails.packScore(homeScore, awayScore));
+                    if (feed.isActive()) {
+                        feed.publish(ScoreboardEvent.Type.SCORE_CHANGED, details.getRank().match(), null);
+                    }
+                }
+                if (journal != null) {
+                    position = journal.appendScore(details.getMatchKey(), details.getPackedScore());
+                }
+            }
+        } finally {
+            leave(stamp);
+        }
+        return commit(position);
+    }
+
+    /**
+     * Removes a running match as a single atomic operation on the scoreboard. The final state of the match is archived within the update monitor of its record,
+     * so the archive holds the last score of the match.
+     *
+     * @param homeTeam Home team name
+     * @param awayTeam Away team name
+     * @param archive  Archive of the finished matches, null if the finished matches are not kept.
+     * @return Outcome of the finish, rejected if the match has not started.
+     */
+    @Override
+    public ScoreboardOutcome finish(String homeTeam, String awayTeam, MatchArchive archive) {
+        long position = 0L;
+        long stamp = enter();
+        try {
+            if (refusesWrites()) {
+                return ScoreboardOutcome.WRITE_FAILED;
+            }
+            synchronized (scoreboard) {
+                MatchDetails details = find(homeTeam, awayTeam);
+                if (details == null) {
+                    return ScoreboardOutcome.MATCH_NOT_STARTED;
+                }
+                synchronized (details) {
+                    if (feed.isActive()) {
+                        feed.publish(ScoreboardEvent.Type.MATCH_FINISHED, details.getRank().match(), null);
+                    }
+                    if (archive != null) {
+                        archive.add(details.getRank().match());
+                    }
+                    unrank(details);
+                }
+                release(details);
+                scoreboard.remove(details.getMatchKey());
+                if (journal != null) {
+                    position = journal.appendFinish(details.getMatchKey());
+                }
+            }
+        } finally {
+            leave(stamp);
+        }
+        return commit(position);
+    }
+
+    /**
+     * Runs a batch of writes holding the cache exclusively. The batch is counted as a single change of the ranked index,
+     * so a reader sees the records either as they were before the batch or as they are after it.
+     * If the cache has a journal, then the batch waits for a single sync of all its writes. A batch is refused as a whole once the journal has failed,
+     * thus its writes are not checked against the journal one by one.
+     *
+     * @param writes Writes of the batch, made through the write operations of this cache on the calling thread.
+     * @throws UncheckedIOException The journal has failed, either before the batch, which is then not applied, or while the batch is synced.
+     */
+    @Override
+    public void batch(Runnable writes) {
+        long stamp = gate.writeLock();
+        try {
+            if (journal != null && journal.isFailed()) {
+                throw writeFailure();
+            }
+            batchWriter = Thread.currentThread();
+            rankingChangesStarted.incrementAndGet();
+            try {
+                writes.run();
+            } finally {
+                rankingChangesCompleted.incrementAndGet();
+                batchWriter = null;
+            }
+        } finally {
+            gate.unlockWrite(stamp);
+        }
+        if (journal != null && !commit(journal.appended()).isApplied()) {
+            throw writeFailure();
+        }
+    }
+
+    /**
+     * Returns whether if a single write is refused, as the journal of the cache has failed. Writes of a batch are refused by the batch.
+     */
+    private boolean refusesWrites() {
+        return journal != null && journal.isFailed() && batchWriter != Thread.currentThread();
+    }
+
+    private UncheckedIOException writeFailure() {
+        return new UncheckedIOException("Scoreboard journal cannot be written.", journal.failure());
+    }
+
+    /**
+     * Returns the failure of the journal of the cache.
+     *
+     * @return Failure of the journal, null if the cache has no journal or the journal has not failed.
+     */
+    @Override
+    public IOException journalFailure() {
+        return journal == null ? null : journal.failure();
+    }
+
+    /**
+     * Waits until the journal has synced a write, and takes a checkpoint if one is due. Writes of a batch are committed by the batch.
+     * A checkpoint that cannot be written fails the journal, though the write that took it is durable.
+     *
+     * @param position Journal position of the write, zero if nothing has been appended.
+     * @return {@link ScoreboardOutcome#APPLIED} once the write is durable, or {@link ScoreboardOutcome#WRITE_FAILED} if the journal has failed before it is synced.
+     */
+    private ScoreboardOutcome commit(long position) {
+        if (position == 0L || batchWriter == Thread.currentThread()) {
+            return ScoreboardOutcome.APPLIED;
+        }
+        try {
+            journal.awaitDurable(position);
+        } catch (UncheckedIOException e) {
+            return ScoreboardOutcome.WRITE_FAILED;
+        }
+        if (journal.isCheckpointDue() && journal.beginCheckpoint()) {
+            try {
+                checkpoint();
+            } catch (IOException e) {
+                journal.fail(e);
+            } finally {
+                journal.endCheckpoint();
+            }
+        }
+        return ScoreboardOutcome.APPLIED;
+    }
+
+    /**
+     * Starts a new journal segment and writes the checkpoint of the state at its start. The state is taken holding the gate exclusively,
+     * and the checkpoint is written after the gate is released, so the writes wait only for the segment switch.
+     *
+     * @throws IOException The journal cannot be written.
+     */
+    private void checkpoint() throws IOException {
+        long segment;
+        ScoreboardState state;
+        long stamp = gate.writeLock();
+        try {
+            segment = journal.rotate();
+            state = captureState();
+        } finally {
+            gate.unlockWrite(stamp);
+        }
+        journal.writeCheckpoint(segment, state);
+    }
+
+    /**
+     * Closes the journal of the cache, if it has one, and the change feed, whose subscribers are then completed. Writes appended before are synced,
+     * and the writes made after fail, as they cannot be made durable. The feed is closed even if the journal cannot be.
+     *
+     * @throws UncheckedIOException The journal cannot be closed.
+     */
+    @Override
+    public void close() {
+        try {
+            if (journal != null) {
+                journal.close();
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException("Scoreboard journal cannot be closed.", e);
+        } finally {
+            feed.close();
+        }
+    }
+
+    /**
+     * Returns the count of the running matches from the table, without passing the gate.
+     *
+     * @return Count of the running matches
+     */
+    @Override
+    public int size() {
+        return scoreboard.size();
+    }
+
+    /**
+     * Returns the count of the registered teams of the team registry, which are the teams of the running matches.
+     *
+     * @return Count of the registered teams
+     */
+    @Override
+    public int teamCount() {
+        return teams.size();
+    }
+
+    /**
+     * Returns the state of the cache for saving. The state is taken holding the gate exclusively, so it holds no part of a write.
+     * Within a batch, the state is taken under the gate the batch holds.
+     *
+     * @return Current state of the cache
+     */
+    @Override
+    public ScoreboardState state() {
+        if (batchWriter == Thread.currentThread()) {
+            return captureState();
+        }
+        long stamp = gate.writeLock();
+        try {
+            return captureState();
+        } finally {
+            gate.unlockWrite(stamp);
+        }
+    }
+
+    /**
+     * Captures the teams and the running matches. Must be called holding the gate exclusively.
+     */
+    private ScoreboardState captureState() {
+        List<ScoreboardState.RunningMatch> matches = scoreboard.values().stream()
+                .map(details -> new ScoreboardState.RunningMatch(details.getMatchKey(), details.getStartTime(), details.getStartSequence(), details.getPackedScore()))
+                .toList();
+        return new ScoreboardState(teams.names(), matches, startSequence.get());
+    }
+
+    /**
+     * Passes the gate for a single write or a read, in shared mode. The thread that runs a batch already holds the gate.
+     *
+     * @return Stamp of the shared hold, zero if the gate is already held by the batch of the calling thread.
+     */
+    private long enter() {
+        return batchWriter == Thread.currentThread() ? 0L : gate.readLock();
+    }
+
+    private void leave(long stamp) {
+        if (stamp != 0L) {
+            gate.unlockRead(stamp);
+        }
+    }
+
+    /**
+     * Finds the record of a match by its team names. Teams that are not registered cannot have a record.
+     * The ids of finished teams are taken by other teams, thus a record found by ids read before a finish is answered only if it is a match of the same teams.
+     */
+    private MatchDetails find(String homeTeam, String awayTeam) {
+        int homeTeamId = teams.find(homeTeam);
+        int awayTeamId = teams.find(awayTeam);
+        if (homeTeamId == TeamRegistry.UNKNOWN_TEAM || awayTeamId == TeamRegistry.UNKNOWN_TEAM) {
+            return null;
+        }
+        MatchDetails details = scoreboard.get(TeamRegistry.matchKey(homeTeamId, awayTeamId));
+        if (details == null || !details.getTeamPair().homeTeam().equals(homeTeam) || !details.getTeamPair().awayTeam().equals(awayTeam)) {
+            return null;
+        }
+        return details;
+    }
+
+    private MatchTeamPair teamPair(int homeTeamId, int awayTeamId) {
+        return new MatchTeamPair(teams.name(homeTeamId), teams.name(awayTeamId));
+    }
+
+    /**
+     * Sets the score of a record and moves it to its new rank in the ranked index. Must be called holding the monitor of the record.
+     *
+     * @param details Match record
+     * @param score   Packed score of the record
+     */
+    private void rank(MatchDetails details, long score) {
+        rankingChangesStarted.incrementAndGet();
+        try {
+            details.setPackedScore(score);
+            MatchRank previous = details.getRank();
+            MatchRank next = MatchRank.of(details, score, versions.incrementAndGet());
+            ranking.add(next);
+            if (previous != null) {
+                ranking.remove(previous);
+            }
+            details.setRank(next);
+        } finally {
+            rankingChangesCompleted.incrementAndGet();
+        }
+    }
+
+    /**
+     * Ranks a record with a changed score, and publishes the score change. If the record has moved past other records, then a rank change follows it.
+     * Must be called holding the monitor of the record.
+     *
+     * @param details Match record
+     * @param score   Packed score of the record
+     */
+    private void rankAndPublish(MatchDetails details, long score) {
+        MatchRank aheadBefore = ranking.lower(details.getRank());
+        rank(details, score);
+        MatchRank rank = details.getRank();
+        feed.publish(ScoreboardEvent.Type.SCORE_CHANGED, rank.match(), null);
+        MatchRank aheadAfter = ranking.lower(rank);
+        if (rankedDetails(aheadAfter) != rankedDetails(aheadBefore)) {
+            feed.publish(ScoreboardEvent.Type.RANK_CHANGED, rank.match(), aheadAfter == null ? null : aheadAfter.match());
+        }
+    }
+
+    private static MatchDetails rankedDetails(MatchRank rank) {
+        return rank == null ? null : rank.details();
+    }
+
+    /**
+     * Claims both teams of a new record as playing. Teams are checked before the record is built, and the claim settles a race with a start on another shard,
+     * in which case the team claimed first is released.
+     *
+     * @param details New match record
+     * @return Outcome of the claim, rejected if one of the teams has been claimed by another match.
+     */
+    private ScoreboardOutcome claim(MatchDetails details) {
+        MatchTeamPair teamPair = details.getTeamPair();
+        if (playing.putIfAbsent(teamPair.homeTeam(), details) != null) {
+            return ScoreboardOutcome.HOME_TEAM_ALREADY_PLAYING;
+        }
+        if (playing.putIfAbsent(teamPair.awayTeam(), details) != null) {
+            playing.remove(teamPair.homeTeam(), details);
+            return ScoreboardOutcome.AWAY_TEAM_ALREADY_PLAYING;
+        }
+        return ScoreboardOutcome.APPLIED;
+    }
+
+    /**
+     * Claims the teams of a restored record. A state saved before teams were exclusive may have a team in two matches, in which case the first match keeps the team.
+     */
+    private void claimRestored(MatchDetails details) {
+        playing.putIfAbsent(details.getTeamPair().homeTeam(), details);
+        playing.putIfAbsent(details.getTeamPair().awayTeam(), details);
+    }
+
+    /**
+     * Releases the teams of a finished record. The team ids are released before the teams stop playing, so a start of either team
+     * is rejected until its id is free, and never registers the team under the id that is being released.
+     */
+    private void release(MatchDetails details) {
+        teams.release(TeamRegistry.homeTeamIdOf(details.getMatchKey()));
+        teams.release(TeamRegistry.awayTeamIdOf(details.getMatchKey()));
+        playing.remove(details.getTeamPair().homeTeam(), details);
+        playing.remove(details.getTeamPair().awayTeam(), details);
+    }
+
+    /**
+     * Returns a running match by its teams from the table, without passing the gate. The match is the immutable value of the ranked index entry of the record,
+     * so nothing is copied, and a record that is not ranked is either being started or finished.
+     *
+     * @param homeTeam Home team name
+     * @param awayTeam Away team name
+     * @return Running match of the teams, null if the match is not running.
+     */
+    @Override
+    public Match match(String homeTeam, String awayTeam) {
+        MatchDetails details = find(homeTeam, awayTeam);
+        MatchRank rank = details == null ? null : details.getRank();
+        return rank == null ? null : rank.match();
+    }
+
+    /**
+     * Returns the running match of a team from the playing teams. A record is ranked only after its teams are claimed, and unranked before they are released,
+     * thus a claim of a start that has been rejected is never answered.
+     *
+     * @param team Team name
+     * @return Running match of the team, null if the team is not playing.
+     */
+    @Override
+    public Match currentMatch(String team) {
+        MatchDetails details = playing.get(team);
+        MatchRank rank = details == null ? null : details.getRank();
+        return rank == null ? null : rank.match();
+    }
+
+    /**
+     * Subscribes to the change feed of the cache.
+     *
+     * @param subscriber Subscriber of the change events
+     */
+    @Override
+    public void subscribe(Flow.Subscriber<? super ScoreboardEvent> subscriber) {
+        feed.subscribe(subscriber);
+    }
+
+    /**
+     * Marks a record as finished, removes it from the ranked index and remembers its finish for the deltas of the summary.
+     * Must be called holding the monitors of the table and of the record.
+     *
+     * @param details Match record
+     */
+    private void unrank(MatchDetails details) {
+        rankingChangesStarted.incrementAndGet();
+        try {
+            details.setFinished(true);
+            ranking.remove(details.getRank());
+            int slot = (int) (finishes % FINISHES_REMEMBERED);
+            if (finishes >= FINISHES_REMEMBERED) {
+                forgottenFinishVersion = finishVersions[slot];
+            }
+            finishedMatches[slot] = details.getRank().match();
+            finishVersions[slot] = versions.incrementAndGet();
+            finishes++;
+            details.setRank(null);
+        } finally {
+            rankingChangesCompleted.incrementAndGet();
+        }
+    }
+
+    /**
+     * Returns a range of the running matches in summary order by walking the ranked index up to the end of the range.
+     * Matches are the immutable values of the index entries, so nothing is copied.
+     * If the walk overlaps a write, then a consistent order cannot be guaranteed from the index, and the entries are sorted from a snapshot instead.
+     * The snapshot is taken passing the gate, so it never holds a part of a batch. Only this fallback sorts all the running matches.
+     *
+     * @param offset Count of the leading matches to skip
+     * @param limit  Maximum count of the matches to return
+     * @return Running matches of the range ordered by {@link ScoreboardCache#RANKING}.
+     */
+    @Override
+    public List<Match> ranked(int offset, int limit) {
+        return ranked(offset, limit, MatchRank::match);
+    }
+
+    /**
+     * Returns a range of the ranked index entries in summary order, the same way as {@link ScoreboardCache#ranked(int, int)}.
+     * A sharded store merges the entries of its shards.
+     *
+     * @param offset Count of the leading entries to skip
+     * @param limit  Maximum count of the entries to return
+     * @return Ranked index entries of the range ordered by {@link ScoreboardCache#RANKING}.
+     */
+    List<MatchRank> rankedEntries(int offset, int limit) {
+        return ranked(offset, limit, Function.identity());
+    }
+
+    private <T> List<T> ranked(int offset, int limit, Function<MatchRank, T> view) {
+        long completed = rankingChangesCompleted.get();
+        if (rankingChangesStarted.get() == completed) {
+            List<T> ranked = ranking.stream().skip(offset).limit(limit).map(view).toList();
+            if (rankingChangesStarted.get() == completed) {
+                return ranked;
+            }
+        }
+        List<MatchRank> snapshot;
+        long stamp = enter();
+        try {
+            snapshot = scoreboard.values().stream()
+                    .map(MatchDetails::getRank)
+                    .filter(Objects::nonNull)
+                    .toList();
+        } finally {
+            leave(stamp);
+        }
+        return snapshot.stream()
+                .sorted(RANKING)
+                .skip(offset)
+                .limit(limit)
+                .map(view)
+                .toList();
+    }
+
+    /**
+     * Returns the current board version. Every change of the ranked index takes a higher version.
+     *
+     * @return Board version
+     */
+    @Override
+    public long version() {
+        return versions.get();
+    }
+
+    /**
+     * Reads the ranked index with the matches finished since a board version, as one consistent read.
+     * The read is made optimistically like a walk of the ranked index. If it overlaps a change, then it is made again holding the gate exclusively,
+     * which holds off the writes for the length of a walk, but sorts nothing.
+     * The ring of the finished matches is held in plain fields, thus an acquire fence orders their reads before the change counter is checked again,
+     * as a seqlock reader does, so a read that raced a finish is never taken as consistent.
+     *
+     * @param since Board version of the summary of the caller
+     * @return Ranked index entries and finished matches at the current board version
+     */
+    @Override
+    public RankedChanges changesSince(long since) {
+        long completed = rankingChangesCompleted.get();
+        if (rankingChangesStarted.get() == completed) {
+            RankedChanges changes = readChanges(since);
+            VarHandle.acquireFence();
+            if (rankingChangesStarted.get() == completed) {
+                return changes;
+            }
+        }
+        long stamp = gate.writeLock();
+        try {
+            return readChanges(since);
+        } finally {
+            gate.unlockWrite(stamp);
+        }
+    }
+
+    /**
+     * Reads the board version before the ranked index, so every change up to the version is reflected by the read when no change overlaps it.
+     */
+    private RankedChanges readChanges(long since) {
+        long version = versions.get();
+        List<MatchRank> ranked = List.copyOf(ranking);
+        List<Match> finished = new ArrayList<>();
+        long finishCount = finishes;
+        for (long finish = Math.max(0L, finishCount - FINISHES_REMEMBERED); finish < finishCount; finish++) {
+            int slot = (int) (finish % FINISHES_REMEMBERED);
+            if (finishVersions[slot] > since) {
+                finished.add(finishedMatches[slot]);
+            }
+        }
+        return new RankedChanges(version, ranked, finished, forgottenFinishVersion <= since);
+    }
+
+    private static int compareRank(MatchRank rank1, MatchRank rank2) {
+        int byTotalScore = Integer.compare(rank2.totalScore(), rank1.totalScore());
+        if (byTotalScore != 0) {
+            return byTotalScore;
+        }
+        return Long.compare(rank2.startSequence(), rank1.startSequence());
     }
 
 }
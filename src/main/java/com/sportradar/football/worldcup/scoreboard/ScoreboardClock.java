@@ -5,18 +5,37 @@ import java.time.LocalDateTime;
 
 /**
  * Common module clock implementation for Scoreboard module. This internal clock layer enables manipulation and encapsulation of the time based operations within the module when necessary.
+ * The time source and its zone are resolved once, when the clock is created. See {@link ClockStrategy} for the cheaper variants of the clock.
  *
  * @author Ozan Aksoy
  */
 class ScoreboardClock {
 
+    private final Clock clock;
+
+    /**
+     * Module clock on the system clock in the default zone of the system.
+     */
+    public ScoreboardClock() {
+        this(Clock.systemDefaultZone());
+    }
+
+    /**
+     * Module clock on a given clock, such as a fixed clock of a test.
+     *
+     * @param clock Time source and zone of the module clock
+     */
+    public ScoreboardClock(Clock clock) {
+        this.clock = clock;
+    }
+
     /**
      * Return module set time from the module clock.
      *
      * @return Configured module time.
      */
     public LocalDateTime fetchTime() {
-        return LocalDateTime.now(fetchClock());
+        return LocalDateTime.now(clock);
     }
 
     /**
@@ -25,7 +44,7 @@ class ScoreboardClock {
      * @return Module Clock.
      */
     public Clock fetchClock() {
-        return Clock.systemDefaultZone();
+        return clock;
     }
 
 }
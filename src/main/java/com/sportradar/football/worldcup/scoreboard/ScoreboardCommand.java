@@ -0,0 +1,124 @@
+package com.sportradar.football.worldcup.scoreboard;
+
+import java.io.Serializable;
+import java.util.Objects;
+
+/**
+ * Scoreboard write request to be applied within a batch. See {@link Scoreboard#applyBatch(java.util.List)}.
+ *
+ * @author Ozan Aksoy
+ */
+public final class ScoreboardCommand implements Serializable {
+
+    private static final long serialVersionUID = 1L;
+
+    /**
+     * Scoreboard operation requested by a command.
+     */
+    public enum Type {
+        START_MATCH,
+        UPDATE_SCORE,
+        FINISH_MATCH
+    }
+
+    private final Type type;
+
+    private final String homeTeam;
+
+    private final String awayTeam;
+
+    private final int homeScore;
+
+    private final int awayScore;
+
+    private ScoreboardCommand(Type type, String homeTeam, String awayTeam, int homeScore, int awayScore) {
+        this.type = type;
+        this.homeTeam = homeTeam;
+        this.awayTeam = awayTeam;
+        this.homeScore = homeScore;
+        this.awayScore = awayScore;
+    }
+
+    /**
+     * Command to initiate a match and register it to the score board.
+     *
+     * @param homeTeam Home Team Name
+     * @param awayTeam Away Team Name
+     * @return Start match command
+     */
+    public static ScoreboardCommand startMatch(String homeTeam, String awayTeam) {
+        return new ScoreboardCommand(Type.START_MATCH, homeTeam, awayTeam, 0, 0);
+    }
+
+    /**
+     * Command to update a running match with a pair of absolute scores.
+     *
+     * @param homeTeam      Home Team Name
+     * @param awayTeam      Away Team Name
+     * @param homeTeamScore Home team score point
+     * @param awayTeamScore Away team score point
+     * @return Update score command
+     */
+    public static ScoreboardCommand updateScore(String homeTeam, String awayTeam, int homeTeamScore, int awayTeamScore) {
+        return new ScoreboardCommand(Type.UPDATE_SCORE, homeTeam, awayTeam, homeTeamScore, awayTeamScore);
+    }
+
+    /**
+     * Command to remove a match from the scoreboard.
+     *
+     * @param homeTeam Home Team Name
+     * @param awayTeam Away Team Name
+     * @return Finish match command
+     */
+    public static ScoreboardCommand finishMatch(String homeTeam, String awayTeam) {
+        return new ScoreboardCommand(Type.FINISH_MATCH, homeTeam, awayTeam, 0, 0);
+    }
+
+    public Type getType() {
+        return type;
+    }
+
+    public String getHomeTeam() {
+        return homeTeam;
+    }
+
+    public String getAwayTeam() {
+        return awayTeam;
+    }
+
+    public int getHomeScore() {
+        return homeScore;
+    }
+
+    public int getAwayScore() {
+        return awayScore;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (!(o instanceof ScoreboardCommand command)) return false;
+        return type == command.type
+                && homeScore == command.homeScore
+                && awayScore == command.awayScore
+                && Objects.equals(homeTeam, command.homeTeam)
+                && Objects.equals(awayTeam, command.awayTeam);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(type, homeTeam, awayTeam, homeScore, awayScore);
+    }
+
+    @Override
+    public String toString() {
+        return "Command{" +
+                "type=" + type +
+                ", homeTeam='" + homeTeam + '\'' +
+                ", awayTeam='" + awayTeam + '\'' +
+                ", homeScore=" + homeScore +
+                ", awayScore=" + awayScore +
+                '}';
+    }
+
+}
@@ -0,0 +1,56 @@
+package com.sportradar.football.worldcup.scoreboard;
+
+import com.sportradar.football.worldcup.scoreboard.exception.ScoreboardConsistencyException;
+import com.sportradar.football.worldcup.scoreboard.exception.ScoreboardInputException;
+
+import java.io.IOException;
+import java.util.Optional;
+
+/**
+ * Result of a single {@link ScoreboardCommand} within a batch. A command is either applied to the scoreboard,
+ * or rejected with the exception that the same operation would have thrown on its own.
+ *
+ * @author Ozan Aksoy
+ */
+public final class ScoreboardCommandResult {
+
+    private final ScoreboardCommand command;
+
+    private final IOException failure;
+
+    ScoreboardCommandResult(ScoreboardCommand command, IOException failure) {
+        this.command = command;
+        this.failure = failure;
+    }
+
+    public ScoreboardCommand getCommand() {
+        return command;
+    }
+
+    /**
+     * Returns whether if the command has been applied to the scoreboard.
+     *
+     * @return If the command is applied.
+     */
+    public boolean isApplied() {
+        return failure == null;
+    }
+
+    /**
+     * Returns the cause of a rejected command.
+     *
+     * @return Either a {@link ScoreboardInputException} or a {@link ScoreboardConsistencyException}, empty if the command is applied.
+     */
+    public Optional<IOException> getFailure() {
+        return Optional.ofNullable(failure);
+    }
+
+    @Override
+    public String toString() {
+        return "CommandResult{" +
+                "command=" + command +
+                ", failure=" + failure +
+                '}';
+    }
+
+}
@@ -0,0 +1,75 @@
+package com.sportradar.football.worldcup.scoreboard;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * <p>Changes of the summary of a scoreboard since a board version, fetched by {@link Scoreboard#summarySince(long)}.</p>
+ * <br>
+ * <p>A delta holds the matches that were started or changed since the version, each with its position in the new summary, and the matches that were finished since the version.
+ * A match that has not changed keeps its place relative to the other unchanged matches, so its new position is implied by the changed ones, see {@link ScoreboardDelta#applyTo(List)}.
+ * If the changes since the version are not known any more, then the delta is full, and its changed matches are the whole summary.</p>
+ *
+ * @param version  Board version the delta brings the summary to, to be passed to the next {@link Scoreboard#summarySince(long)}.
+ * @param full     If the changed matches are the whole summary, rather than the changes since the version.
+ * @param changed  Started or changed matches in summary order, with their positions in the new summary.
+ * @param finished Matches finished since the version, as they were finished.
+ * @author Ozan Aksoy
+ */
+public record ScoreboardDelta(long version, boolean full, List<RankedMatch> changed, List<Match> finished) {
+
+    /**
+     * Match of a delta at its position in the summary.
+     *
+     * @param position Index of the match in the summary
+     * @param match    Match as it is in the summary
+     */
+    public record RankedMatch(int position, Match match) {
+    }
+
+    /**
+     * Answers if the summary has not changed since the version of the delta, in which case the summary of the caller is current.
+     *
+     * @return If the delta has no changes
+     */
+    public boolean isUnchanged() {
+        return !full && changed.isEmpty() && finished.isEmpty();
+    }
+
+    /**
+     * Applies the delta to the summary of the version it was fetched since. Matches are identified by their teams,
+     * so the finished and the changed matches are dropped from the given summary, and the rest are laid around the changed matches in their order.
+     *
+     * @param summary Summary of the version the delta was fetched since, ignored if the delta is full.
+     * @return Summary of the version of the delta
+     */
+    public List<Match> applyTo(List<Match> summary) {
+        List<Match> applied = new ArrayList<>(full ? changed.size() : summary.size() + changed.size());
+        Set<MatchTeamPair> dropped = new HashSet<>();
+        for (Match match : finished) {
+            dropped.add(new MatchTeamPair(match.getHomeTeam(), match.getAwayTeam()));
+        }
+        for (RankedMatch rankedMatch : changed) {
+            dropped.add(new MatchTeamPair(rankedMatch.match().getHomeTeam(), rankedMatch.match().getAwayTeam()));
+        }
+        Iterator<Match> unchanged = full ? Collections.emptyIterator() : summary.stream()
+                .filter(match -> !dropped.contains(new MatchTeamPair(match.getHomeTeam(), match.getAwayTeam())))
+                .iterator();
+        int next = 0;
+        while (next < changed.size() || unchanged.hasNext()) {
+            if (next < changed.size() && changed.get(next).position() == applied.size()) {
+                applied.add(changed.get(next++).match());
+            } else if (unchanged.hasNext()) {
+                applied.add(unchanged.next());
+            } else {
+                applied.add(changed.get(next++).match());
+            }
+        }
+        return Collections.unmodifiableList(applied);
+    }
+
+}
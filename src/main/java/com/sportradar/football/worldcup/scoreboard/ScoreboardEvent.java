@@ -0,0 +1,59 @@
+package com.sportradar.football.worldcup.scoreboard;
+
+import java.io.Serializable;
+import java.util.Optional;
+
+/**
+ * <p>Change of the scoreboard pushed to the subscribers of the change feed. See {@link Scoreboard#subscribe(java.util.concurrent.Flow.Subscriber)}.</p>
+ * <br>
+ * <p>Events of a scoreboard are numbered in the order they are published. A subscriber that falls too far behind misses events,
+ * which shows as a gap in the sequence numbers, and it can catch up by fetching a summary.</p>
+ *
+ * @param type       Kind of the change
+ * @param sequence   Publication order of the event on its scoreboard
+ * @param match      Match after the change. For a finished match, the match as it was finished.
+ * @param matchAhead Match directly ahead of the changed match in the summary after a rank change, null for other events or if the match leads the summary.
+ * @author Ozan Aksoy
+ */
+public record ScoreboardEvent(Type type, long sequence, Match match, Match matchAhead) implements Serializable {
+
+    /**
+     * Kind of a scoreboard change.
+     */
+    public enum Type {
+        /**
+         * A match has been started.
+         */
+        MATCH_STARTED,
+        /**
+         * Score of a running match has been changed.
+         */
+        SCORE_CHANGED,
+        /**
+         * A match has been finished and removed from the scoreboard.
+         */
+        MATCH_FINISHED,
+        /**
+         * A score change has moved a match up the summary, past at least one other match. Follows the score change event of the match.
+         * Not published by a sharded scoreboard, as each shard ranks only its own matches.
+         */
+        RANK_CHANGED
+    }
+
+    public Type getType() {
+        return type;
+    }
+
+    public long getSequence() {
+        return sequence;
+    }
+
+    public Match getMatch() {
+        return match;
+    }
+
+    public Optional<Match> getMatchAhead() {
+        return Optional.ofNullable(matchAhead);
+    }
+
+}
@@ -1,5 +1,12 @@
 package com.sportradar.football.worldcup.scoreboard;
 
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Path;
+import java.time.Clock;
+import java.time.Duration;
+import java.util.Objects;
+
 /**
  * Accessor factory Entity for Scoreboard calls and injections.
  *
@@ -16,7 +23,264 @@ public final class ScoreboardFactory {
      * @return Scoreboard with a Shared Memory
      */
     public static Scoreboard getScoreboard() {
-        return new ScoreboardImp(new ScoreboardCache(), new ScoreboardClock(), new ScoreboardAudit());
+        return builder().build();
+    }
+
+    /**
+     * Saves the running matches of a Scoreboard Instance to a compact binary snapshot file. See {@link ScoreboardFactory#loadSnapshot(Path)}.
+     *
+     * @param scoreboard Scoreboard created by this factory
+     * @param file       Snapshot file, replaced if it exists.
+     * @throws IOException The snapshot cannot be written.
+     */
+    public static void saveSnapshot(Scoreboard scoreboard, Path file) throws IOException {
+        if (!(scoreboard instanceof ScoreboardImp imp)) {
+            throw new IllegalArgumentException("Scoreboard is not created by this factory: " + scoreboard);
+        }
+        imp.saveSnapshot(file);
+    }
+
+    /**
+     * Creates a new Scoreboard Instance with the running matches of a snapshot file. See {@link ScoreboardFactory#saveSnapshot(Scoreboard, Path)}.
+     *
+     * @param file Snapshot file
+     * @return Scoreboard with a Shared Memory
+     * @throws IOException The snapshot cannot be read, or it is not a valid snapshot.
+     */
+    public static Scoreboard loadSnapshot(Path file) throws IOException {
+        return builder().build(new ScoreboardCache(ScoreboardSnapshot.read(file)));
+    }
+
+    /**
+     * Starts an ingestion pipeline in front of a Scoreboard Instance, where the writes of many threads are applied by a single writer thread in batches.
+     * See {@link ScoreboardIngestion}.
+     *
+     * @param scoreboard Scoreboard created by this factory
+     * @param bufferSize Slot count of the ring buffer of the pipeline, a power of two.
+     * @return Running ingestion pipeline, to be closed when it is no longer used.
+     */
+    public static ScoreboardIngestion ingestion(Scoreboard scoreboard, int bufferSize) {
+        if (!(scoreboard instanceof ScoreboardImp imp)) {
+            throw new IllegalArgumentException("Scoreboard is not created by this factory: " + scoreboard);
+        }
+        return new ScoreboardIngestion(imp, bufferSize);
+    }
+
+    /**
+     * Starts a builder for a Scoreboard Instance with non-default options.
+     *
+     * @return Scoreboard builder with the default options.
+     */
+    public static Builder builder() {
+        return new Builder();
+    }
+
+    /**
+     * Builder of a Scoreboard Instance. Each built Scoreboard has its own memory.
+     */
+    public static final class Builder {
+
+        private SummaryMode summaryMode = SummaryMode.COMPUTED_ON_READ;
+
+        private Path journalDirectory;
+
+        private int checkpointInterval = 100_000;
+
+        private Path snapshot;
+
+        private int shards = 1;
+
+        private Clock clock = Clock.systemDefaultZone();
+
+        private ClockStrategy clockStrategy = ClockStrategy.SYSTEM;
+
+        private boolean metrics;
+
+        private int archiveCapacity;
+
+        private Duration archiveRetention;
+
+        private Builder() {
+        }
+
+        /**
+         * Sets how the summary is produced. Defaults to {@link SummaryMode#COMPUTED_ON_READ}.
+         *
+         * @param summaryMode Summary mode
+         * @return This builder
+         */
+        public Builder summaryMode(SummaryMode summaryMode) {
+            this.summaryMode = Objects.requireNonNull(summaryMode);
+            return this;
+        }
+
+        /**
+         * Persists the Scoreboard to an append-only journal in a local directory. The Scoreboard is built with the running matches recovered from the journal,
+         * and each write returns once it is synced to disk. The Scoreboard locks the directory until it is closed, see {@link Scoreboard#close()}.
+         * By default the Scoreboard is not persisted.
+         *
+         * @param journalDirectory Directory of the journal files, created if it does not exist.
+         * @return This builder
+         */
+        public Builder journal(Path journalDirectory) {
+            this.journalDirectory = Objects.requireNonNull(journalDirectory);
+            return this;
+        }
+
+        /**
+         * Sets the count of the journal records after which a checkpoint of the running matches is written, so a recovery replays at most this many records.
+         * Defaults to 100000.
+         *
+         * @param checkpointInterval Count of the journal records between checkpoints
+         * @return This builder
+         */
+        public Builder checkpointInterval(int checkpointInterval) {
+            if (checkpointInterval <= 0) {
+                throw new IllegalArgumentException("Checkpoint interval must be positive: " + checkpointInterval);
+            }
+            this.checkpointInterval = checkpointInterval;
+            return this;
+        }
+
+        /**
+         * Starts the Scoreboard with the running matches of a snapshot file. See {@link ScoreboardFactory#saveSnapshot(Scoreboard, Path)}.
+         * A journal keeps its own state, thus a snapshot cannot be loaded into a Scoreboard with a journal.
+         *
+         * @param snapshot Snapshot file
+         * @return This builder
+         */
+        public Builder snapshot(Path snapshot) {
+            this.snapshot = Objects.requireNonNull(snapshot);
+            return this;
+        }
+
+        /**
+         * Spreads the matches over independent cache shards by their team pair, so writes on different matches do not contend with each other,
+         * and a summary merges the shards in summary order. A sharded Scoreboard does not publish rank changes to its change feed,
+         * and it cannot have a journal. Defaults to a single shard.
+         *
+         * @param shards Count of the shards
+         * @return This builder
+         */
+        public Builder shards(int shards) {
+            if (shards <= 0) {
+                throw new IllegalArgumentException("Shard count must be positive: " + shards);
+            }
+            this.shards = shards;
+            return this;
+        }
+
+        /**
+         * Sets the clock that the start times of the matches are read from. A fixed or offset clock makes the start times deterministic.
+         * Defaults to the system clock in the default zone of the system.
+         *
+         * @param clock Clock of the start times
+         * @return This builder
+         */
+        public Builder clock(Clock clock) {
+            this.clock = Objects.requireNonNull(clock);
+            return this;
+        }
+
+        /**
+         * Sets how the clock is read for the start times of the matches. Defaults to {@link ClockStrategy#SYSTEM}.
+         *
+         * @param clockStrategy Clock strategy
+         * @return This builder
+         */
+        public Builder clockStrategy(ClockStrategy clockStrategy) {
+            this.clockStrategy = Objects.requireNonNull(clockStrategy);
+            return this;
+        }
+
+        /**
+         * Sets whether the Scoreboard keeps operation metrics, which are polled by {@link Scoreboard#metrics()}.
+         * Defaults to false, where the operations are not measured at all.
+         *
+         * @param metrics If the metrics are kept
+         * @return This builder
+         */
+        public Builder metrics(boolean metrics) {
+            this.metrics = metrics;
+            return this;
+        }
+
+        /**
+         * Keeps the finished matches in a bounded archive, which is queried by {@link Scoreboard#finishedMatches(String)} and {@link Scoreboard#finishedMatches(java.time.LocalDateTime, java.time.LocalDateTime)}.
+         * The archive is held in memory apart from the running matches, and the oldest finished match is evicted when the archive is full.
+         * By default the finished matches are not kept.
+         *
+         * @param capacity Maximum count of the finished matches kept
+         * @return This builder
+         */
+        public Builder archive(int capacity) {
+            if (capacity <= 0) {
+                throw new IllegalArgumentException("Archive capacity must be positive: " + capacity);
+            }
+            this.archiveCapacity = capacity;
+            return this;
+        }
+
+        /**
+         * Keeps the finished matches in a bounded archive, evicting a finished match once it is older than the retention window, measured from the latest finish.
+         * See {@link Builder#archive(int)}.
+         *
+         * @param capacity  Maximum count of the finished matches kept
+         * @param retention Maximum time a finished match is kept after the latest finish
+         * @return This builder
+         */
+        public Builder archive(int capacity, Duration retention) {
+            if (Objects.requireNonNull(retention).isNegative()) {
+                throw new IllegalArgumentException("Archive retention must not be negative: " + retention);
+            }
+            archive(capacity);
+            this.archiveRetention = retention;
+            return this;
+        }
+
+        /**
+         * Creates a new Scoreboard Instance with the options of this builder.
+         *
+         * @return Scoreboard with a Shared Memory
+         * @throws UncheckedIOException The journal cannot be opened or recovered, its directory is locked by another Scoreboard, or the snapshot cannot be read.
+         * @throws IllegalStateException  Both a journal and a snapshot are given, or a journal is given to a sharded Scoreboard.
+         */
+        public Scoreboard build() {
+            return build(buildCache());
+        }
+
+        private Scoreboard build(ScoreboardStore cache) {
+            ScoreboardClock moduleClock = buildClock();
+            MatchArchive archive = archiveCapacity > 0 ? new MatchArchive(archiveCapacity, archiveRetention, moduleClock) : null;
+            return new ScoreboardImp(cache, moduleClock, new ScoreboardAudit(), summaryMode, metrics ? new ScoreboardInstrumentation() : null, archive);
+        }
+
+        private ScoreboardClock buildClock() {
+            return switch (clockStrategy) {
+                case SYSTEM -> new ScoreboardClock(clock);
+                case COARSE -> new CoarseScoreboardClock(clock);
+                case MONOTONIC -> new MonotonicScoreboardClock(clock);
+            };
+        }
+
+        private ScoreboardStore buildCache() {
+            if (journalDirectory != null && snapshot != null) {
+                throw new IllegalStateException("A snapshot cannot be loaded into a scoreboard with a journal.");
+            }
+            if (journalDirectory != null && shards > 1) {
+                throw new IllegalStateException("A sharded scoreboard cannot have a journal.");
+            }
+            try {
+                if (journalDirectory != null) {
+                    return new ScoreboardCache(new ScoreboardJournal(journalDirectory, checkpointInterval));
+                }
+                ScoreboardState state = snapshot != null ? ScoreboardSnapshot.read(snapshot) : ScoreboardState.EMPTY;
+                return shards > 1 ? new ShardedScoreboardCache(shards, state) : new ScoreboardCache(state);
+            } catch (IOException e) {
+                throw new UncheckedIOException("Scoreboard storage cannot be opened.", e);
+            }
+        }
+
     }
 
 }
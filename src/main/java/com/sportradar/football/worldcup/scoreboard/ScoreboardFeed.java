@@ -0,0 +1,63 @@
+package com.sportradar.football.worldcup.scoreboard;
+
+import java.util.concurrent.Flow;
+import java.util.concurrent.SubmissionPublisher;
+
+/**
+ * <p>Package encapsulated change feed of a scoreboard cache that pushes {@link ScoreboardEvent}s to the subscribers.</p>
+ * <br>
+ * <p>Events are offered to each subscriber's buffer and delivered on the executor of the publisher, so the writer never waits for a subscriber.
+ * If the buffer of a subscriber is full, the event is dropped for that subscriber only. Subscribers pull events with {@link Flow.Subscription#request(long)}.</p>
+ * <br>
+ * <p>No event is built unless the feed has a subscriber. Once the feed is closed, each subscriber is completed after its buffered events, and later events are dropped.</p>
+ *
+ * @author Ozan Aksoy
+ */
+class ScoreboardFeed {
+
+    private final SubmissionPublisher<ScoreboardEvent> publisher;
+
+    /**
+     * Sequence number of the last published event. Guarded by the monitor of the feed.
+     */
+    private long sequence;
+
+    public ScoreboardFeed() {
+        this.publisher = new SubmissionPublisher<>();
+    }
+
+    public void subscribe(Flow.Subscriber<? super ScoreboardEvent> subscriber) {
+        publisher.subscribe(subscriber);
+    }
+
+    /**
+     * Returns whether if any event would be delivered. Writers check it before building an event.
+     *
+     * @return If the feed has a subscriber.
+     */
+    public boolean isActive() {
+        return publisher.hasSubscribers();
+    }
+
+    /**
+     * Numbers and offers an event to the subscribers without blocking. Numbering and offering are done together, so the events reach each subscriber in sequence order.
+     *
+     * @param type       Kind of the change
+     * @param match      Changed match
+     * @param matchAhead Match ahead of a match that has changed rank
+     */
+    public synchronized void publish(ScoreboardEvent.Type type, Match match, Match matchAhead) {
+        if (!publisher.isClosed()) {
+            publisher.offer(new ScoreboardEvent(type, ++sequence, match, matchAhead), (subscriber, event) -> false);
+        }
+    }
+
+    /**
+     * Closes the feed, so each subscriber receives {@link Flow.Subscriber#onComplete()} once its buffered events are delivered.
+     * Closed within the monitor of the feed, thus no event is offered after it, and closing again has no effect.
+     */
+    public synchronized void close() {
+        publisher.close();
+    }
+
+}
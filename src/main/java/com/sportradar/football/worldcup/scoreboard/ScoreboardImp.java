@@ -3,10 +3,17 @@ package com.sportradar.football.worldcup.scoreboard;
 import com.sportradar.football.worldcup.scoreboard.exception.ScoreboardConsistencyException;
 import com.sportradar.football.worldcup.scoreboard.exception.ScoreboardInputException;
 
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.file.Path;
 import java.time.LocalDateTime;
-import java.util.Comparator;
+import java.util.ArrayList;
 import java.util.List;
-import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.Flow;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Supplier;
 
 /**
  * Default Scoreboard Implementation.
@@ -16,14 +23,14 @@ import java.util.Map;
 class ScoreboardImp implements Scoreboard {
 
     /**
-     * Scoreboard Cache.
+     * Scoreboard Cache, either a single cache or a sharded one.
      */
-    private final ScoreboardCache cache;
+    private final ScoreboardStore cache;
 
     /**
-     * Common Module Clock.
+     * Start time supplier of the new matches from the common module clock, bound once rather than by each start.
      */
-    private final ScoreboardClock clock;
+    private final Supplier<LocalDateTime> startTime;
 
     /**
      * Common Scoreboard Audit.
@@ -31,16 +38,60 @@ class ScoreboardImp implements Scoreboard {
     private final ScoreboardAudit audit;
 
     /**
-     * Default Scoreboard Implementation.
+     * Recorder of the operation metrics, null if the metrics are not kept. See {@link ScoreboardFactory.Builder#metrics(boolean)}.
+     */
+    private final ScoreboardInstrumentation instrumentation;
+
+    /**
+     * Archive of the finished matches, null if the finished matches are not kept. See {@link ScoreboardFactory.Builder#archive(int)}.
+     */
+    private final MatchArchive archive;
+
+    /**
+     * Renderer of the summary to the wire formats, which caches the rendered bytes by board version.
+     */
+    private final SummaryRenderer renderer;
+
+    /**
+     * Count of the sequenced updates dropped as stale events.
+     */
+    private final LongAdder droppedEvents = new LongAdder();
+
+    /**
+     * Signals that the summary is published by the writes. See {@link SummaryMode#PUBLISHED_ON_WRITE}.
+     */
+    private final boolean publishedOnWrite;
+
+    /**
+     * Monitor of the summary publications. Publications follow each other in the order of the writes they were built after.
+     */
+    private final Object publication = new Object();
+
+    /**
+     * Last published immutable summary, only maintained if the summary is published on write. The summary of a restored cache is published on creation.
+     */
+    private volatile List<Match> published = List.of();
+
+    /**
+     * Default Scoreboard Implementation, built by the {@link ScoreboardFactory}.
      *
-     * @param cache Scoreboard Cache
-     * @param clock Instance Clock
-     * @param audit Instance Audit
+     * @param cache           Scoreboard Cache
+     * @param clock           Instance Clock
+     * @param audit           Instance Audit
+     * @param summaryMode     Instance Summary Mode
+     * @param instrumentation Recorder of the operation metrics, null to keep no metrics.
+     * @param archive         Archive of the finished matches, null to keep no finished matches.
      */
-    public ScoreboardImp(ScoreboardCache cache, ScoreboardClock clock, ScoreboardAudit audit) {
+    ScoreboardImp(ScoreboardStore cache, ScoreboardClock clock, ScoreboardAudit audit, SummaryMode summaryMode, ScoreboardInstrumentation instrumentation,
+                  MatchArchive archive) {
         this.cache = cache;
-        this.clock = clock;
+        this.instrumentation = instrumentation;
+        this.archive = archive;
+        this.renderer = new SummaryRenderer(cache);
+        this.startTime = clock::fetchTime;
         this.audit = audit;
+        this.publishedOnWrite = summaryMode == SummaryMode.PUBLISHED_ON_WRITE;
+        publish();
     }
 
     /**
@@ -53,35 +104,13 @@ class ScoreboardImp implements Scoreboard {
      */
     @Override
     public void startMatch(String homeTeam, String awayTeam) throws ScoreboardInputException, ScoreboardConsistencyException {
-        audit.checkInputValidity(homeTeam, awayTeam);
-        MatchTeamPair teamPair = fillTeamPair(homeTeam, awayTeam);
-        audit.checkIfMustNotHaveEntry(cache.hasEntry(teamPair), homeTeam, awayTeam);
-        cache.put(teamPair, initiateDetails());
-    }
-
-    private MatchTeamPair fillTeamPair(String homeTeam, String awayTeam) {
-        MatchTeamPair teamPair = new MatchTeamPair();
-        teamPair.setHomeTeam(homeTeam);
-        teamPair.setAwayTeam(awayTeam);
-        return teamPair;
-    }
-
-    private MatchDetails initiateDetails() {
-        MatchDetails details = new MatchDetails();
-        details.setScore(initiateScore());
-        details.setStartTime(clock.fetchTime());
-        return details;
-    }
-
-    private MatchScore initiateScore() {
-        MatchScore score = new MatchScore();
-        score.setHomeScore(0);
-        score.setAwayScore(0);
-        return score;
+        checkOutcome(tryStartMatch(homeTeam, awayTeam), homeTeam, awayTeam);
     }
 
     /**
      * Receives a pair of absolute scores: home team score and away team score, then updates the scoreboard.
+     * The match is found by the team names and its score is changed in place. An applied update allocates the new ranked entry of the match,
+     * the immutable match it holds and a node of the ranked index, while a rejected update allocates nothing.
      *
      * @param homeTeamScore Home team score point
      * @param awayTeamScore Away team score point
@@ -90,31 +119,33 @@ class ScoreboardImp implements Scoreboard {
      */
     @Override
     public void updateScore(String homeTeam, String awayTeam, int homeTeamScore, int awayTeamScore) throws ScoreboardInputException, ScoreboardConsistencyException {
-        audit.checkInputValidity(homeTeam, awayTeam);
-        MatchTeamPair teamPair = fillTeamPair(homeTeam, awayTeam);
-        audit.checkIfMustHaveEntry(cache.hasEntry(teamPair), homeTeam, awayTeam);
-        MatchDetails details = cache.getDetails(teamPair);
-        audit.checkScoreConsistency(
-                homeTeamScore,
-                awayTeamScore,
-                details.getScore().getHomeScore(),
-                details.getScore().getAwayScore()
-        );
-        cache.put(teamPair, fillDetails(homeTeamScore, awayTeamScore, details.getStartTime()));
+        checkOutcome(tryUpdateScore(homeTeam, awayTeam, homeTeamScore, awayTeamScore), homeTeam, awayTeam);
     }
 
-    private MatchDetails fillDetails(int homeTeamScore, int awayTeamScore, LocalDateTime matchTime) {
-        MatchDetails details = new MatchDetails();
-        details.setScore(fillScore(homeTeamScore, awayTeamScore));
-        details.setStartTime(matchTime);
-        return details;
+    /**
+     * Adds a goal to the home team score, computed from the recorded score by the cache within the update of the match record.
+     *
+     * @param homeTeam Home team
+     * @param awayTeam Away team
+     * @throws ScoreboardInputException       Signals invalid input such as blank or null values.
+     * @throws ScoreboardConsistencyException Signals input that is inconsistent with the existing state of the Scoreboard.
+     */
+    @Override
+    public void homeGoal(String homeTeam, String awayTeam) throws ScoreboardInputException, ScoreboardConsistencyException {
+        checkOutcome(tryHomeGoal(homeTeam, awayTeam), homeTeam, awayTeam);
     }
 
-    private MatchScore fillScore(int homeTeamScore, int awayTeamScore) {
-        MatchScore score = new MatchScore();
-        score.setHomeScore(homeTeamScore);
-        score.setAwayScore(awayTeamScore);
-        return score;
+    /**
+     * Adds a goal to the away team score, computed from the recorded score by the cache within the update of the match record.
+     *
+     * @param homeTeam Home team
+     * @param awayTeam Away team
+     * @throws ScoreboardInputException       Signals invalid input such as blank or null values.
+     * @throws ScoreboardConsistencyException Signals input that is inconsistent with the existing state of the Scoreboard.
+     */
+    @Override
+    public void awayGoal(String homeTeam, String awayTeam) throws ScoreboardInputException, ScoreboardConsistencyException {
+        checkOutcome(tryAwayGoal(homeTeam, awayTeam), homeTeam, awayTeam);
     }
 
     /**
@@ -127,38 +158,512 @@ class ScoreboardImp implements Scoreboard {
      */
     @Override
     public void finishMatch(String homeTeam, String awayTeam) throws ScoreboardInputException, ScoreboardConsistencyException {
+        checkOutcome(tryFinishMatch(homeTeam, awayTeam), homeTeam, awayTeam);
+    }
+
+    /**
+     * Initiates a match without throwing. Input is checked without building an exception, and a rejection is answered by a constant outcome.
+     * The throwing operations are built on the tried ones, so the metrics count each call once, whichever way it is made.
+     *
+     * @param homeTeam Home Team Name
+     * @param awayTeam Away Team Name
+     * @return Outcome of the start
+     */
+    @Override
+    public ScoreboardOutcome tryStartMatch(String homeTeam, String awayTeam) {
+        if (instrumentation == null) {
+            return start(homeTeam, awayTeam);
+        }
+        long startTime = System.nanoTime();
+        return instrumentation.record(ScoreboardMetrics.Operation.START_MATCH, start(homeTeam, awayTeam), startTime);
+    }
+
+    /**
+     * Updates a score without throwing. Input is checked without building an exception, and a rejection is answered by a constant outcome.
+     *
+     * @param homeTeamScore Home team score point
+     * @param awayTeamScore Away team score point
+     * @return Outcome of the update
+     */
+    @Override
+    public ScoreboardOutcome tryUpdateScore(String homeTeam, String awayTeam, int homeTeamScore, int awayTeamScore) {
+        return tryUpdate(homeTeam, awayTeam, homeTeamScore, awayTeamScore, MatchDetails.NO_EVENT);
+    }
+
+    /**
+     * Updates a score by a sequenced event without throwing. A redelivered or late event is dropped by the cache before its score is audited,
+     * and counted as a dropped event.
+     *
+     * @param homeTeamScore Home team score point
+     * @param awayTeamScore Away team score point
+     * @param eventSequence Event sequence of the update in its match
+     * @return Outcome of the update
+     */
+    @Override
+    public ScoreboardOutcome tryUpdateScore(String homeTeam, String awayTeam, int homeTeamScore, int awayTeamScore, long eventSequence) {
+        if (eventSequence == MatchDetails.NO_EVENT) {
+            return ScoreboardOutcome.INVALID_INPUT;
+        }
+        ScoreboardOutcome outcome = tryUpdate(homeTeam, awayTeam, homeTeamScore, awayTeamScore, eventSequence);
+        if (outcome == ScoreboardOutcome.STALE_EVENT) {
+            droppedEvents.increment();
+        }
+        return outcome;
+    }
+
+    /**
+     * Returns the count of the sequenced updates dropped as redelivered or late events.
+     *
+     * @return Count of the dropped events
+     */
+    @Override
+    public long droppedEvents() {
+        return droppedEvents.sum();
+    }
+
+    private ScoreboardOutcome tryUpdate(String homeTeam, String awayTeam, int homeTeamScore, int awayTeamScore, long eventSequence) {
+        if (instrumentation == null) {
+            return update(homeTeam, awayTeam, homeTeamScore, awayTeamScore, eventSequence);
+        }
+        long startTime = System.nanoTime();
+        return instrumentation.record(ScoreboardMetrics.Operation.UPDATE_SCORE, update(homeTeam, awayTeam, homeTeamScore, awayTeamScore, eventSequence), startTime);
+    }
+
+    /**
+     * Adds a goal to the home team score without throwing. Goals are measured as score updates by the metrics.
+     *
+     * @param homeTeam Home team
+     * @param awayTeam Away team
+     * @return Outcome of the goal
+     */
+    @Override
+    public ScoreboardOutcome tryHomeGoal(String homeTeam, String awayTeam) {
+        return tryAddGoals(homeTeam, awayTeam, 1, 0);
+    }
+
+    /**
+     * Adds a goal to the away team score without throwing. Goals are measured as score updates by the metrics.
+     *
+     * @param homeTeam Home team
+     * @param awayTeam Away team
+     * @return Outcome of the goal
+     */
+    @Override
+    public ScoreboardOutcome tryAwayGoal(String homeTeam, String awayTeam) {
+        return tryAddGoals(homeTeam, awayTeam, 0, 1);
+    }
+
+    private ScoreboardOutcome tryAddGoals(String homeTeam, String awayTeam, int homeGoals, int awayGoals) {
+        if (instrumentation == null) {
+            return addGoals(homeTeam, awayTeam, homeGoals, awayGoals);
+        }
+        long startTime = System.nanoTime();
+        return instrumentation.record(ScoreboardMetrics.Operation.UPDATE_SCORE, addGoals(homeTeam, awayTeam, homeGoals, awayGoals), startTime);
+    }
+
+    /**
+     * Removes a match without throwing. Input is checked without building an exception, and a rejection is answered by a constant outcome.
+     *
+     * @param homeTeam Home team
+     * @param awayTeam Away team
+     * @return Outcome of the finish
+     */
+    @Override
+    public ScoreboardOutcome tryFinishMatch(String homeTeam, String awayTeam) {
+        if (instrumentation == null) {
+            return finish(homeTeam, awayTeam);
+        }
+        long startTime = System.nanoTime();
+        return instrumentation.record(ScoreboardMetrics.Operation.FINISH_MATCH, finish(homeTeam, awayTeam), startTime);
+    }
+
+    private ScoreboardOutcome start(String homeTeam, String awayTeam) {
+        if (!audit.isValidInput(homeTeam, awayTeam)) {
+            return ScoreboardOutcome.INVALID_INPUT;
+        }
+        return published(cache.start(homeTeam, awayTeam, startTime));
+    }
+
+    private ScoreboardOutcome update(String homeTeam, String awayTeam, int homeTeamScore, int awayTeamScore, long eventSequence) {
+        if (!audit.isValidInput(homeTeam, awayTeam)) {
+            return ScoreboardOutcome.INVALID_INPUT;
+        }
+        return published(cache.update(homeTeam, awayTeam, homeTeamScore, awayTeamScore, eventSequence, audit));
+    }
+
+    private ScoreboardOutcome addGoals(String homeTeam, String awayTeam, int homeGoals, int awayGoals) {
+        if (!audit.isValidInput(homeTeam, awayTeam)) {
+            return ScoreboardOutcome.INVALID_INPUT;
+        }
+        return published(cache.addGoals(homeTeam, awayTeam, homeGoals, awayGoals, audit));
+    }
+
+    private ScoreboardOutcome finish(String homeTeam, String awayTeam) {
+        if (!audit.isValidInput(homeTeam, awayTeam)) {
+            return ScoreboardOutcome.INVALID_INPUT;
+        }
+        return published(cache.finish(homeTeam, awayTeam, archive));
+    }
+
+    /**
+     * Publishes the summary after an applied write. A rejected write changes nothing, thus it publishes nothing.
+     * A write whose journal sync has failed may have changed the cache, thus it is published too.
+     */
+    private ScoreboardOutcome published(ScoreboardOutcome outcome) {
+        if (outcome.isApplied() || outcome == ScoreboardOutcome.WRITE_FAILED) {
+            publish();
+        }
+        return outcome;
+    }
+
+    /**
+     * Checks the outcome of a throwing operation. A write that the journal has failed is thrown with the failure of the journal,
+     * and the other rejections are thrown by the audit.
+     *
+     * @throws java.io.UncheckedIOException The journal of the Scoreboard has failed.
+     */
+    private void checkOutcome(ScoreboardOutcome outcome, String homeTeam, String awayTeam) throws ScoreboardInputException, ScoreboardConsistencyException {
+        if (outcome == ScoreboardOutcome.WRITE_FAILED) {
+            throw new UncheckedIOException("Scoreboard journal cannot be written.", cache.journalFailure());
+        }
+        audit.checkOutcome(outcome, homeTeam, awayTeam);
+    }
+
+    /**
+     * Applies a list of start match, update score and finish match commands in the given order as a single batch.
+     * Input of every command is checked first, then the valid commands are applied holding the cache exclusively.
+     * The summary is published even if the journal fails the batch, as the batch may have changed the cache.
+     *
+     * @param commands Scoreboard commands
+     * @return A result for each command, in the order of the commands.
+     * @throws UncheckedIOException The journal of the Scoreboard has failed.
+     */
+    @Override
+    public List<ScoreboardCommandResult> applyBatch(List<ScoreboardCommand> commands) {
+        long startTime = instrumentation == null ? 0L : System.nanoTime();
+        IOException[] failures = new IOException[commands.size()];
+        for (int i = 0; i < commands.size(); i++) {
+            try {
+                checkCommandValidity(commands.get(i));
+            } catch (ScoreboardInputException e) {
+                failures[i] = e;
+                if (commands.get(i) != null) {
+                    count(commands.get(i).getType(), ScoreboardOutcome.INVALID_INPUT);
+                }
+            }
+        }
+        try {
+            cache.batch(() -> {
+                for (int i = 0; i < commands.size(); i++) {
+                    if (failures[i] == null) {
+                        ScoreboardCommand command = commands.get(i);
+                        ScoreboardOutcome outcome = applyCommand(command);
+                        count(command.getType(), outcome);
+                        if (!outcome.isApplied()) {
+                            failures[i] = audit.rejectionOf(outcome, command.getHomeTeam(), command.getAwayTeam());
+                        }
+                    }
+                }
+            });
+        } finally {
+            publish();
+        }
+        List<ScoreboardCommandResult> results = new ArrayList<>(commands.size());
+        for (int i = 0; i < commands.size(); i++) {
+            results.add(new ScoreboardCommandResult(commands.get(i), failures[i]));
+        }
+        if (instrumentation != null) {
+            instrumentation.record(ScoreboardMetrics.Operation.BATCH, ScoreboardOutcome.APPLIED, startTime);
+        }
+        return results;
+    }
+
+    /**
+     * Applies a write of an ingestion pipeline, without publishing the summary. Must be called within {@link ScoreboardImp#ingest(Runnable)}.
+     * The write is counted by its operation as a batch command is, and a dropped stale event is counted as well.
+     *
+     * @param type          Type of the write
+     * @param homeTeam      Home team name
+     * @param awayTeam      Away team name
+     * @param homeScore     Home team score point of an update
+     * @param awayScore     Away team score point of an update
+     * @param eventSequence Event sequence of an update, or {@link MatchDetails#NO_EVENT} if the update is not sequenced.
+     * @return Outcome of the write
+     */
+    ScoreboardOutcome ingested(ScoreboardCommand.Type type, String homeTeam, String awayTeam, int homeScore, int awayScore, long eventSequence) {
+        ScoreboardOutcome outcome;
+        if (!audit.isValidInput(homeTeam, awayTeam)) {
+            outcome = ScoreboardOutcome.INVALID_INPUT;
+        } else {
+            outcome = switch (type) {
+                case START_MATCH -> cache.start(homeTeam, awayTeam, startTime);
+                case UPDATE_SCORE -> cache.update(homeTeam, awayTeam, homeScore, awayScore, eventSequence, audit);
+                case FINISH_MATCH -> cache.finish(homeTeam, awayTeam, archive);
+            };
+        }
+        if (outcome == ScoreboardOutcome.STALE_EVENT) {
+            droppedEvents.increment();
+        }
+        count(type, outcome);
+        return outcome;
+    }
+
+    /**
+     * Runs the writes of an ingestion pipeline as a single batch of the cache, then publishes the summary once for all of them.
+     *
+     * @param writes Writes of the batch, made by {@link ScoreboardImp#ingested(ScoreboardCommand.Type, String, String, int, int, long)} on the calling thread.
+     */
+    void ingest(Runnable writes) {
+        try {
+            cache.batch(writes);
+        } finally {
+            publish();
+        }
+    }
+
+    /**
+     * Counts the outcome of a batch command by the operation of the command, if the metrics are kept.
+     */
+    private void count(ScoreboardCommand.Type type, ScoreboardOutcome outcome) {
+        if (instrumentation != null) {
+            instrumentation.count(switch (type) {
+                case START_MATCH -> ScoreboardMetrics.Operation.START_MATCH;
+                case UPDATE_SCORE -> ScoreboardMetrics.Operation.UPDATE_SCORE;
+                case FINISH_MATCH -> ScoreboardMetrics.Operation.FINISH_MATCH;
+            }, outcome);
+        }
+    }
+
+    private void checkCommandValidity(ScoreboardCommand command) throws ScoreboardInputException {
+        audit.checkNullInput(ScoreboardAudit.COMMAND, command);
+        audit.checkInputValidity(command.getHomeTeam(), command.getAwayTeam());
+    }
+
+    private ScoreboardOutcome applyCommand(ScoreboardCommand command) {
+        return switch (command.getType()) {
+            case START_MATCH -> cache.start(command.getHomeTeam(), command.getAwayTeam(), startTime);
+            case UPDATE_SCORE -> cache.update(command.getHomeTeam(), command.getAwayTeam(), command.getHomeScore(), command.getAwayScore(), MatchDetails.NO_EVENT, audit);
+            case FINISH_MATCH -> cache.finish(command.getHomeTeam(), command.getAwayTeam(), archive);
+        };
+    }
+
+    /**
+     * Fetches a running match by its teams from the cache, without walking the matches. The match is an immutable value shared with the cache, thus it is not copied.
+     * The match is read from the cache as it is, even if the summary is published on write.
+     *
+     * @param homeTeam Home team name
+     * @param awayTeam Away team name
+     * @return Running match of the teams, or an empty result if the match is not running.
+     * @throws ScoreboardInputException Signals invalid input such as blank or null values.
+     */
+    @Override
+    public Optional<Match> match(String homeTeam, String awayTeam) throws ScoreboardInputException {
         audit.checkInputValidity(homeTeam, awayTeam);
-        MatchTeamPair teamPair = fillTeamPair(homeTeam, awayTeam);
-        audit.checkIfMustHaveEntry(cache.hasEntry(teamPair), homeTeam, awayTeam);
-        cache.remove(teamPair);
+        return Optional.ofNullable(cache.match(homeTeam, awayTeam));
+    }
+
+    /**
+     * Fetches the running match of a team from the playing teams of the cache, without walking the matches.
+     * The match is read from the cache as it is, even if the summary is published on write.
+     *
+     * @param team Team name
+     * @return Running match of the team, or an empty result if the team is not playing.
+     * @throws ScoreboardInputException Signals invalid input such as blank or null values.
+     */
+    @Override
+    public Optional<Match> currentMatch(String team) throws ScoreboardInputException {
+        audit.checkBlankInput(ScoreboardAudit.TEAM, team);
+        return Optional.ofNullable(cache.currentMatch(team));
+    }
+
+    /**
+     * Fetches the archived finished matches of a team, walking only the archive entries of the team.
+     *
+     * @param team Team name
+     * @return Finished matches of the team, latest finish first, or an empty list if the finished matches are not kept.
+     * @throws ScoreboardInputException Signals invalid input such as blank or null values.
+     */
+    @Override
+    public List<FinishedMatch> finishedMatches(String team) throws ScoreboardInputException {
+        audit.checkBlankInput(ScoreboardAudit.TEAM, team);
+        return archive == null ? List.of() : archive.byTeam(team);
+    }
+
+    /**
+     * Fetches the archived matches finished within a time range, found by a binary search of the finish times of the archive.
+     *
+     * @param from Start of the range, inclusive.
+     * @param to   End of the range, exclusive.
+     * @return Finished matches of the range, earliest finish first, or an empty list if the finished matches are not kept.
+     * @throws ScoreboardInputException Signals invalid input such as null values.
+     */
+    @Override
+    public List<FinishedMatch> finishedMatches(LocalDateTime from, LocalDateTime to) throws ScoreboardInputException {
+        audit.checkNullInput(ScoreboardAudit.FINISHED_FROM, from);
+        audit.checkNullInput(ScoreboardAudit.FINISHED_TO, to);
+        return archive == null ? List.of() : archive.finishedBetween(from, to);
+    }
+
+    /**
+     * Polls the operation metrics, with the running match and team counts of the cache as gauges.
+     *
+     * @return Metrics snapshot, or an empty result if the metrics are not kept.
+     */
+    @Override
+    public Optional<ScoreboardMetrics> metrics() {
+        return instrumentation == null ? Optional.empty() : Optional.of(instrumentation.snapshot(cache));
+    }
+
+    /**
+     * Subscribes to the change feed of the Scoreboard, which is kept by the cache.
+     *
+     * @param subscriber Subscriber of the change events
+     */
+    @Override
+    public void subscribe(Flow.Subscriber<? super ScoreboardEvent> subscriber) {
+        cache.subscribe(subscriber);
     }
 
     /**
-     * Fetches a summary of the Scoreboard.
+     * Fetches a summary of the Scoreboard. Matches are already kept in summary order by the cache ranking, see {@link ScoreboardCache#RANKING}.
+     * Matches of the summary are immutable values shared with the cache, thus they are not copied.
+     * If the summary is published on write, then the last published summary is returned as it is.
      */
     @Override
     public List<Match> summary() {
-        return cache.snapshot().entrySet().stream()
-                .map(this::decorateMatch)
-                .sorted(getTotalScoreComparator().reversed().thenComparing(getMatchTimeComparator())).toList();
+        if (instrumentation == null) {
+            return publishedOnWrite ? published : cache.ranked();
+        }
+        long startTime = System.nanoTime();
+        List<Match> summary = publishedOnWrite ? published : cache.ranked();
+        instrumentation.record(ScoreboardMetrics.Operation.SUMMARY, ScoreboardOutcome.APPLIED, startTime);
+        return summary;
     }
 
-    private Comparator<Match> getTotalScoreComparator() {
-        return Comparator.comparingInt(match -> (match.getHomeScore() + match.getAwayScore()));
+    /**
+     * Fetches the leading matches of the summary of the Scoreboard, in summary order.
+     *
+     * @param limit Maximum count of the matches to return
+     * @throws ScoreboardInputException Signals invalid input such as a negative limit.
+     */
+    @Override
+    public List<Match> summary(int limit) throws ScoreboardInputException {
+        return summary(0, limit);
+    }
+
+    /**
+     * Fetches a page of the summary of the Scoreboard. The ranked index is walked only as far as the page,
+     * and if the summary is published on write, then the page is a view of the published summary.
+     *
+     * @param offset Count of the leading matches of the summary to skip
+     * @param limit  Maximum count of the matches to return
+     * @throws ScoreboardInputException Signals invalid input such as a negative offset or limit.
+     */
+    @Override
+    public List<Match> summary(int offset, int limit) throws ScoreboardInputException {
+        audit.checkRangeValidity(offset, limit);
+        if (instrumentation == null) {
+            return page(offset, limit);
+        }
+        long startTime = System.nanoTime();
+        List<Match> page = page(offset, limit);
+        instrumentation.record(ScoreboardMetrics.Operation.SUMMARY, ScoreboardOutcome.APPLIED, startTime);
+        return page;
     }
 
-    private Comparator<Match> getMatchTimeComparator() {
-        return (match1, match2) -> match2.getMatchTime().compareTo(match1.getMatchTime());
+    /**
+     * Returns the current board version of the cache.
+     */
+    @Override
+    public long version() {
+        return cache.version();
     }
 
-    private Match decorateMatch(Map.Entry<MatchTeamPair, MatchDetails> entry) {
-        Match match = new Match();
-        match.setHomeTeam(entry.getKey().getHomeTeam());
-        match.setAwayTeam(entry.getKey().getAwayTeam());
-        match.setMatchTime(entry.getValue().getStartTime());
-        match.setHomeScore(entry.getValue().getScore().getHomeScore());
-        match.setAwayScore(entry.getValue().getScore().getAwayScore());
-        return match;
+    /**
+     * Fetches the changes of the summary since a board version. If the board version has not moved, then nothing is read from the cache.
+     * Otherwise the ranked index is read as it is without sorting, and only the matches ranked after the version are copied to the delta.
+     * The delta is read from the cache even if the summary is published on write. A version the cache has not reached yet is answered by a full delta.
+     *
+     * @param version Board version of the summary of the caller
+     * @throws ScoreboardInputException Signals invalid input such as a negative version.
+     */
+    @Override
+    public ScoreboardDelta summarySince(long version) throws ScoreboardInputException {
+        audit.checkNegativeInput(ScoreboardAudit.SUMMARY_VERSION, version);
+        if (instrumentation == null) {
+            return delta(version);
+        }
+        long startTime = System.nanoTime();
+        ScoreboardDelta delta = delta(version);
+        instrumentation.record(ScoreboardMetrics.Operation.SUMMARY, ScoreboardOutcome.APPLIED, startTime);
+        return delta;
+    }
+
+    /**
+     * Fetches the summary rendered to a wire format. The rendering is read from the cache even if the summary is published on write,
+     * and it is rendered again only when the board version has moved.
+     *
+     * @param format Wire format
+     * @throws ScoreboardInputException Signals invalid input such as a null format.
+     */
+    @Override
+    public ByteBuffer renderedSummary(SummaryFormat format) throws ScoreboardInputException {
+        audit.checkNullInput(ScoreboardAudit.SUMMARY_FORMAT, format);
+        if (instrumentation == null) {
+            return renderer.render(format);
+        }
+        long startTime = System.nanoTime();
+        ByteBuffer rendered = renderer.render(format);
+        instrumentation.record(ScoreboardMetrics.Operation.SUMMARY, ScoreboardOutcome.APPLIED, startTime);
+        return rendered;
+    }
+
+    private ScoreboardDelta delta(long since) {
+        long current = cache.version();
+        if (since == current) {
+            return new ScoreboardDelta(since, false, List.of(), List.of());
+        }
+        return cache.changesSince(since).delta(since > current ? 0L : since);
+    }
+
+    private List<Match> page(int offset, int limit) {
+        if (publishedOnWrite) {
+            List<Match> summary = published;
+            int from = Math.min(offset, summary.size());
+            return summary.subList(from, from + Math.min(limit, summary.size() - from));
+        }
+        return cache.ranked(offset, limit);
+    }
+
+    /**
+     * Saves the teams and the running matches of the Scoreboard to a snapshot file.
+     *
+     * @param file Snapshot file, replaced if it exists.
+     * @throws IOException The snapshot cannot be written.
+     */
+    void saveSnapshot(Path file) throws IOException {
+        ScoreboardSnapshot.write(file, cache.state());
+    }
+
+    /**
+     * Closes the cache, which syncs and closes its journal if it has one, and closes the change feed, so each subscriber receives {@code onComplete}.
+     * The ingestion pipelines of the Scoreboard are closed by their owners.
+     */
+    @Override
+    public void close() {
+        cache.close();
+    }
+
+    /**
+     * Builds and publishes the summary after a write, if the summary is published on write.
+     * The summary is built within the publication monitor, thus a publication never replaces a later one, and a writer returns only after its write is published.
+     */
+    private void publish() {
+        if (publishedOnWrite) {
+            synchronized (publication) {
+                published = cache.ranked();
+            }
+        }
     }
 
 }
\ No newline at end of file
@@ -0,0 +1,388 @@
+package com.sportradar.football.worldcup.scoreboard;
+
+import java.util.Arrays;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.AtomicIntegerArray;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.LockSupport;
+import java.util.function.Consumer;
+
+/**
+ * <p>Ingestion pipeline of a Scoreboard, where many producer threads hand their writes over to a single writer thread. See {@link ScoreboardFactory#ingestion(Scoreboard, int)}.</p>
+ * <br>
+ * <p>Writes are queued in a preallocated ring buffer. A producer claims the next slot with a single atomic increment, fills the slot in place and publishes it,
+ * so a write is queued without a lock and without allocating, unless its completion is a future. When the ring is full, the producer waits for the writer to free a slot.</p>
+ * <br>
+ * <p>The writer thread takes the published writes in claim order, and applies each run of them as a single batch of the Scoreboard, so the cache is taken once per run
+ * rather than once per write, the cache monitors are never contended by another ingesting writer, and the summary is published once per run.
+ * Then it completes the writes of the run with their outcomes, on the writer thread, thus completions must be short.</p>
+ * <br>
+ * <p>The Scoreboard can still be read and written directly while the pipeline runs. Closing the pipeline applies the writes that have been queued, then stops the writer thread.</p>
+ * <br>
+ * <p>If a run fails, such as when the journal of the Scoreboard cannot be written, the pipeline fails: it is closed, the writes of the run and the writes queued after it
+ * are completed with {@link ScoreboardOutcome#WRITE_FAILED}, and the failure is thrown by the later writes and by {@link ScoreboardIngestion#close()}.</p>
+ *
+ * @author Ozan Aksoy
+ */
+public final class ScoreboardIngestion implements AutoCloseable {
+
+    /**
+     * Mark of the claim sequence of a closed pipeline. Claims made after it are refused.
+     */
+    private static final long CLOSED = 1L << 62;
+
+    /**
+     * Highest count of the writes applied in a single batch, which bounds how long a batch holds off the readers.
+     */
+    private static final int MAXIMUM_BATCH = 256;
+
+    private static final int SPINS = 128;
+
+    private final ScoreboardImp scoreboard;
+
+    private final Slot[] slots;
+
+    private final int mask;
+
+    private final int shift;
+
+    /**
+     * Round of each slot of the ring that has been published last, so a slot is published for a claim sequence when it holds the round of the sequence.
+     */
+    private final AtomicIntegerArray published;
+
+    /**
+     * Next claim sequence, marked with {@link ScoreboardIngestion#CLOSED} once the pipeline is closed.
+     */
+    private final AtomicLong claimed = new AtomicLong();
+
+    /**
+     * Claim sequence of the first write that has not been completed yet. Slots before it are free to be claimed again.
+     */
+    private volatile long completed;
+
+    /**
+     * Claim sequence the writer thread stops at, known once the pipeline is closed.
+     */
+    private volatile long end = Long.MAX_VALUE;
+
+    /**
+     * Signals that the writer thread is parked, waiting for a write to be published.
+     */
+    private volatile boolean parked;
+
+    /**
+     * Failure of the writer thread, set before the pipeline is closed by it.
+     */
+    private volatile Throwable failure;
+
+    private final ScoreboardOutcome[] outcomes = new ScoreboardOutcome[MAXIMUM_BATCH];
+
+    private final Runnable applyRun = this::applyRun;
+
+    private final Thread writer;
+
+    /**
+     * Claim sequences of the run that is being applied, only used by the writer thread.
+     */
+    private long runStart;
+
+    private long runEnd;
+
+    /**
+     * Ingestion pipeline of a Scoreboard, started with its writer thread.
+     *
+     * @param scoreboard Scoreboard to write to
+     * @param bufferSize Slot count of the ring buffer, a power of two.
+     */
+    ScoreboardIngestion(ScoreboardImp scoreboard, int bufferSize) {
+        if (bufferSize <= 0 || Integer.bitCount(bufferSize) != 1) {
+            throw new IllegalArgumentException("Buffer size must be a positive power of two: " + bufferSize);
+        }
+        this.scoreboard = scoreboard;
+        this.slots = new Slot[bufferSize];
+        for (int index = 0; index < bufferSize; index++) {
+            slots[index] = new Slot();
+        }
+        this.mask = bufferSize - 1;
+        this.shift = Integer.numberOfTrailingZeros(bufferSize);
+        this.published = new AtomicIntegerArray(bufferSize);
+        for (int index = 0; index < bufferSize; index++) {
+            published.set(index, -1);
+        }
+        this.writer = new Thread(this::write, "scoreboard-ingestion");
+        this.writer.setDaemon(true);
+        this.writer.start();
+    }
+
+    /**
+     * Queues a match start.
+     *
+     * @param homeTeam Home Team Name
+     * @param awayTeam Away Team Name
+     * @return Outcome of the start, completed by the writer thread.
+     * @throws IllegalStateException The pipeline is closed, or has failed.
+     */
+    public CompletableFuture<ScoreboardOutcome> startMatch(String homeTeam, String awayTeam) {
+        CompletableFuture<ScoreboardOutcome> outcome = new CompletableFuture<>();
+        startMatch(homeTeam, awayTeam, outcome::complete);
+        return outcome;
+    }
+
+    /**
+     * Queues a match start, which calls back with its outcome.
+     *
+     * @param homeTeam   Home Team Name
+     * @param awayTeam   Away Team Name
+     * @param completion Callback of the outcome, called on the writer thread.
+     * @throws IllegalStateException The pipeline is closed, or has failed.
+     */
+    public void startMatch(String homeTeam, String awayTeam, Consumer<ScoreboardOutcome> completion) {
+        submit(ScoreboardCommand.Type.START_MATCH, homeTeam, awayTeam, 0, 0, MatchDetails.NO_EVENT, completion);
+    }
+
+    /**
+     * Queues a score update.
+     *
+     * @param homeTeamScore Home team score point
+     * @param awayTeamScore Away team score point
+     * @return Outcome of the update, completed by the writer thread.
+     * @throws IllegalStateException The pipeline is closed, or has failed.
+     */
+    public CompletableFuture<ScoreboardOutcome> updateScore(String homeTeam, String awayTeam, int homeTeamScore, int awayTeamScore) {
+        CompletableFuture<ScoreboardOutcome> outcome = new CompletableFuture<>();
+        updateScore(homeTeam, awayTeam, homeTeamScore, awayTeamScore, outcome::complete);
+        return outcome;
+    }
+
+    /**
+     * Queues a score update, which calls back with its outcome.
+     *
+     * @param homeTeamScore Home team score point
+     * @param awayTeamScore Away team score point
+     * @param completion    Callback of the outcome, called on the writer thread.
+     * @throws IllegalStateException The pipeline is closed, or has failed.
+     */
+    public void updateScore(String homeTeam, String awayTeam, int homeTeamScore, int awayTeamScore, Consumer<ScoreboardOutcome> completion) {
+        submit(ScoreboardCommand.Type.UPDATE_SCORE, homeTeam, awayTeam, homeTeamScore, awayTeamScore, MatchDetails.NO_EVENT, completion);
+    }
+
+    /**
+     * Queues a score update of a sequenced feed event, which calls back with its outcome.
+     * A redelivered or late event is dropped, see {@link Scoreboard#tryUpdateScore(String, String, int, int, long)}.
+     *
+     * @param homeTeamScore Home team score point
+     * @param awayTeamScore Away team score point
+     * @param eventSequence Event sequence of the update in its match, any value but {@link Long#MIN_VALUE}, which is completed at once as invalid input on the calling thread.
+     * @param completion    Callback of the outcome, called on the writer thread.
+     * @throws IllegalStateException The pipeline is closed, or has failed.
+     */
+    public void updateScore(String homeTeam, String awayTeam, int homeTeamScore, int awayTeamScore, long eventSequence, Consumer<ScoreboardOutcome> completion) {
+        if (eventSequence == MatchDetails.NO_EVENT) {
+            completion.accept(ScoreboardOutcome.INVALID_INPUT);
+            return;
+        }
+        submit(ScoreboardCommand.Type.UPDATE_SCORE, homeTeam, awayTeam, homeTeamScore, awayTeamScore, eventSequence, completion);
+    }
+
+    /**
+     * Queues a match finish.
+     *
+     * @param homeTeam Home team
+     * @param awayTeam Away team
+     * @return Outcome of the finish, completed by the writer thread.
+     * @throws IllegalStateException The pipeline is closed, or has failed.
+     */
+    public CompletableFuture<ScoreboardOutcome> finishMatch(String homeTeam, String awayTeam) {
+        CompletableFuture<ScoreboardOutcome> outcome = new CompletableFuture<>();
+        finishMatch(homeTeam, awayTeam, outcome::complete);
+        return outcome;
+    }
+
+    /**
+     * Queues a match finish, which calls back with its outcome.
+     *
+     * @param homeTeam   Home team
+     * @param awayTeam   Away team
+     * @param completion Callback of the outcome, called on the writer thread.
+     * @throws IllegalStateException The pipeline is closed, or has failed.
+     */
+    public void finishMatch(String homeTeam, String awayTeam, Consumer<ScoreboardOutcome> completion) {
+        submit(ScoreboardCommand.Type.FINISH_MATCH, homeTeam, awayTeam, 0, 0, MatchDetails.NO_EVENT, completion);
+    }
+
+    /**
+     * Closes the pipeline. Writes queued before are applied and completed, then the writer thread stops. Writes queued after are refused.
+     * Waits for the writer thread to stop, unless it is called by a completion on the writer thread.
+     *
+     * @throws IllegalStateException The pipeline has failed, with the failure of the writer thread as its cause.
+     */
+    @Override
+    public void close() {
+        long last = claimed.getAndUpdate(sequence -> sequence | CLOSED);
+        if ((last & CLOSED) == 0L) {
+            end = last;
+            LockSupport.unpark(writer);
+        }
+        if (Thread.currentThread() != writer) {
+            boolean interrupted = false;
+            while (writer.isAlive()) {
+                try {
+                    writer.join();
+                } catch (InterruptedException e) {
+                    interrupted = true;
+                }
+            }
+            if (interrupted) {
+                Thread.currentThread().interrupt();
+            }
+        }
+        if (failure != null) {
+            throw new IllegalStateException("The ingestion pipeline has failed.", failure);
+        }
+    }
+
+    /**
+     * Claims a slot, fills it and publishes it to the writer thread.
+     */
+    private void submit(ScoreboardCommand.Type type, String homeTeam, String awayTeam, int homeScore, int awayScore, long eventSequence, Consumer<ScoreboardOutcome> completion) {
+        long sequence = claimed.getAndIncrement();
+        if ((sequence & CLOSED) != 0L) {
+            if (failure != null) {
+                throw new IllegalStateException("The ingestion pipeline has failed.", failure);
+            }
+            throw new IllegalStateException("The ingestion pipeline is closed.");
+        }
+        for (int spins = 0; sequence - slots.length >= completed; spins++) {
+            if (spins < SPINS) {
+                Thread.onSpinWait();
+            } else {
+                LockSupport.parkNanos(1_000L);
+            }
+        }
+        Slot slot = slots[(int) sequence & mask];
+        slot.type = type;
+        slot.homeTeam = homeTeam;
+        slot.awayTeam = awayTeam;
+        slot.homeScore = homeScore;
+        slot.awayScore = awayScore;
+        slot.eventSequence = eventSequence;
+        slot.completion = completion;
+        published.set((int) sequence & mask, (int) (sequence >>> shift));
+        if (parked) {
+            LockSupport.unpark(writer);
+        }
+    }
+
+    private boolean isPublished(long sequence) {
+        return published.get((int) sequence & mask) == (int) (sequence >>> shift);
+    }
+
+    /**
+     * Loop of the writer thread. Takes the longest run of published writes, up to {@link ScoreboardIngestion#MAXIMUM_BATCH}, applies it and completes it.
+     * Once the pipeline has failed, the runs are completed without being applied, up to the end of the closed pipeline.
+     */
+    private void write() {
+        long next = 0L;
+        int spins = 0;
+        while (next != end) {
+            if (!isPublished(next)) {
+                if (spins++ < SPINS) {
+                    Thread.onSpinWait();
+                } else {
+                    parked = true;
+                    if (!isPublished(next) && next != end) {
+                        LockSupport.park(this);
+                    }
+                    parked = false;
+                }
+                continue;
+            }
+            spins = 0;
+            long last = next + 1;
+            while (last - next < MAXIMUM_BATCH && isPublished(last)) {
+                last++;
+            }
+            runStart = next;
+            runEnd = last;
+            if (failure == null) {
+                try {
+                    scoreboard.ingest(applyRun);
+                } catch (RuntimeException | Error e) {
+                    fail(e);
+                }
+            }
+            if (failure != null) {
+                Arrays.fill(outcomes, 0, (int) (last - next), ScoreboardOutcome.WRITE_FAILED);
+            }
+            for (long sequence = next; sequence < last; sequence++) {
+                Slot slot = slots[(int) sequence & mask];
+                Consumer<ScoreboardOutcome> completion = slot.completion;
+                slot.clear();
+                complete(completion, outcomes[(int) (sequence - next)]);
+            }
+            next = last;
+            completed = next;
+        }
+    }
+
+    /**
+     * Applies the writes of the current run. Runs within a batch of the Scoreboard.
+     */
+    private void applyRun() {
+        for (long sequence = runStart; sequence < runEnd; sequence++) {
+            Slot slot = slots[(int) sequence & mask];
+            outcomes[(int) (sequence - runStart)] = scoreboard.ingested(slot.type, slot.homeTeam, slot.awayTeam, slot.homeScore, slot.awayScore, slot.eventSequence);
+        }
+    }
+
+    /**
+     * Records the failure of the writer thread and closes the pipeline, so the writes claimed after it are refused.
+     */
+    private void fail(Throwable e) {
+        failure = e;
+        long last = claimed.getAndUpdate(sequence -> sequence | CLOSED);
+        if ((last & CLOSED) == 0L) {
+            end = last;
+        }
+    }
+
+    /**
+     * Calls a completion back. A failing completion is reported to the uncaught exception handler of the writer thread, and the writer carries on.
+     */
+    private void complete(Consumer<ScoreboardOutcome> completion, ScoreboardOutcome outcome) {
+        try {
+            completion.accept(outcome);
+        } catch (RuntimeException e) {
+            writer.getUncaughtExceptionHandler().uncaughtException(writer, e);
+        }
+    }
+
+    /**
+     * Preallocated slot of the ring buffer, which holds a queued write in place. Filled by its producer before publishing, and cleared by the writer thread before it is freed.
+     */
+    private static final class Slot {
+
+        private ScoreboardCommand.Type type;
+
+        private String homeTeam;
+
+        private String awayTeam;
+
+        private int homeScore;
+
+        private int awayScore;
+
+        private long eventSequence;
+
+        private Consumer<ScoreboardOutcome> completion;
+
+        private void clear() {
+            homeTeam = null;
+            awayTeam = null;
+            completion = null;
+        }
+
+    }
+
+}
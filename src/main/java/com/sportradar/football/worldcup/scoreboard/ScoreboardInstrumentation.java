@@ -0,0 +1,86 @@
+package com.sportradar.football.worldcup.scoreboard;
+
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * <p>Package-private recorder of the operation metrics of a {@link ScoreboardImp}, see {@link ScoreboardMetrics}.</p>
+ * <br>
+ * <p>Outcomes are counted by {@link LongAdder} counters, which spread concurrent increments over cells rather than contending on a single value,
+ * and latencies are recorded to a {@link LatencyHistogram} per operation. Recording never allocates.
+ * A scoreboard without metrics has no recorder at all, so its operations pay for a single null check.</p>
+ *
+ * @author Ozan Aksoy
+ */
+final class ScoreboardInstrumentation {
+
+    private static final ScoreboardMetrics.Operation[] OPERATIONS = ScoreboardMetrics.Operation.values();
+
+    private static final ScoreboardOutcome[] OUTCOMES = ScoreboardOutcome.values();
+
+    /**
+     * Outcome counters by operation and outcome ordinals.
+     */
+    private final LongAdder[][] outcomes = new LongAdder[OPERATIONS.length][OUTCOMES.length];
+
+    private final LatencyHistogram[] latencies = new LatencyHistogram[OPERATIONS.length];
+
+    ScoreboardInstrumentation() {
+        for (ScoreboardMetrics.Operation operation : OPERATIONS) {
+            for (ScoreboardOutcome outcome : OUTCOMES) {
+                outcomes[operation.ordinal()][outcome.ordinal()] = new LongAdder();
+            }
+            latencies[operation.ordinal()] = new LatencyHistogram();
+        }
+    }
+
+    /**
+     * Records a call of an operation, which has been started at the given {@link System#nanoTime()}.
+     *
+     * @param operation Operation
+     * @param outcome   Outcome of the call
+     * @param startTime Start of the call in nanoseconds
+     * @return Outcome of the call
+     */
+    ScoreboardOutcome record(ScoreboardMetrics.Operation operation, ScoreboardOutcome outcome, long startTime) {
+        latencies[operation.ordinal()].record(System.nanoTime() - startTime);
+        count(operation, outcome);
+        return outcome;
+    }
+
+    /**
+     * Counts an outcome of an operation without a latency, as for the commands of a batch.
+     *
+     * @param operation Operation
+     * @param outcome   Outcome of the call
+     */
+    void count(ScoreboardMetrics.Operation operation, ScoreboardOutcome outcome) {
+        outcomes[operation.ordinal()][outcome.ordinal()].increment();
+    }
+
+    /**
+     * Takes a snapshot of the counters, with the gauges of a store.
+     *
+     * @param store Store of the scoreboard
+     * @return Metrics snapshot
+     */
+    ScoreboardMetrics snapshot(ScoreboardStore store) {
+        Map<ScoreboardMetrics.Operation, ScoreboardMetrics.OperationMetrics> operations = new EnumMap<>(ScoreboardMetrics.Operation.class);
+        for (ScoreboardMetrics.Operation operation : OPERATIONS) {
+            Map<ScoreboardOutcome, Long> counts = new EnumMap<>(ScoreboardOutcome.class);
+            long calls = 0L;
+            for (ScoreboardOutcome outcome : OUTCOMES) {
+                long count = outcomes[operation.ordinal()][outcome.ordinal()].sum();
+                if (count > 0L) {
+                    counts.put(outcome, count);
+                    calls += count;
+                }
+            }
+            operations.put(operation, new ScoreboardMetrics.OperationMetrics(calls, Collections.unmodifiableMap(counts), latencies[operation.ordinal()].snapshot()));
+        }
+        return new ScoreboardMetrics(store.size(), store.teamCount(), Collections.unmodifiableMap(operations));
+    }
+
+}
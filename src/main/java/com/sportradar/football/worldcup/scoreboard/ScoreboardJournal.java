@@ -0,0 +1,653 @@
+package com.sportradar.football.worldcup.scoreboard;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.ClosedChannelException;
+import java.nio.channels.FileChannel;
+import java.nio.channels.FileLock;
+import java.nio.channels.OverlappingFileLockException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.stream.Stream;
+import java.util.zip.CRC32;
+
+/**
+ * <p>Package encapsulated append-only write-ahead journal of a {@link ScoreboardCache} on local disk.</p>
+ * <br>
+ * <p>Each applied start, score update and finish is appended as a binary record to the current log segment. Records refer to teams by their
+ * {@link TeamRegistry} ids, and a team record is appended before the first start that refers to a team id in its segment, or to a team id that has been taken by another team since.
+ * Every record is framed with its length and checksum, so a record torn by a crash ends the replay of its segment.</p>
+ * <br>
+ * <p>Appends go to an in-memory buffer. A writer waits for its record to be durable with {@link ScoreboardJournal#awaitDurable(long)}, where the
+ * first waiting writer writes and syncs the buffered records of every writer at once, and the writers that arrive meanwhile wait for the next sync.
+ * Thus concurrent writers share the cost of a sync.</p>
+ * <br>
+ * <p>After a number of records a checkpoint is taken: a new segment is started, and the state of the cache at the start of the segment is written
+ * to a checkpoint file in the {@link ScoreboardSnapshot} format. Recovery reads the latest checkpoint and replays only the segments that follow it, and older files are deleted.</p>
+ * <br>
+ * <p>An open journal holds a lock on its directory, so a single journal appends to the segments of a directory. Closing the journal syncs the records appended before,
+ * closes the current segment and releases the directory lock.</p>
+ * <br>
+ * <p>A sync or checkpoint that fails, and the close, fail the journal for good. The failure is sticky, as the records that were not synced are lost,
+ * thus the cache refuses every write once {@link ScoreboardJournal#isFailed()}, rather than change the memory with writes the disk never sees.</p>
+ *
+ * @author Ozan Aksoy
+ */
+class ScoreboardJournal implements Closeable {
+
+    private static final String FILE_PREFIX = "scoreboard-";
+
+    private static final String SEGMENT_SUFFIX = ".log";
+
+    private static final String CHECKPOINT_SUFFIX = ".checkpoint";
+
+    private static final String LOCK_FILE = "scoreboard.lock";
+
+    private static final byte TEAM = 0;
+
+    private static final byte START = 1;
+
+    private static final byte SCORE = 2;
+
+    private static final byte FINISH = 3;
+
+    /**
+     * Length and checksum of a record.
+     */
+    private static final int FRAME_HEADER = 8;
+
+    private final Path directory;
+
+    private final int checkpointInterval;
+
+    /**
+     * Guards the buffers, the positions and the current segment.
+     */
+    private final ReentrantLock lock;
+
+    /**
+     * Signalled after each sync, on a failure, and when a checkpoint is released.
+     */
+    private final Condition synced;
+
+    private final AtomicBoolean checkpointing;
+
+    private final CRC32 checksum;
+
+    /**
+     * Records appended since the last sync.
+     */
+    private ByteBuffer pending;
+
+    /**
+     * Buffer that takes over the appends while the pending records are synced. Null during a sync.
+     */
+    private ByteBuffer spare;
+
+    /**
+     * Count of the bytes appended to the journal since it has been opened.
+     */
+    private long appended;
+
+    /**
+     * Count of the appended bytes that are synced to disk.
+     */
+    private long durable;
+
+    private boolean syncing;
+
+    private IOException failure;
+
+    /**
+     * Signals that the journal has failed, read without the lock so the writes are refused before they change the cache.
+     */
+    private volatile boolean failed;
+
+    private long segment;
+
+    private FileChannel channel;
+
+    /**
+     * Team names by the ids they have been logged under, since the recovery or the latest segment switch. Ids of the registry are released and taken by other teams,
+     * thus a team is logged again once its id names another team. A new segment logs its teams again, as the checkpoint of the segment holds only the running teams.
+     */
+    private String[] loggedNames = new String[0];
+
+    private long recordsSinceCheckpoint;
+
+    /**
+     * Position of the frame of the record being appended in the pending buffer.
+     */
+    private int frameStart;
+
+    private volatile boolean checkpointDue;
+
+    private boolean closed;
+
+    /**
+     * Lock of the journal directory, held until the journal is closed.
+     */
+    private final FileLock directoryLock;
+
+    /**
+     * Write-ahead journal in a directory, which is created if it does not exist.
+     *
+     * @param directory          Directory of the journal files
+     * @param checkpointInterval Count of the records after which a checkpoint is taken
+     * @throws IOException The directory cannot be created, or it is locked by another journal.
+     */
+    public ScoreboardJournal(Path directory, int checkpointInterval) throws IOException {
+        this.directory = Files.createDirectories(directory);
+        this.directoryLock = lockDirectory(this.directory);
+        this.checkpointInterval = checkpointInterval;
+        this.lock = new ReentrantLock();
+        this.synced = lock.newCondition();
+        this.checkpointing = new AtomicBoolean();
+        this.checksum = new CRC32();
+        this.pending = ByteBuffer.allocate(4096);
+        this.spare = ByteBuffer.allocate(4096);
+    }
+
+    /**
+     * Rebuilds the state of the cache from the latest checkpoint and the segments that follow it, then opens a new segment for the appends.
+     * Must be called once, before any append.
+     *
+     * @return Recovered state
+     * @throws IOException The journal files cannot be read, or the new segment cannot be created.
+     */
+    public ScoreboardState recover() throws IOException {
+        TreeMap<Long, Path> checkpoints = files(CHECKPOINT_SUFFIX);
+        TreeMap<Long, Path> segments = files(SEGMENT_SUFFIX);
+        ScoreboardState checkpoint = checkpoints.isEmpty() ? ScoreboardState.EMPTY : ScoreboardSnapshot.read(checkpoints.lastEntry().getValue());
+        long firstSegment = checkpoints.isEmpty() ? 0L : checkpoints.lastKey();
+        List<String> teams = new ArrayList<>(checkpoint.teams());
+        Map<Long, ScoreboardState.RunningMatch> matches = new HashMap<>();
+        checkpoint.matches().forEach(entry -> matches.put(entry.matchKey(), entry));
+        long lastStartSequence = checkpoint.lastStartSequence();
+        for (Path file : segments.tailMap(firstSegment, true).values()) {
+            lastStartSequence = Math.max(lastStartSequence, replay(ByteBuffer.wrap(Files.readAllBytes(file)), teams, matches));
+        }
+        long lastSegment = segments.isEmpty() ? firstSegment : Math.max(firstSegment, segments.lastKey());
+        lock.lock();
+        try {
+            loggedNames = teams.toArray(String[]::new);
+            segment = lastSegment + 1;
+            channel = openSegment(segment);
+        } finally {
+            lock.unlock();
+        }
+        List<ScoreboardState.RunningMatch> running = matches.values().stream()
+                .sorted((entry1, entry2) -> Long.compare(entry1.startSequence(), entry2.startSequence()))
+                .toList();
+        return new ScoreboardState(List.copyOf(teams), running, lastStartSequence);
+    }
+
+    /**
+     * Appends the start of a match.
+     *
+     * @return Journal position the writer waits for
+     */
+    public long appendStart(TeamRegistry teams, long matchKey, LocalDateTime startTime, long startSequence) {
+        lock.lock();
+        try {
+            appendTeams(teams, matchKey);
+            ByteBuffer record = begin(START, 28);
+            record.putLong(matchKey);
+            record.putLong(startTime.toEpochSecond(ZoneOffset.UTC));
+            record.putInt(startTime.getNano());
+            record.putLong(startSequence);
+            return end();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Appends the new score of a running match.
+     *
+     * @return Journal position the writer waits for
+     */
+    public long appendScore(long matchKey, long score) {
+        lock.lock();
+        try {
+            ByteBuffer record = begin(SCORE, 16);
+            record.putLong(matchKey);
+            record.putLong(score);
+            return end();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Appends the finish of a running match.
+     *
+     * @return Journal position the writer waits for
+     */
+    public long appendFinish(long matchKey) {
+        lock.lock();
+        try {
+            ByteBuffer record = begin(FINISH, 8);
+            record.putLong(matchKey);
+            return end();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Returns the position of the last appended record.
+     *
+     * @return Journal position
+     */
+    public long appended() {
+        lock.lock();
+        try {
+            return appended;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Waits until the records up to a position are synced to disk. If no sync is running, the calling writer syncs the records of every writer.
+     *
+     * @param position Journal position returned by an append
+     * @throws UncheckedIOException The journal cannot be written. Records that were not synced are lost.
+     */
+    public void awaitDurable(long position) {
+        lock.lock();
+        try {
+            while (durable < position) {
+                checkFailure();
+                if (syncing) {
+                    synced.awaitUninterruptibly();
+                } else {
+                    sync();
+                }
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Writes and syncs the pending records, releasing the lock during the disk operations. Must be called holding the lock.
+     */
+    private void sync() {
+        syncing = true;
+        ByteBuffer batch = pending;
+        pending = spare;
+        spare = null;
+        long target = appended;
+        FileChannel segmentChannel = channel;
+        lock.unlock();
+        IOException error = null;
+        try {
+            write(batch, segmentChannel);
+            force(segmentChannel);
+        } catch (IOException e) {
+            error = e;
+        } finally {
+            lock.lock();
+        }
+        batch.clear();
+        spare = batch;
+        syncing = false;
+        if (error != null) {
+            fail(error);
+        } else {
+            durable = Math.max(durable, target);
+        }
+        synced.signalAll();
+    }
+
+    /**
+     * Returns whether if enough records have been appended since the last checkpoint.
+     *
+     * @return If a checkpoint is due.
+     */
+    public boolean isCheckpointDue() {
+        return checkpointDue && !checkpointing.get();
+    }
+
+    /**
+     * Claims the checkpoint, so a single writer takes it.
+     *
+     * @return If the calling writer is to take the checkpoint.
+     */
+    public boolean beginCheckpoint() {
+        return checkpointing.compareAndSet(false, true);
+    }
+
+    /**
+     * Releases the checkpoint, and wakes a close that waits for it.
+     */
+    public void endCheckpoint() {
+        lock.lock();
+        try {
+            checkpointing.set(false);
+            synced.signalAll();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Returns whether if the journal has failed, or has been closed. Read without the lock.
+     *
+     * @return If no record can be made durable any more.
+     */
+    public boolean isFailed() {
+        return failed;
+    }
+
+    /**
+     * Returns the failure of the journal.
+     *
+     * @return Failure that stops the journal, null if it has not failed.
+     */
+    public IOException failure() {
+        lock.lock();
+        try {
+            return failure;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Fails the journal, such as when a checkpoint cannot be written. The first failure is kept, and every later wait for a record throws it.
+     *
+     * @param error Failure of the journal
+     */
+    public void fail(IOException error) {
+        lock.lock();
+        try {
+            if (failure == null) {
+                failure = error;
+            }
+            failed = true;
+            synced.signalAll();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Syncs the current segment and starts a new one. Must be called while no record can be appended, so the state of the cache matches the start of the new segment.
+     *
+     * @return Number of the new segment
+     * @throws IOException The segments cannot be written.
+     */
+    public long rotate() throws IOException {
+        lock.lock();
+        try {
+            while (syncing) {
+                synced.awaitUninterruptibly();
+            }
+            checkFailure();
+            write(pending, channel);
+            pending.clear();
+            force(channel);
+            channel.close();
+            durable = appended;
+            segment++;
+            channel = openSegment(segment);
+            Arrays.fill(loggedNames, null);
+            recordsSinceCheckpoint = 0;
+            checkpointDue = false;
+            return segment;
+        } catch (IOException e) {
+            fail(e);
+            throw e;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Writes the checkpoint of a segment, the state of the cache at the start of the segment, and deletes the files the checkpoint makes obsolete.
+     * A checkpoint is a {@link ScoreboardSnapshot}, which is moved in place once it is complete, so a crash never leaves a partial checkpoint.
+     *
+     * @param segment Number of the segment the checkpoint belongs to
+     * @param state   State of the cache at the start of the segment
+     * @throws IOException The checkpoint cannot be written.
+     */
+    public void writeCheckpoint(long segment, ScoreboardState state) throws IOException {
+        ScoreboardSnapshot.write(path(segment, CHECKPOINT_SUFFIX), state);
+        for (Path file : files(SEGMENT_SUFFIX).headMap(segment).values()) {
+            Files.delete(file);
+        }
+        for (Path file : files(CHECKPOINT_SUFFIX).headMap(segment).values()) {
+            Files.delete(file);
+        }
+    }
+
+    /**
+     * Applies the records of a segment to the recovered state, up to the first record that is torn or corrupt.
+     *
+     * @return The highest start sequence of the segment
+     */
+    private long replay(ByteBuffer records, List<String> teams, Map<Long, ScoreboardState.RunningMatch> matches) {
+        long lastStartSequence = 0L;
+        while (records.remaining() >= FRAME_HEADER) {
+            int length = records.getInt();
+            int expected = records.getInt();
+            if (length <= 0 || length > records.remaining()) {
+                break;
+            }
+            ByteBuffer record = records.slice(records.position(), length);
+            checksum.reset();
+            checksum.update(record.duplicate());
+            if ((int) checksum.getValue() != expected) {
+                break;
+            }
+            records.position(records.position() + length);
+            switch (record.get()) {
+                case TEAM -> {
+                    int id = record.getInt();
+                    byte[] name = new byte[record.remaining()];
+                    record.get(name);
+                    while (teams.size() <= id) {
+                        teams.add(TeamRegistry.FREE_TEAM);
+                    }
+                    teams.set(id, new String(name, StandardCharsets.UTF_8));
+                }
+                case START -> {
+                    long matchKey = record.getLong();
+                    LocalDateTime startTime = LocalDateTime.ofEpochSecond(record.getLong(), record.getInt(), ZoneOffset.UTC);
+                    long startSequence = record.getLong();
+                    matches.put(matchKey, new ScoreboardState.RunningMatch(matchKey, startTime, startSequence, MatchDetails.packScore(0, 0)));
+                    lastStartSequence = Math.max(lastStartSequence, startSequence);
+                }
+                case SCORE -> {
+                    long matchKey = record.getLong();
+                    long score = record.getLong();
+                    matches.computeIfPresent(matchKey, (key, entry) -> new ScoreboardState.RunningMatch(key, entry.startTime(), entry.startSequence(), score));
+                }
+                case FINISH -> matches.remove(record.getLong());
+                default -> {
+                    return lastStartSequence;
+                }
+            }
+        }
+        return lastStartSequence;
+    }
+
+    /**
+     * Appends the team records of the team ids of a match key whose names are not logged under them yet.
+     */
+    private void appendTeams(TeamRegistry teams, long matchKey) {
+        appendTeam(teams, TeamRegistry.homeTeamIdOf(matchKey));
+        appendTeam(teams, TeamRegistry.awayTeamIdOf(matchKey));
+    }
+
+    private void appendTeam(TeamRegistry teams, int id) {
+        String team = teams.name(id);
+        if (id < loggedNames.length && team.equals(loggedNames[id])) {
+            return;
+        }
+        if (id >= loggedNames.length) {
+            loggedNames = Arrays.copyOf(loggedNames, Math.max(2 * loggedNames.length, id + 1));
+        }
+        byte[] name = team.getBytes(StandardCharsets.UTF_8);
+        ByteBuffer record = begin(TEAM, 4 + name.length);
+        record.putInt(id);
+        record.put(name);
+        end();
+        loggedNames[id] = team;
+    }
+
+    /**
+     * Reserves the frame of a record in the pending buffer and writes its type. Must be called holding the lock.
+     */
+    private ByteBuffer begin(byte type, int length) {
+        int required = FRAME_HEADER + 1 + length;
+        if (pending.remaining() < required) {
+            ByteBuffer grown = ByteBuffer.allocate(Math.max(pending.capacity() * 2, pending.position() + required));
+            pending.flip();
+            grown.put(pending);
+            pending = grown;
+        }
+        frameStart = pending.position();
+        pending.putInt(1 + length);
+        pending.putInt(0);
+        pending.put(type);
+        return pending;
+    }
+
+    /**
+     * Completes the frame of the last record with its checksum. Must be called holding the lock.
+     *
+     * @return Journal position after the record
+     */
+    private long end() {
+        int end = pending.position();
+        checksum.reset();
+        checksum.update(pending.slice(frameStart + FRAME_HEADER, end - frameStart - FRAME_HEADER));
+        pending.putInt(frameStart + 4, (int) checksum.getValue());
+        appended += end - frameStart;
+        if (++recordsSinceCheckpoint >= checkpointInterval) {
+            checkpointDue = true;
+        }
+        return appended;
+    }
+
+    private void checkFailure() {
+        if (failure != null) {
+            throw new UncheckedIOException("Scoreboard journal cannot be written.", failure);
+        }
+    }
+
+    /**
+     * Closes the journal. Waits for a running checkpoint and claims the checkpoint for good, so no later one is taken. Then the pending records are synced,
+     * the current segment is closed, and the directory lock is released. The journal is failed by the close, so the writes made after it are refused.
+     *
+     * @throws IOException The pending records cannot be synced, or the files cannot be closed.
+     */
+    @Override
+    public void close() throws IOException {
+        lock.lock();
+        try {
+            if (closed) {
+                return;
+            }
+            closed = true;
+            while (!checkpointing.compareAndSet(false, true) || syncing) {
+                synced.awaitUninterruptibly();
+            }
+            try (FileChannel segmentChannel = channel) {
+                if (segmentChannel != null && failure == null) {
+                    write(pending, segmentChannel);
+                    pending.clear();
+                    force(segmentChannel);
+                    durable = appended;
+                }
+            } finally {
+                try {
+                    directoryLock.channel().close();
+                } finally {
+                    fail(new ClosedChannelException());
+                }
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Locks the lock file of a journal directory, which is created if it does not exist. The lock is released by closing its channel.
+     */
+    private static FileLock lockDirectory(Path directory) throws IOException {
+        FileChannel lockChannel = FileChannel.open(directory.resolve(LOCK_FILE), StandardOpenOption.CREATE, StandardOpenOption.WRITE);
+        FileLock directoryLock;
+        try {
+            directoryLock = lockChannel.tryLock();
+        } catch (OverlappingFileLockException e) {
+            directoryLock = null;
+        } catch (IOException e) {
+            lockChannel.close();
+            throw e;
+        }
+        if (directoryLock == null) {
+            lockChannel.close();
+            throw new IOException("Scoreboard journal directory is used by another scoreboard: " + directory);
+        }
+        return directoryLock;
+    }
+
+    private FileChannel openSegment(long number) throws IOException {
+        return FileChannel.open(path(number, SEGMENT_SUFFIX), StandardOpenOption.CREATE_NEW, StandardOpenOption.WRITE);
+    }
+
+    private Path path(long number, String suffix) {
+        return directory.resolve(FILE_PREFIX + String.format("%019d", number) + suffix);
+    }
+
+    /**
+     * Lists the journal files with a suffix by their number.
+     */
+    private TreeMap<Long, Path> files(String suffix) throws IOException {
+        TreeMap<Long, Path> files = new TreeMap<>();
+        try (Stream<Path> listing = Files.list(directory)) {
+            listing.forEach(file -> {
+                String name = file.getFileName().toString();
+                if (name.startsWith(FILE_PREFIX) && name.endsWith(suffix)) {
+                    files.put(Long.parseLong(name.substring(FILE_PREFIX.length(), name.length() - suffix.length())), file);
+                }
+            });
+        }
+        return files;
+    }
+
+    /**
+     * Forces the records written to a segment to disk.
+     */
+    void force(FileChannel segmentChannel) throws IOException {
+        segmentChannel.force(false);
+    }
+
+    private static void write(ByteBuffer records, FileChannel channel) throws IOException {
+        records.flip();
+        while (records.hasRemaining()) {
+            channel.write(records);
+        }
+    }
+
+}
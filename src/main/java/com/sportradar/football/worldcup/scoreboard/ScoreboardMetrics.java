@@ -0,0 +1,92 @@
+package com.sportradar.football.worldcup.scoreboard;
+
+import java.util.Map;
+
+/**
+ * <p>Snapshot of the operation metrics of a scoreboard, polled by {@link Scoreboard#metrics()}.
+ * Metrics are kept only by a scoreboard built with {@link ScoreboardFactory.Builder#metrics(boolean)}.</p>
+ * <br>
+ * <p>Counters are read one by one while the scoreboard keeps running, so a snapshot is not a single point in time.
+ * Each operation counts its calls by their outcome, and the latencies of its calls in nanoseconds.
+ * Commands of a batch are counted by the operation of the command, while the latency of a batch is recorded as a whole.</p>
+ *
+ * @param runningMatches  Count of the running matches
+ * @param registeredTeams Count of the distinct registered teams, which are the teams of the running matches.
+ * @param operations      Metrics of each operation
+ * @author Ozan Aksoy
+ */
+public record ScoreboardMetrics(int runningMatches, int registeredTeams, Map<Operation, OperationMetrics> operations) {
+
+    /**
+     * Measured operation of a scoreboard.
+     */
+    public enum Operation {
+        /**
+         * Starting a match, see {@link Scoreboard#startMatch(String, String)}.
+         */
+        START_MATCH,
+        /**
+         * Updating a score, see {@link Scoreboard#updateScore(String, String, int, int)}.
+         */
+        UPDATE_SCORE,
+        /**
+         * Finishing a match, see {@link Scoreboard#finishMatch(String, String)}.
+         */
+        FINISH_MATCH,
+        /**
+         * Applying a batch, see {@link Scoreboard#applyBatch(java.util.List)}. Each batch is counted as applied, whatever the outcomes of its commands are.
+         */
+        BATCH,
+        /**
+         * Fetching a summary or a page of it, see {@link Scoreboard#summary()}.
+         */
+        SUMMARY
+    }
+
+    /**
+     * Metrics of a single operation.
+     *
+     * @param calls    Count of the calls, including the rejected ones
+     * @param outcomes Count of the calls by their outcome, without the outcomes that have not occurred.
+     * @param latency  Latency of the calls
+     */
+    public record OperationMetrics(long calls, Map<ScoreboardOutcome, Long> outcomes, Latency latency) {
+
+        /**
+         * Returns the count of the calls with an outcome.
+         *
+         * @param outcome Outcome of a call
+         * @return Count of the calls
+         */
+        public long count(ScoreboardOutcome outcome) {
+            return outcomes.getOrDefault(outcome, 0L);
+        }
+
+    }
+
+    /**
+     * Latency distribution of an operation in nanoseconds. A percentile is reported as the highest value of its histogram bucket,
+     * which is within 1/32 of the exact value.
+     *
+     * @param count Count of the recorded latencies
+     * @param mean  Mean latency
+     * @param p50   Median latency
+     * @param p90   90th percentile latency
+     * @param p99   99th percentile latency
+     * @param p999  99.9th percentile latency
+     * @param max   Highest latency
+     */
+    public record Latency(long count, long mean, long p50, long p90, long p99, long p999, long max) {
+    }
+
+    /**
+     * Returns the metrics of an operation.
+     *
+     * @param operation Operation
+     * @return Metrics of the operation
+     */
+    public OperationMetrics operation(Operation operation) {
+        return operations.get(operation);
+    }
+
+}
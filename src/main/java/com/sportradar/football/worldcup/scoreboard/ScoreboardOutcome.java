@@ -0,0 +1,79 @@
+package com.sportradar.football.worldcup.scoreboard;
+
+/**
+ * <p>Outcome of a scoreboard operation on the non-throwing path, such as {@link Scoreboard#tryUpdateScore(String, String, int, int)}.</p>
+ * <br>
+ * <p>An operation is either applied, or rejected for a single reason. Outcomes are constants, so a rejection neither allocates nor captures a stack trace.
+ * The throwing operations report the same rejections as exceptions.</p>
+ *
+ * @author Ozan Aksoy
+ */
+public enum ScoreboardOutcome {
+
+    /**
+     * The operation has been applied to the scoreboard.
+     */
+    APPLIED,
+
+    /**
+     * A team name is null or blank.
+     */
+    INVALID_INPUT,
+
+    /**
+     * The match to start is already running.
+     */
+    MATCH_ALREADY_STARTED,
+
+    /**
+     * The home team of the match to start is already playing another match.
+     */
+    HOME_TEAM_ALREADY_PLAYING,
+
+    /**
+     * The away team of the match to start is already playing another match.
+     */
+    AWAY_TEAM_ALREADY_PLAYING,
+
+    /**
+     * The match to update or finish is not running.
+     */
+    MATCH_NOT_STARTED,
+
+    /**
+     * The score update is the score already recorded.
+     */
+    SCORE_ALREADY_RECORDED,
+
+    /**
+     * The score update lowers the home team score.
+     */
+    HOME_SCORE_DECREASED,
+
+    /**
+     * The score update lowers the away team score.
+     */
+    AWAY_SCORE_DECREASED,
+
+    /**
+     * The sequenced score update is not after the last applied event of its match, thus it is a redelivered or late event, and it is dropped.
+     * See {@link Scoreboard#tryUpdateScore(String, String, int, int, long)}.
+     */
+    STALE_EVENT,
+
+    /**
+     * The write has failed, as the journal of the scoreboard has failed, or as the run of its ingestion pipeline has failed. The write is not durable,
+     * though it may have been applied in memory before the failure. See {@link Scoreboard} and {@link ScoreboardIngestion}.
+     */
+    WRITE_FAILED;
+
+    /**
+     * Returns whether if the operation has been applied.
+     *
+     * @return If the outcome is {@link ScoreboardOutcome#APPLIED}.
+     */
+    public boolean isApplied() {
+        return this == APPLIED;
+    }
+
+}
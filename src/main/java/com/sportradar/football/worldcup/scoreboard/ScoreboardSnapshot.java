@@ -0,0 +1,155 @@
+package com.sportradar.football.worldcup.scoreboard;
+
+import java.io.IOException;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.zip.CRC32;
+
+/**
+ * <p>Package encapsulated fixed-layout binary snapshot of a {@link ScoreboardState}, written and read through a memory-mapped file.</p>
+ * <br>
+ * <p>The file starts with a header, followed by the interned team table and a primitive column per match field:</p>
+ * <ol>
+ * <li>Header: magic, version, team count, match count, last start sequence, team name byte count, checksum of the rest of the file.</li>
+ * <li>Team table: end offset of each team name, then the UTF-8 bytes of the names in the order of the team ids.</li>
+ * <li>Match columns: match keys, start epoch seconds, start sequences and packed scores as longs, then start nanoseconds as ints.</li>
+ * </ol>
+ * <p>A snapshot is written to a temporary file and moved in place, so a crash never leaves a partial snapshot.</p>
+ *
+ * @author Ozan Aksoy
+ */
+final class ScoreboardSnapshot {
+
+    private static final int MAGIC = 0x5342534E;
+
+    private static final int VERSION = 1;
+
+    private static final int HEADER = 32;
+
+    private ScoreboardSnapshot() {
+    }
+
+    /**
+     * Writes a state to a snapshot file, replacing the file if it exists.
+     *
+     * @param file  Snapshot file
+     * @param state State of a cache
+     * @throws IOException The snapshot cannot be written.
+     */
+    static void write(Path file, ScoreboardState state) throws IOException {
+        List<String> teams = state.teams();
+        List<ScoreboardState.RunningMatch> matches = state.matches();
+        byte[][] names = new byte[teams.size()][];
+        int nameBytes = 0;
+        for (int id = 0; id < names.length; id++) {
+            names[id] = teams.get(id).getBytes(StandardCharsets.UTF_8);
+            nameBytes += names[id].length;
+        }
+        int teamTable = align(4 * names.length + nameBytes);
+        long size = HEADER + teamTable + (long) matches.size() * (4 * Long.BYTES + Integer.BYTES);
+        Path temporary = file.resolveSibling(file.getFileName() + ".tmp");
+        try (FileChannel channel = FileChannel.open(temporary, StandardOpenOption.CREATE, StandardOpenOption.TRUNCATE_EXISTING, StandardOpenOption.READ, StandardOpenOption.WRITE)) {
+            MappedByteBuffer buffer = channel.map(FileChannel.MapMode.READ_WRITE, 0, size);
+            buffer.putInt(MAGIC);
+            buffer.putInt(VERSION);
+            buffer.putInt(names.length);
+            buffer.putInt(matches.size());
+            buffer.putLong(state.lastStartSequence());
+            buffer.putInt(nameBytes);
+            buffer.position(HEADER);
+            int end = 0;
+            for (byte[] name : names) {
+                end += name.length;
+                buffer.putInt(end);
+            }
+            for (byte[] name : names) {
+                buffer.put(name);
+            }
+            int columns = HEADER + teamTable;
+            int count = matches.size();
+            for (int i = 0; i < count; i++) {
+                ScoreboardState.RunningMatch match = matches.get(i);
+                int row = columns + i * Long.BYTES;
+                buffer.putLong(row, match.matchKey());
+                buffer.putLong(row + count * Long.BYTES, match.startTime().toEpochSecond(ZoneOffset.UTC));
+                buffer.putLong(row + 2 * count * Long.BYTES, match.startSequence());
+                buffer.putLong(row + 3 * count * Long.BYTES, match.score());
+                buffer.putInt(columns + 4 * count * Long.BYTES + i * Integer.BYTES, match.startTime().getNano());
+            }
+            buffer.putInt(28, checksum(buffer, size));
+            buffer.force();
+        }
+        Files.move(temporary, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+    }
+
+    /**
+     * Reads the state of a snapshot file.
+     *
+     * @param file Snapshot file
+     * @return State of a cache
+     * @throws IOException The snapshot cannot be read, or it is not a valid snapshot.
+     */
+    static ScoreboardState read(Path file) throws IOException {
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            long size = channel.size();
+            if (size < HEADER) {
+                throw new IOException("Not a scoreboard snapshot: " + file);
+            }
+            MappedByteBuffer buffer = channel.map(FileChannel.MapMode.READ_ONLY, 0, size);
+            if (buffer.getInt(0) != MAGIC || buffer.getInt(4) != VERSION) {
+                throw new IOException("Not a scoreboard snapshot: " + file);
+            }
+            int teamCount = buffer.getInt(8);
+            int count = buffer.getInt(12);
+            long lastStartSequence = buffer.getLong(16);
+            int nameBytes = buffer.getInt(24);
+            int columns = HEADER + align(4 * teamCount + nameBytes);
+            if (teamCount < 0 || count < 0 || nameBytes < 0 || size != columns + (long) count * (4 * Long.BYTES + Integer.BYTES)
+                    || buffer.getInt(28) != checksum(buffer, size)) {
+                throw new IOException("Corrupt scoreboard snapshot: " + file);
+            }
+            List<String> teams = new ArrayList<>(teamCount);
+            int names = HEADER + 4 * teamCount;
+            int start = 0;
+            for (int id = 0; id < teamCount; id++) {
+                int end = buffer.getInt(HEADER + 4 * id);
+                byte[] name = new byte[end - start];
+                buffer.get(names + start, name);
+                teams.add(new String(name, StandardCharsets.UTF_8));
+                start = end;
+            }
+            List<ScoreboardState.RunningMatch> matches = new ArrayList<>(count);
+            for (int i = 0; i < count; i++) {
+                int row = columns + i * Long.BYTES;
+                LocalDateTime startTime = LocalDateTime.ofEpochSecond(buffer.getLong(row + count * Long.BYTES),
+                        buffer.getInt(columns + 4 * count * Long.BYTES + i * Integer.BYTES), ZoneOffset.UTC);
+                matches.add(new ScoreboardState.RunningMatch(buffer.getLong(row), startTime,
+                        buffer.getLong(row + 2 * count * Long.BYTES), buffer.getLong(row + 3 * count * Long.BYTES)));
+            }
+            return new ScoreboardState(List.copyOf(teams), matches, lastStartSequence);
+        }
+    }
+
+    /**
+     * Checksum of the file content that follows the header.
+     */
+    private static int checksum(MappedByteBuffer buffer, long size) {
+        CRC32 crc = new CRC32();
+        crc.update(buffer.slice(HEADER, (int) size - HEADER));
+        return (int) crc.getValue();
+    }
+
+    private static int align(int bytes) {
+        return (bytes + Long.BYTES - 1) & -Long.BYTES;
+    }
+
+}
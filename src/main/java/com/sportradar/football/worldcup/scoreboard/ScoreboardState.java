@@ -0,0 +1,32 @@
+package com.sportradar.football.worldcup.scoreboard;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * Package encapsulated state of a {@link ScoreboardCache} as it is saved to disk and restored, by the journal checkpoints and by the snapshots.
+ *
+ * @param teams             Registered team names in the order of their ids
+ * @param matches           Running matches
+ * @param lastStartSequence Highest start sequence given out
+ * @author Ozan Aksoy
+ */
+record ScoreboardState(List<String> teams, List<RunningMatch> matches, long lastStartSequence) {
+
+    /**
+     * State of a cache without any team or match.
+     */
+    static final ScoreboardState EMPTY = new ScoreboardState(List.of(), List.of(), 0L);
+
+    /**
+     * Running match of a saved state.
+     *
+     * @param matchKey      Match key of the team ids. See {@link TeamRegistry#matchKey(int, int)}.
+     * @param startTime     Start time of the match
+     * @param startSequence Start order of the match
+     * @param score         Packed score of the match. See {@link MatchDetails#packScore(int, int)}.
+     */
+    record RunningMatch(long matchKey, LocalDateTime startTime, long startSequence, long score) {
+    }
+
+}
@@ -0,0 +1,159 @@
+package com.sportradar.football.worldcup.scoreboard;
+
+import java.io.IOException;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.concurrent.Flow;
+import java.util.function.Supplier;
+
+/**
+ * Package encapsulated store of the running matches behind a {@link ScoreboardImp}.
+ * The store is either a single {@link ScoreboardCache}, or a {@link ShardedScoreboardCache} that spreads the matches over several caches.
+ *
+ * @author Ozan Aksoy
+ */
+interface ScoreboardStore {
+
+    /**
+     * Stores a new match, which must not have a record already.
+     *
+     * @param homeTeam  Home team name
+     * @param awayTeam  Away team name
+     * @param startTime Supplier of the start time of the match, called only if the match can be started.
+     * @return Outcome of the start
+     */
+    ScoreboardOutcome start(String homeTeam, String awayTeam, Supplier<LocalDateTime> startTime);
+
+    /**
+     * Replaces the score of a running match.
+     *
+     * @param homeTeam      Home team name
+     * @param awayTeam      Away team name
+     * @param homeScore     Home team score point
+     * @param awayScore     Away team score point
+     * @param eventSequence Event sequence of the update in its match, or {@link MatchDetails#NO_EVENT} if the update is not sequenced.
+     * @param audit         Audit of the scoreboard rules
+     * @return Outcome of the update
+     */
+    ScoreboardOutcome update(String homeTeam, String awayTeam, int homeScore, int awayScore, long eventSequence, ScoreboardAudit audit);
+
+    /**
+     * Adds goals to the score of a running match, computed from the recorded score as a single atomic operation.
+     *
+     * @param homeTeam  Home team name
+     * @param awayTeam  Away team name
+     * @param homeGoals Goals to add to the home team score
+     * @param awayGoals Goals to add to the away team score
+     * @param audit     Audit of the scoreboard rules
+     * @return Outcome of the goals
+     */
+    ScoreboardOutcome addGoals(String homeTeam, String awayTeam, int homeGoals, int awayGoals, ScoreboardAudit audit);
+
+    /**
+     * Removes a running match, and archives its final state if an archive is given.
+     *
+     * @param homeTeam Home team name
+     * @param awayTeam Away team name
+     * @param archive  Archive of the finished matches, null if the finished matches are not kept.
+     * @return Outcome of the finish
+     */
+    ScoreboardOutcome finish(String homeTeam, String awayTeam, MatchArchive archive);
+
+    /**
+     * Runs a batch of writes holding the store exclusively, so a reader sees the batch either as a whole or not at all.
+     *
+     * @param writes Writes of the batch, made through the write operations of this store on the calling thread.
+     */
+    void batch(Runnable writes);
+
+    /**
+     * Returns a running match by its teams.
+     *
+     * @param homeTeam Home team name
+     * @param awayTeam Away team name
+     * @return Running match of the teams, null if the match is not running.
+     */
+    Match match(String homeTeam, String awayTeam);
+
+    /**
+     * Returns the running match of a team.
+     *
+     * @param team Team name
+     * @return Running match of the team, null if the team is not playing.
+     */
+    Match currentMatch(String team);
+
+    /**
+     * Subscribes to the change feed of the store.
+     *
+     * @param subscriber Subscriber of the change events
+     */
+    void subscribe(Flow.Subscriber<? super ScoreboardEvent> subscriber);
+
+    /**
+     * Returns the running matches in summary order.
+     *
+     * @return Running matches ordered by {@link ScoreboardCache#RANKING}.
+     */
+    default List<Match> ranked() {
+        return ranked(0, Integer.MAX_VALUE);
+    }
+
+    /**
+     * Returns a range of the running matches in summary order.
+     *
+     * @param offset Count of the leading matches to skip
+     * @param limit  Maximum count of the matches to return
+     * @return Running matches of the range ordered by {@link ScoreboardCache#RANKING}.
+     */
+    List<Match> ranked(int offset, int limit);
+
+    /**
+     * Returns the current board version, which every applied write raises.
+     *
+     * @return Board version
+     */
+    long version();
+
+    /**
+     * Returns the running matches in summary order with the matches finished since a board version, as one consistent read.
+     *
+     * @param since Board version of the summary of the caller
+     * @return Ranked entries and finished matches, with the board version they are current to.
+     */
+    RankedChanges changesSince(long since);
+
+    /**
+     * Returns the count of the running matches, read without locking.
+     *
+     * @return Count of the running matches
+     */
+    int size();
+
+    /**
+     * Returns the count of the distinct registered teams of the store, read without locking.
+     *
+     * @return Count of the registered teams
+     */
+    int teamCount();
+
+    /**
+     * Returns the state of the store for saving. The state holds no part of a write.
+     *
+     * @return Current state of the store
+     */
+    ScoreboardState state();
+
+    /**
+     * Releases the storage of the store, such as its journal, and closes its change feed.
+     */
+    void close();
+
+    /**
+     * Returns the failure of the journal of the store, which a write answered with {@link ScoreboardOutcome#WRITE_FAILED} is thrown with.
+     *
+     * @return Failure of the journal, null if the store has no journal or the journal has not failed.
+     */
+    IOException journalFailure();
+
+}
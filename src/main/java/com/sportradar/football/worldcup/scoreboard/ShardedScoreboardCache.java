@@ -0,0 +1,368 @@
+package com.sportradar.football.worldcup.scoreboard;
+
+import java.io.IOException;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.PriorityQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.Flow;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.StampedLock;
+import java.util.function.Supplier;
+
+/**
+ * <p>Package encapsulated store that spreads the running matches over independent {@link ScoreboardCache} shards by the hash of their team pair.</p>
+ * <br>
+ * <p>Each shard has its own records, ranked index and gate, so writes on matches of different shards do not contend with each other.
+ * Shards share the team registry, so a team has a single id on the whole store, and the playing teams, so a team plays a single match at a time on the whole store. Shards also share the start order of the matches, so the ranked entries of the shards are ordered against each other,
+ * and a summary is a k-way merge of the ranked entries of the shards. Shards also share the change feed, but they do not publish rank changes,
+ * as a shard ranks only its own matches.</p>
+ * <br>
+ * <p>A batch holds every shard exclusively. Summaries are read optimistically against the batches, and read again holding them off if a batch overlapped.</p>
+ *
+ * @author Ozan Aksoy
+ */
+class ShardedScoreboardCache implements ScoreboardStore {
+
+    private final ScoreboardCache[] shards;
+
+    /**
+     * Gate between the batches, which hold it exclusively, and the summaries that overlap them. Single writes do not pass it.
+     */
+    private final StampedLock batches;
+
+    private final ScoreboardFeed feed;
+
+    /**
+     * Team registry, shared by the shards so a team is registered once whichever shards its matches are on.
+     */
+    private final TeamRegistry teams;
+
+    /**
+     * Board version, shared by the shards so the ranked entries of the shards are versioned against each other.
+     */
+    private final AtomicLong versions;
+
+    /**
+     * Sharded store with no matches.
+     *
+     * @param shardCount Count of the shards
+     */
+    public ShardedScoreboardCache(int shardCount) {
+        this(shardCount, ScoreboardState.EMPTY);
+    }
+
+    /**
+     * Sharded store that starts with a saved state, such as a snapshot. The teams of the state are registered to the shared registry,
+     * and each running match of the state is loaded into its shard with its match key as it is.
+     *
+     * @param shardCount Count of the shards
+     * @param state      Saved state of a store
+     */
+    public ShardedScoreboardCache(int shardCount, ScoreboardState state) {
+        this.shards = new ScoreboardCache[shardCount];
+        this.batches = new StampedLock();
+        this.feed = new ScoreboardFeed();
+        this.teams = new TeamRegistry();
+        ConcurrentMap<String, MatchDetails> playing = new ConcurrentHashMap<>();
+        AtomicLong startSequence = new AtomicLong();
+        this.versions = new AtomicLong();
+        List<ScoreboardState> shardStates = split(state, shardCount);
+        for (int i = 0; i < shardCount; i++) {
+            shards[i] = new ScoreboardCache(shardStates.get(i), teams, playing, startSequence, versions, feed);
+        }
+    }
+
+    @Override
+    public ScoreboardOutcome start(String homeTeam, String awayTeam, Supplier<LocalDateTime> startTime) {
+        return shardOf(homeTeam, awayTeam).start(homeTeam, awayTeam, startTime);
+    }
+
+    @Override
+    public ScoreboardOutcome update(String homeTeam, String awayTeam, int homeScore, int awayScore, long eventSequence, ScoreboardAudit audit) {
+        return shardOf(homeTeam, awayTeam).update(homeTeam, awayTeam, homeScore, awayScore, eventSequence, audit);
+    }
+
+    @Override
+    public ScoreboardOutcome addGoals(String homeTeam, String awayTeam, int homeGoals, int awayGoals, ScoreboardAudit audit) {
+        return shardOf(homeTeam, awayTeam).addGoals(homeTeam, awayTeam, homeGoals, awayGoals, audit);
+    }
+
+    @Override
+    public ScoreboardOutcome finish(String homeTeam, String awayTeam, MatchArchive archive) {
+        return shardOf(homeTeam, awayTeam).finish(homeTeam, awayTeam, archive);
+    }
+
+    @Override
+    public Match match(String homeTeam, String awayTeam) {
+        return shardOf(homeTeam, awayTeam).match(homeTeam, awayTeam);
+    }
+
+    /**
+     * Returns the running match of a team. The shards share the playing teams, so any shard answers for the whole store.
+     *
+     * @param team Team name
+     * @return Running match of the team, null if the team is not playing.
+     */
+    @Override
+    public Match currentMatch(String team) {
+        return shards[0].currentMatch(team);
+    }
+
+    /**
+     * Runs a batch of writes holding every shard exclusively. Shards are taken in a fixed order, so batches never wait on each other in a cycle.
+     *
+     * @param writes Writes of the batch, made through the write operations of this store on the calling thread.
+     */
+    @Override
+    public void batch(Runnable writes) {
+        long stamp = batches.writeLock();
+        try {
+            holdShards(0, writes);
+        } finally {
+            batches.unlockWrite(stamp);
+        }
+    }
+
+    private void holdShards(int shard, Runnable writes) {
+        if (shard == shards.length) {
+            writes.run();
+        } else {
+            shards[shard].batch(() -> holdShards(shard + 1, writes));
+        }
+    }
+
+    @Override
+    public void subscribe(Flow.Subscriber<? super ScoreboardEvent> subscriber) {
+        feed.subscribe(subscriber);
+    }
+
+    /**
+     * Returns a range of the running matches in summary order, merged from the ranked entries of the shards.
+     * Each shard is walked only up to the end of the range, and the merge stops at the end of the range.
+     *
+     * @param offset Count of the leading matches to skip
+     * @param limit  Maximum count of the matches to return
+     * @return Running matches of the range ordered by {@link ScoreboardCache#RANKING}.
+     */
+    @Override
+    public List<Match> ranked(int offset, int limit) {
+        long stamp = batches.tryOptimisticRead();
+        if (stamp != 0L) {
+            List<Match> ranked = merge(offset, limit);
+            if (batches.validate(stamp)) {
+                return ranked;
+            }
+        }
+        stamp = batches.readLock();
+        try {
+            return merge(offset, limit);
+        } finally {
+            batches.unlockRead(stamp);
+        }
+    }
+
+    /**
+     * Merges the ranked entries of the shards with a priority queue of the shard heads.
+     */
+    private List<Match> merge(int offset, int limit) {
+        int end = (int) Math.min((long) offset + limit, Integer.MAX_VALUE);
+        PriorityQueue<ShardCursor> heads = new PriorityQueue<>(shards.length, (cursor1, cursor2) -> ScoreboardCache.RANKING.compare(cursor1.head(), cursor2.head()));
+        for (ScoreboardCache shard : shards) {
+            List<MatchRank> entries = shard.rankedEntries(0, end);
+            if (!entries.isEmpty()) {
+                heads.add(new ShardCursor(entries));
+            }
+        }
+        List<Match> ranked = new ArrayList<>(Math.min(limit, 1024));
+        int position = 0;
+        while (position < end && !heads.isEmpty()) {
+            ShardCursor cursor = heads.poll();
+            if (position++ >= offset) {
+                ranked.add(cursor.head().match());
+            }
+            if (cursor.advance()) {
+                heads.add(cursor);
+            }
+        }
+        return Collections.unmodifiableList(ranked);
+    }
+
+    @Override
+    public long version() {
+        return versions.get();
+    }
+
+    /**
+     * Reads the ranked entries and the finished matches of every shard, and merges the ranked entries in summary order.
+     * Each shard read reflects every write up to its own board version, thus the merged read is current to the lowest of them.
+     * Reads are made optimistically against the batches, and made again holding them off if a batch overlapped.
+     *
+     * @param since Board version of the summary of the caller
+     * @return Ranked entries and finished matches of the shards
+     */
+    @Override
+    public RankedChanges changesSince(long since) {
+        long stamp = batches.tryOptimisticRead();
+        if (stamp != 0L) {
+            RankedChanges changes = mergeChanges(since);
+            if (batches.validate(stamp)) {
+                return changes;
+            }
+        }
+        stamp = batches.readLock();
+        try {
+            return mergeChanges(since);
+        } finally {
+            batches.unlockRead(stamp);
+        }
+    }
+
+    private RankedChanges mergeChanges(long since) {
+        long version = Long.MAX_VALUE;
+        boolean complete = true;
+        int size = 0;
+        List<Match> finished = new ArrayList<>();
+        PriorityQueue<ShardCursor> heads = new PriorityQueue<>(shards.length, (cursor1, cursor2) -> ScoreboardCache.RANKING.compare(cursor1.head(), cursor2.head()));
+        for (ScoreboardCache shard : shards) {
+            RankedChanges changes = shard.changesSince(since);
+            version = Math.min(version, changes.version());
+            complete &= changes.complete();
+            finished.addAll(changes.finished());
+            size += changes.ranked().size();
+            if (!changes.ranked().isEmpty()) {
+                heads.add(new ShardCursor(changes.ranked()));
+            }
+        }
+        List<MatchRank> ranked = new ArrayList<>(size);
+        while (!heads.isEmpty()) {
+            ShardCursor cursor = heads.poll();
+            ranked.add(cursor.head());
+            if (cursor.advance()) {
+                heads.add(cursor);
+            }
+        }
+        return new RankedChanges(version, ranked, finished, complete);
+    }
+
+    @Override
+    public int size() {
+        int size = 0;
+        for (ScoreboardCache shard : shards) {
+            size += shard.size();
+        }
+        return size;
+    }
+
+    /**
+     * Returns the count of the teams of the shared registry, so a team is counted once whichever shards its matches are on.
+     *
+     * @return Count of the registered teams of the store
+     */
+    @Override
+    public int teamCount() {
+        return teams.size();
+    }
+
+    /**
+     * Closes the shards, which close their shared change feed, so its subscribers are completed. A sharded store has no journal, thus there is no storage to release.
+     */
+    @Override
+    public void close() {
+        for (ScoreboardCache shard : shards) {
+            shard.close();
+        }
+    }
+
+    /**
+     * A sharded store has no journal, thus it never fails to write one.
+     *
+     * @return Null
+     */
+    @Override
+    public IOException journalFailure() {
+        return null;
+    }
+
+    /**
+     * Returns the state of every shard, taken within a batch, so the state holds no part of a write. The shards share the team registry,
+     * thus their match keys refer to the same team table, which is taken from the last shard state, as no team is registered or released while the batch holds the shards.
+     *
+     * @return Current state of the store
+     */
+    @Override
+    public ScoreboardState state() {
+        List<ScoreboardState> shardStates = new ArrayList<>(shards.length);
+        batch(() -> {
+            for (ScoreboardCache shard : shards) {
+                shardStates.add(shard.state());
+            }
+        });
+        List<ScoreboardState.RunningMatch> matches = new ArrayList<>();
+        long lastStartSequence = 0L;
+        for (ScoreboardState shardState : shardStates) {
+            matches.addAll(shardState.matches());
+            lastStartSequence = Math.max(lastStartSequence, shardState.lastStartSequence());
+        }
+        return new ScoreboardState(shardStates.get(shardStates.size() - 1).teams(), matches, lastStartSequence);
+    }
+
+    /**
+     * Splits a saved state into a state per shard. Each shard state has the whole team table of the saved state, so the match keys stay valid in the shared registry.
+     */
+    private static List<ScoreboardState> split(ScoreboardState state, int shardCount) {
+        List<List<ScoreboardState.RunningMatch>> matches = new ArrayList<>(shardCount);
+        for (int i = 0; i < shardCount; i++) {
+            matches.add(new ArrayList<>());
+        }
+        for (ScoreboardState.RunningMatch match : state.matches()) {
+            String homeTeam = state.teams().get(TeamRegistry.homeTeamIdOf(match.matchKey()));
+            String awayTeam = state.teams().get(TeamRegistry.awayTeamIdOf(match.matchKey()));
+            matches.get(shardIndex(homeTeam, awayTeam, shardCount)).add(match);
+        }
+        List<ScoreboardState> shardStates = new ArrayList<>(shardCount);
+        for (int i = 0; i < shardCount; i++) {
+            shardStates.add(new ScoreboardState(state.teams(), matches.get(i), state.lastStartSequence()));
+        }
+        return shardStates;
+    }
+
+    private ScoreboardCache shardOf(String homeTeam, String awayTeam) {
+        return shards[shardIndex(homeTeam, awayTeam, shards.length)];
+    }
+
+    /**
+     * Index of the shard of a match, taken from the hash of its team pair. Hash codes of the team names are cached by the names, so no hashing is repeated.
+     */
+    private static int shardIndex(String homeTeam, String awayTeam, int shardCount) {
+        int hash = 31 * homeTeam.hashCode() + awayTeam.hashCode();
+        return Math.floorMod(hash ^ (hash >>> 16), shardCount);
+    }
+
+    /**
+     * Position in the ranked entries of a shard during a merge.
+     */
+    private static final class ShardCursor {
+
+        private final List<MatchRank> entries;
+
+        private int index;
+
+        private ShardCursor(List<MatchRank> entries) {
+            this.entries = entries;
+        }
+
+        private MatchRank head() {
+            return entries.get(index);
+        }
+
+        private boolean advance() {
+            return ++index < entries.size();
+        }
+
+    }
+
+}
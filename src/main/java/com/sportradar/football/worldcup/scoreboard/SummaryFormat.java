@@ -0,0 +1,27 @@
+package com.sportradar.football.worldcup.scoreboard;
+
+/**
+ * <p>Wire format of a rendered summary. See {@link Scoreboard#renderedSummary(SummaryFormat)}.</p>
+ * <br>
+ * <p>A summary is rendered once per board version and format, and every reader of the version is handed the same bytes.</p>
+ *
+ * @author Ozan Aksoy
+ */
+public enum SummaryFormat {
+
+    /**
+     * UTF-8 JSON object with the board version and the matches in summary order:
+     * {@code {"version":12,"matches":[{"homeTeam":"Spain","awayTeam":"Brazil","homeScore":10,"awayScore":2,"matchTime":"2024-06-14T19:00"}]}}.
+     * Match times are ISO-8601 local date times.
+     */
+    JSON,
+
+    /**
+     * Compact big-endian binary layout, with the team names written once:
+     * the board version as a long, the team count and the match count as ints, the end offset of each team name as an int followed by the UTF-8 bytes of the names,
+     * then a row per match in summary order, each of the home and away team indexes, the home and away scores as ints,
+     * and the start time as the epoch seconds of the local date time read as UTC in a long, followed by its nanoseconds as an int.
+     */
+    BINARY
+
+}
@@ -0,0 +1,23 @@
+package com.sportradar.football.worldcup.scoreboard;
+
+/**
+ * <p>Strategy of a scoreboard to produce its summary. See {@link ScoreboardFactory.Builder#summaryMode(SummaryMode)}.</p>
+ * <br>
+ * <p>A summary is either built when it is asked for, or built by every write and handed out as it is until the next write.</p>
+ *
+ * @author Ozan Aksoy
+ */
+public enum SummaryMode {
+
+    /**
+     * Each summary call walks the ranked matches and builds a new list. Writes do no summary work. This is the default mode.
+     */
+    COMPUTED_ON_READ,
+
+    /**
+     * Each successful write builds an immutable summary in order and publishes it, and a summary call returns the published list without copying.
+     * Suits many readers with a few writers, as every write pays for a whole summary.
+     */
+    PUBLISHED_ON_WRITE
+
+}
@@ -0,0 +1,239 @@
+package com.sportradar.football.worldcup.scoreboard;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+/**
+ * <p>Package encapsulated renderer of the summary of a store to the bytes of a {@link SummaryFormat}, cached by board version.</p>
+ * <br>
+ * <p>The rendered bytes of a format are kept in a heap buffer with the board version of the store read before they were rendered. A reader whose board version has not moved
+ * is handed a read-only view of the cached buffer, so the bytes are neither rendered nor copied again. Otherwise the summary is rendered again within the monitor of the renderer,
+ * so the readers of a new board version wait for a single render rather than each rendering it.
+ * A new rendering takes a new buffer, as the readers of the previous one may still hold views of it. Heap buffers are taken, since a direct buffer per rendering
+ * would be costly to allocate and is only released by the garbage collector.</p>
+ *
+ * @author Ozan Aksoy
+ */
+final class SummaryRenderer {
+
+    /**
+     * Rendered bytes of a format at a board version.
+     */
+    private record Rendering(long version, ByteBuffer bytes) {
+    }
+
+    /**
+     * Count of the cached names allowed per running match, twice the count of its teams.
+     */
+    private static final int NAMES_PER_MATCH = 4;
+
+    private static final int NAMES_SLACK = 256;
+
+    private final ScoreboardStore store;
+
+    /**
+     * Latest rendering of each format, by the ordinal of the format.
+     */
+    private final AtomicReferenceArray<Rendering> renderings = new AtomicReferenceArray<>(SummaryFormat.values().length);
+
+    /**
+     * Team names encoded as quoted JSON strings, and as plain UTF-8, by team name. Used within the monitor of the renderer, like the scratch.
+     * A cache is cleared before a rendering once it holds more names than {@link SummaryRenderer#NAMES_PER_MATCH} per running match, plus some slack,
+     * so the names of the teams that no longer play are not kept for the lifetime of the store.
+     */
+    private final Map<String, byte[]> jsonNames = new HashMap<>();
+
+    private final Map<String, byte[]> utf8Names = new HashMap<>();
+
+    /**
+     * Scratch of the JSON rendering, grown as needed and reused by the next rendering.
+     */
+    private byte[] scratch = new byte[4096];
+
+    private int length;
+
+    /**
+     * Renderer of the summary of a store.
+     *
+     * @param store Store of the summary
+     */
+    SummaryRenderer(ScoreboardStore store) {
+        this.store = store;
+    }
+
+    /**
+     * Returns the summary of the store rendered to a format, rendering it only if the board version has moved since the last rendering.
+     * A rendering is keyed on the board version the store reports before the summary is read, so the rendering reflects every write up to its key,
+     * even for a sharded store, whose summary is current to the lowest version of its shards. Only the running matches are read, as a walk of the ranked index,
+     * so a rendering never holds the store exclusively and never blocks its writers.
+     *
+     * @param format Wire format
+     * @return Read-only view of the rendered bytes, positioned at their start.
+     */
+    ByteBuffer render(SummaryFormat format) {
+        long version = store.version();
+        Rendering rendering = renderings.get(format.ordinal());
+        if (rendering == null || rendering.version() != version) {
+            synchronized (this) {
+                version = store.version();
+                rendering = renderings.get(format.ordinal());
+                if (rendering == null || rendering.version() != version) {
+                    List<Match> summary = store.ranked();
+                    rendering = new Rendering(version, format == SummaryFormat.JSON ? json(version, summary) : binary(version, summary));
+                    renderings.set(format.ordinal(), rendering);
+                }
+            }
+        }
+        return rendering.bytes().asReadOnlyBuffer();
+    }
+
+    /**
+     * Clears a name cache that holds more names than the running matches of a summary need.
+     */
+    private static void trim(Map<String, byte[]> names, List<Match> summary) {
+        if (names.size() > NAMES_PER_MATCH * summary.size() + NAMES_SLACK) {
+            names.clear();
+        }
+    }
+
+    /**
+     * Renders the JSON layout into the scratch of the renderer, writing the cached encodings of the team names as they are.
+     */
+    private ByteBuffer json(long version, List<Match> summary) {
+        trim(jsonNames, summary);
+        length = 0;
+        ascii("{\"version\":");
+        number(version);
+        ascii(",\"matches\":[");
+        for (int i = 0; i < summary.size(); i++) {
+            Match match = summary.get(i);
+            if (i > 0) {
+                ascii(",");
+            }
+            ascii("{\"homeTeam\":");
+            bytes(jsonNames.computeIfAbsent(match.getHomeTeam(), SummaryRenderer::jsonString));
+            ascii(",\"awayTeam\":");
+            bytes(jsonNames.computeIfAbsent(match.getAwayTeam(), SummaryRenderer::jsonString));
+            ascii(",\"homeScore\":");
+            number(match.getHomeScore());
+            ascii(",\"awayScore\":");
+            number(match.getAwayScore());
+            ascii(",\"matchTime\":\"");
+            ascii(match.getMatchTime().toString());
+            ascii("\"}");
+        }
+        ascii("]}");
+        return ByteBuffer.wrap(Arrays.copyOf(scratch, length));
+    }
+
+    private void ascii(String value) {
+        ensure(value.length());
+        for (int i = 0; i < value.length(); i++) {
+            scratch[length++] = (byte) value.charAt(i);
+        }
+    }
+
+    private void bytes(byte[] value) {
+        ensure(value.length);
+        System.arraycopy(value, 0, scratch, length, value.length);
+        length += value.length;
+    }
+
+    /**
+     * Writes the decimal digits of a non-negative number without building a string.
+     */
+    private void number(long value) {
+        int digits = 1;
+        for (long rest = value; rest >= 10; rest /= 10) {
+            digits++;
+        }
+        ensure(digits);
+        for (int i = length + digits - 1; i >= length; i--) {
+            scratch[i] = (byte) ('0' + value % 10);
+            value /= 10;
+        }
+        length += digits;
+    }
+
+    private void ensure(int bytes) {
+        if (length + bytes > scratch.length) {
+            scratch = Arrays.copyOf(scratch, Math.max(2 * scratch.length, length + bytes));
+        }
+    }
+
+    /**
+     * Encodes a team name as a quoted JSON string in UTF-8, escaping the quotes, the backslashes and the control characters.
+     */
+    private static byte[] jsonString(String value) {
+        StringBuilder json = new StringBuilder(value.length() + 2).append('"');
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            switch (c) {
+                case '"' -> json.append("\\\"");
+                case '\\' -> json.append("\\\\");
+                case '\n' -> json.append("\\n");
+                case '\r' -> json.append("\\r");
+                case '\t' -> json.append("\\t");
+                default -> {
+                    if (c < 0x20) {
+                        json.append(String.format("\\u%04x", (int) c));
+                    } else {
+                        json.append(c);
+                    }
+                }
+            }
+        }
+        return json.append('"').toString().getBytes(StandardCharsets.UTF_8);
+    }
+
+    /**
+     * Renders the binary layout straight into its buffer, sized from the team names of the summary.
+     */
+    private ByteBuffer binary(long version, List<Match> ranked) {
+        trim(utf8Names, ranked);
+        Map<String, Integer> indexes = new HashMap<>();
+        List<byte[]> names = new ArrayList<>();
+        int[] rows = new int[2 * ranked.size()];
+        int nameBytes = 0;
+        for (int i = 0; i < ranked.size(); i++) {
+            Match match = ranked.get(i);
+            for (int side = 0; side < 2; side++) {
+                String team = side == 0 ? match.getHomeTeam() : match.getAwayTeam();
+                Integer index = indexes.get(team);
+                if (index == null) {
+                    index = names.size();
+                    indexes.put(team, index);
+                    names.add(utf8Names.computeIfAbsent(team, name -> name.getBytes(StandardCharsets.UTF_8)));
+                    nameBytes += names.get(index).length;
+                }
+                rows[2 * i + side] = index;
+            }
+        }
+        ByteBuffer buffer = ByteBuffer.allocate(Long.BYTES + 2 * Integer.BYTES + names.size() * Integer.BYTES + nameBytes
+                + ranked.size() * (5 * Integer.BYTES + Long.BYTES));
+        buffer.putLong(version).putInt(names.size()).putInt(ranked.size());
+        int end = 0;
+        for (byte[] name : names) {
+            end += name.length;
+            buffer.putInt(end);
+        }
+        for (byte[] name : names) {
+            buffer.put(name);
+        }
+        for (int i = 0; i < ranked.size(); i++) {
+            Match match = ranked.get(i);
+            buffer.putInt(rows[2 * i]).putInt(rows[2 * i + 1])
+                    .putInt(match.getHomeScore()).putInt(match.getAwayScore())
+                    .putLong(match.getMatchTime().toEpochSecond(ZoneOffset.UTC)).putInt(match.getMatchTime().getNano());
+        }
+        return buffer.flip();
+    }
+
+}
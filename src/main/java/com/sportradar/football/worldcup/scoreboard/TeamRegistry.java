@@ -0,0 +1,189 @@
+package com.sportradar.football.worldcup.scoreboard;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Package-private registry of the team names on a scoreboard. Each team name is interned to a dense integer id when it is registered,
+ * so matches can be keyed on team ids and the scoreboard holds a single instance of each team name.
+ * A registered team is referenced by each running match it plays, and it is dropped when its last match is finished, as {@link MatchArchive} drops its teams,
+ * so the registry holds only the teams of the running matches. The id of a dropped team is taken by the next team that is registered.
+ *
+ * @author Ozan Aksoy
+ */
+class TeamRegistry {
+
+    /**
+     * Id answered for a team name that has not been registered.
+     */
+    public static final int UNKNOWN_TEAM = -1;
+
+    /**
+     * Name listed for a free id by {@link TeamRegistry#names()}. A team name is never blank, so no team has it.
+     */
+    static final String FREE_TEAM = "";
+
+    private final Map<String, Integer> ids;
+
+    /**
+     * Interned team names by their id, null for a free id. Grown and replaced within the monitor of the registry.
+     */
+    private volatile String[] names;
+
+    /**
+     * Count of the running matches that reference each team id. Guarded by the monitor of the registry.
+     */
+    private int[] references;
+
+    /**
+     * Ids of the dropped teams, taken before a new id is assigned. Guarded by the monitor of the registry.
+     */
+    private int[] freeIds;
+
+    private int freeCount;
+
+    /**
+     * Count of the ids that have been assigned, the free ids included.
+     */
+    private int size;
+
+    public TeamRegistry() {
+        this.ids = new ConcurrentHashMap<>();
+        this.names = new String[64];
+        this.references = new int[64];
+        this.freeIds = new int[64];
+    }
+
+    /**
+     * Returns the id of a team name, registering the name if it is not registered, and references the team by a running match.
+     * The reference is dropped by {@link TeamRegistry#release(int)} once the match is finished, or once its start is rejected.
+     *
+     * @param name Team name
+     * @return Team id
+     */
+    public synchronized int register(String name) {
+        Integer id = ids.get(name);
+        int teamId = id != null ? id : assign(name);
+        references[teamId]++;
+        return teamId;
+    }
+
+    /**
+     * Registers a team of a restored running match with its saved id, and references the team by that match.
+     * Ids that are not taken by a restored team are free.
+     *
+     * @param id   Saved team id
+     * @param name Team name
+     */
+    public synchronized void restore(int id, String name) {
+        grow(id + 1);
+        if (names[id] == null) {
+            names[id] = name;
+            ids.put(name, id);
+            size = Math.max(size, id + 1);
+            freeCount = 0;
+            for (int free = size - 1; free >= 0; free--) {
+                if (names[free] == null) {
+                    freeIds[freeCount++] = free;
+                }
+            }
+        }
+        references[id]++;
+    }
+
+    /**
+     * Drops a reference of a running match to a team, and drops the team with its last reference, freeing its id.
+     *
+     * @param id Team id
+     */
+    public synchronized void release(int id) {
+        if (--references[id] == 0) {
+            ids.remove(names[id]);
+            names[id] = null;
+            freeIds[freeCount++] = id;
+        }
+    }
+
+    /**
+     * Returns the id of a registered team name.
+     *
+     * @param name Team name
+     * @return Team id, or {@link TeamRegistry#UNKNOWN_TEAM} if the name has not been registered.
+     */
+    public int find(String name) {
+        Integer id = ids.get(name);
+        return id != null ? id : UNKNOWN_TEAM;
+    }
+
+    /**
+     * Returns the interned name of a registered team.
+     *
+     * @param id Team id
+     * @return Team name
+     */
+    public String name(int id) {
+        return names[id];
+    }
+
+    /**
+     * Returns the count of the registered teams.
+     *
+     * @return Count of the teams of the running matches
+     */
+    public int size() {
+        return ids.size();
+    }
+
+    /**
+     * Returns the names of the registered teams in the order of their ids.
+     *
+     * @return Team names, where the index of a name is its team id, and a free id is listed as {@link TeamRegistry#FREE_TEAM}.
+     */
+    public synchronized List<String> names() {
+        List<String> registered = new ArrayList<>(size);
+        for (int id = 0; id < size; id++) {
+            registered.add(names[id] == null ? FREE_TEAM : names[id]);
+        }
+        return List.copyOf(registered);
+    }
+
+    private int assign(String name) {
+        int id = freeCount > 0 ? freeIds[--freeCount] : size++;
+        grow(id + 1);
+        names[id] = name;
+        ids.put(name, id);
+        return id;
+    }
+
+    private void grow(int capacity) {
+        if (capacity > names.length) {
+            int length = Math.max(2 * names.length, capacity);
+            names = Arrays.copyOf(names, length);
+            references = Arrays.copyOf(references, length);
+            freeIds = Arrays.copyOf(freeIds, length);
+        }
+    }
+
+    /**
+     * Combines the ids of the home and away teams into a single match key.
+     *
+     * @param homeTeamId Home team id
+     * @param awayTeamId Away team id
+     * @return Match key
+     */
+    public static long matchKey(int homeTeamId, int awayTeamId) {
+        return ((long) homeTeamId << 32) | (awayTeamId & 0xFFFFFFFFL);
+    }
+
+    public static int homeTeamIdOf(long matchKey) {
+        return (int) (matchKey >>> 32);
+    }
+
+    public static int awayTeamIdOf(long matchKey) {
+        return (int) matchKey;
+    }
+
+}
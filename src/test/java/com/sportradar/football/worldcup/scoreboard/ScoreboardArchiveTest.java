@@ -0,0 +1,175 @@
+package com.sportradar.football.worldcup.scoreboard;
+
+import com.sportradar.football.worldcup.scoreboard.exception.ScoreboardConsistencyException;
+import com.sportradar.football.worldcup.scoreboard.exception.ScoreboardInputException;
+import org.junit.jupiter.api.Test;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Scoreboard tests of the bounded archive of the finished matches.
+ * To understand the purpose and scenarios of the test cases, read the method names carefully.
+ * The names are written in BDD key structure.
+ */
+class ScoreboardArchiveTest {
+
+    @Test
+    void givenScoreboardIsBuiltWithoutArchive_WhenAMatchIsFinished_ThenNoFinishedMatchIsKept() throws ScoreboardInputException, ScoreboardConsistencyException {
+        Scoreboard scoreboard = ScoreboardFactory.getScoreboard();
+        scoreboard.startMatch("Mexico", "Canada");
+        scoreboard.finishMatch("Mexico", "Canada");
+        assertTrue(scoreboard.finishedMatches("Mexico").isEmpty());
+        assertTrue(scoreboard.finishedMatches(LocalDateTime.MIN, LocalDateTime.MAX).isEmpty());
+        assertThrows(ScoreboardInputException.class, () -> scoreboard.finishedMatches(" "));
+        assertThrows(ScoreboardInputException.class, () -> scoreboard.finishedMatches(null, LocalDateTime.MAX));
+    }
+
+    @Test
+    void givenScoreboardHasAnArchive_WhenMatchesAreFinished_ThenTheirFinalScoresAreFoundByTeam_LatestFinishFirst() throws ScoreboardInputException, ScoreboardConsistencyException {
+        Scoreboard scoreboard = ScoreboardFactory.builder().clock(new TickingClock()).archive(10).build();
+        scoreboard.startMatch("Mexico", "Canada");
+        scoreboard.updateScore("Mexico", "Canada", 0, 5);
+        scoreboard.finishMatch("Mexico", "Canada");
+        scoreboard.startMatch("Spain", "Mexico");
+        scoreboard.homeGoal("Spain", "Mexico");
+        scoreboard.finishMatch("Spain", "Mexico");
+        scoreboard.startMatch("Germany", "France");
+
+        List<FinishedMatch> mexico = scoreboard.finishedMatches("Mexico");
+        assertEquals(2, mexico.size());
+        assertEquals(new Match("Spain", "Mexico", at(3), 1, 0), mexico.get(0).match());
+        assertEquals(at(4), mexico.get(0).finishTime());
+        assertEquals(new Match("Mexico", "Canada", at(1), 0, 5), mexico.get(1).match());
+        assertEquals(at(2), mexico.get(1).finishTime());
+        assertEquals(1, scoreboard.finishedMatches("Canada").size());
+        assertTrue(scoreboard.finishedMatches("Germany").isEmpty());
+        assertTrue(scoreboard.summary().stream().noneMatch(match -> match.getHomeTeam().equals("Mexico")));
+    }
+
+    @Test
+    void givenScoreboardHasAnArchive_WhenMatchesAreQueriedByFinishTime_ThenTheMatchesFinishedWithinTheRangeAreReturned_EarliestFinishFirst() throws ScoreboardInputException {
+        Scoreboard scoreboard = ScoreboardFactory.builder().clock(new TickingClock()).archive(10).build();
+        for (int match = 0; match < 5; match++) {
+            playMatch(scoreboard, "Home " + match, "Away " + match);
+        }
+
+        List<FinishedMatch> finished = scoreboard.finishedMatches(at(4), at(8));
+        assertEquals(2, finished.size());
+        assertEquals("Home 1", finished.get(0).match().getHomeTeam());
+        assertEquals(at(4), finished.get(0).finishTime());
+        assertEquals("Home 2", finished.get(1).match().getHomeTeam());
+        assertEquals(5, scoreboard.finishedMatches(LocalDateTime.MIN, LocalDateTime.MAX).size());
+        assertTrue(scoreboard.finishedMatches(at(11), LocalDateTime.MAX).isEmpty());
+    }
+
+    @Test
+    void givenScoreboardHasAFullArchive_WhenAnotherMatchIsFinished_ThenTheOldestFinishedMatchIsEvicted() throws ScoreboardInputException {
+        Scoreboard scoreboard = ScoreboardFactory.builder().clock(new TickingClock()).archive(3).build();
+        for (int match = 0; match < 5; match++) {
+            playMatch(scoreboard, "Mexico", "Away " + match);
+        }
+
+        List<FinishedMatch> mexico = scoreboard.finishedMatches("Mexico");
+        assertEquals(3, mexico.size());
+        assertEquals("Away 4", mexico.get(0).match().getAwayTeam());
+        assertEquals("Away 2", mexico.get(2).match().getAwayTeam());
+        assertTrue(scoreboard.finishedMatches("Away 1").isEmpty());
+        assertEquals(3, scoreboard.finishedMatches(LocalDateTime.MIN, LocalDateTime.MAX).size());
+    }
+
+    @Test
+    void givenScoreboardHasAnArchiveWithARetentionWindow_WhenAMatchIsFinished_ThenTheMatchesFinishedBeforeTheWindowAreEvicted() throws ScoreboardInputException {
+        Scoreboard scoreboard = ScoreboardFactory.builder().clock(new TickingClock()).archive(10, Duration.ofMinutes(4)).build();
+        for (int match = 0; match < 4; match++) {
+            playMatch(scoreboard, "Home " + match, "Away " + match);
+        }
+
+        List<FinishedMatch> finished = scoreboard.finishedMatches(LocalDateTime.MIN, LocalDateTime.MAX);
+        assertEquals(3, finished.size());
+        assertEquals("Home 1", finished.get(0).match().getHomeTeam());
+        assertTrue(scoreboard.finishedMatches("Home 0").isEmpty());
+    }
+
+    @Test
+    void givenArchiveEvictsManyMatchesOfDistinctTeams_WhenATeamHasNoEntryLeft_ThenTheTeamIsDropped_AndTheTeamsOfTheKeptEntriesAreStillFound() {
+        MatchArchive archive = new MatchArchive(3, null, new ScoreboardClock(new TickingClock()));
+        for (int match = 0; match < 1_000; match++) {
+            archive.add(new Match("Mexico", "Away " + match, at(match), match % 4, 1));
+        }
+
+        assertEquals(4, archive.teamCount());
+        assertTrue(archive.byTeam("Away 996").isEmpty());
+        List<FinishedMatch> mexico = archive.byTeam("Mexico");
+        assertEquals(3, mexico.size());
+        assertEquals("Away 999", mexico.get(0).match().getAwayTeam());
+        assertEquals("Away 997", mexico.get(2).match().getAwayTeam());
+        assertEquals(1, archive.byTeam("Away 998").size());
+    }
+
+    @Test
+    void givenShardedScoreboardHasAnArchive_WhenMatchesAreFinishedByABatch_ThenTheFinishedMatchesOfAllShardsAreArchived() throws ScoreboardInputException {
+        Scoreboard scoreboard = ScoreboardFactory.builder().shards(4).archive(10).build();
+        scoreboard.applyBatch(List.of(
+                ScoreboardCommand.startMatch("Mexico", "Canada"),
+                ScoreboardCommand.startMatch("Spain", "Brazil"),
+                ScoreboardCommand.updateScore("Spain", "Brazil", 10, 2),
+                ScoreboardCommand.finishMatch("Mexico", "Canada"),
+                ScoreboardCommand.finishMatch("Spain", "Brazil"),
+                ScoreboardCommand.finishMatch("Spain", "Brazil")
+        ));
+
+        assertEquals(2, scoreboard.finishedMatches(LocalDateTime.MIN, LocalDateTime.MAX).size());
+        assertEquals(10, scoreboard.finishedMatches("Brazil").get(0).match().getHomeScore());
+        assertTrue(scoreboard.summary().isEmpty());
+    }
+
+    // ************************
+    // Supporting Test Methods:
+    // ************************
+
+    private void playMatch(Scoreboard scoreboard, String homeTeam, String awayTeam) {
+        assertEquals(ScoreboardOutcome.APPLIED, scoreboard.tryStartMatch(homeTeam, awayTeam));
+        assertEquals(ScoreboardOutcome.APPLIED, scoreboard.tryFinishMatch(homeTeam, awayTeam));
+    }
+
+    /**
+     * Time of the given read of the {@link TickingClock}.
+     */
+    private static LocalDateTime at(int read) {
+        return LocalDateTime.of(2024, 6, 14, 19, 0).plusMinutes(read);
+    }
+
+    /**
+     * Clock that moves a minute forward on each read, so each start and finish of a match is a minute later than the previous one.
+     */
+    private static final class TickingClock extends Clock {
+
+        private Instant instant = Instant.parse("2024-06-14T19:00:00Z");
+
+        @Override
+        public ZoneId getZone() {
+            return ZoneOffset.UTC;
+        }
+
+        @Override
+        public Clock withZone(ZoneId zone) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public Instant instant() {
+            instant = instant.plusSeconds(60);
+            return instant;
+        }
+
+    }
+
+}
@@ -0,0 +1,87 @@
+package com.sportradar.football.worldcup.scoreboard;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Scoreboard clock strategy tests.
+ * To understand the purpose and scenarios of the test cases, read the method names carefully.
+ * The names are written in BDD key structure.
+ */
+class ScoreboardClockTest {
+
+    @Test
+    void givenClockIsCoarse_WhenTimeIsFetchedManyTimesWithinATick_ThenTheClockIsReadOnce_AndTheNextTickReadsItAgain() throws InterruptedException {
+        TickingClock clock = new TickingClock();
+        ScoreboardClock coarse = new CoarseScoreboardClock(clock);
+        LocalDateTime first = coarse.fetchTime();
+        for (int i = 0; i < 1000; i++) {
+            coarse.fetchTime();
+        }
+        assertTrue(clock.reads < 100);
+        Thread.sleep(Duration.ofNanos(2 * CoarseScoreboardClock.TICK_NANOS).toMillis());
+        assertTrue(coarse.fetchTime().isAfter(first));
+    }
+
+    @Test
+    void givenClockIsMonotonic_WhenItsSourceGoesBackwards_ThenFetchedTimesNeverGoBackwards() {
+        TickingClock clock = new TickingClock();
+        ScoreboardClock monotonic = new MonotonicScoreboardClock(clock);
+        clock.instant = clock.instant.minus(Duration.ofHours(1));
+        LocalDateTime previous = monotonic.fetchTime();
+        assertFalse(previous.isBefore(LocalDateTime.parse("2024-06-14T19:00:00")));
+        for (int i = 0; i < 10_000; i++) {
+            LocalDateTime next = monotonic.fetchTime();
+            assertFalse(next.isBefore(previous));
+            previous = next;
+        }
+    }
+
+    @Test
+    void givenClockIsSystem_WhenTimeIsFetched_ThenTheTimeOfTheGivenClockIsReturned() {
+        Clock clock = Clock.fixed(Instant.parse("2024-06-14T19:00:00Z"), ZoneId.of("Europe/Berlin"));
+        assertEquals(LocalDateTime.parse("2024-06-14T21:00:00"), new ScoreboardClock(clock).fetchTime());
+        assertSame(clock, new ScoreboardClock(clock).fetchClock());
+    }
+
+    // ************************
+    // Supporting Test Methods:
+    // ************************
+
+    /**
+     * Clock that moves a second forward on each read, and counts its reads.
+     */
+    private static final class TickingClock extends Clock {
+
+        private Instant instant = Instant.parse("2024-06-14T19:00:00Z");
+
+        private int reads;
+
+        @Override
+        public ZoneId getZone() {
+            return ZoneOffset.UTC;
+        }
+
+        @Override
+        public Clock withZone(ZoneId zone) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public Instant instant() {
+            reads++;
+            instant = instant.plusSeconds(1);
+            return instant;
+        }
+
+    }
+
+}
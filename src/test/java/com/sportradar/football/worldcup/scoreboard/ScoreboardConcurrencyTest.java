@@ -0,0 +1,331 @@
+package com.sportradar.football.worldcup.scoreboard;
+
+import com.sportradar.football.worldcup.scoreboard.exception.ScoreboardConsistencyException;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.EnumSource;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Flow;
+import java.util.concurrent.Future;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Scoreboard stress tests with concurrent feeds on the standard/default scoreboard implementation.
+ * To understand the purpose and scenarios of the test cases, read the method names carefully.
+ * The names are written in BDD key structure.
+ */
+class ScoreboardConcurrencyTest {
+
+    private static final int WRITER_COUNT = 8;
+
+    private static final int UPDATES_PER_WRITER = 5_000;
+
+    private static final int MATCH_COUNT = 4;
+
+    private static final int BATCH_SIZE = 50;
+
+    @Test
+    void givenScoreboardIsLoaded_WhenConcurrentWritersUpdateScores_ThenScoresNeverGoBackwards_AndLastAcceptedScoreIsKept() throws Exception {
+        Scoreboard scoreboard = ScoreboardFactory.getScoreboard();
+        for (int i = 0; i < MATCH_COUNT; i++) {
+            scoreboard.startMatch(homeTeam(i), awayTeam(i));
+        }
+        ExecutorService executor = Executors.newFixedThreadPool(WRITER_COUNT + 1);
+        CountDownLatch startGate = new CountDownLatch(1);
+        AtomicBoolean writing = new AtomicBoolean(true);
+        try {
+            List<Future<List<int[]>>> writers = new ArrayList<>();
+            for (int i = 0; i < WRITER_COUNT; i++) {
+                writers.add(executor.submit(randomScoreWriter(scoreboard, startGate)));
+            }
+            Future<String> reader = executor.submit(backwardScoreDetector(scoreboard, startGate, writing));
+            startGate.countDown();
+            List<int[]> accepted = new ArrayList<>();
+            for (Future<List<int[]>> writer : writers) {
+                accepted.addAll(writer.get(1, TimeUnit.MINUTES));
+            }
+            writing.set(false);
+            assertNull(reader.get(1, TimeUnit.MINUTES));
+            assertLastAcceptedScoresAreKept(scoreboard, accepted);
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    void givenScoreboardIsLoaded_WhenConcurrentFeedsReportGoalsForTheSameMatches_ThenEveryGoalIsCounted() throws Exception {
+        Scoreboard scoreboard = ScoreboardFactory.getScoreboard();
+        for (int i = 0; i < MATCH_COUNT; i++) {
+            scoreboard.startMatch(homeTeam(i), awayTeam(i));
+        }
+        ExecutorService executor = Executors.newFixedThreadPool(WRITER_COUNT);
+        CountDownLatch startGate = new CountDownLatch(1);
+        try {
+            List<Future<?>> writers = new ArrayList<>();
+            for (int i = 0; i < WRITER_COUNT; i++) {
+                boolean home = i % 2 == 0;
+                writers.add(executor.submit(() -> {
+                    startGate.await();
+                    for (int goal = 0; goal < UPDATES_PER_WRITER; goal++) {
+                        int match = goal % MATCH_COUNT;
+                        if (home) {
+                            scoreboard.homeGoal(homeTeam(match), awayTeam(match));
+                        } else {
+                            scoreboard.awayGoal(homeTeam(match), awayTeam(match));
+                        }
+                    }
+                    return null;
+                }));
+            }
+            startGate.countDown();
+            for (Future<?> writer : writers) {
+                writer.get(1, TimeUnit.MINUTES);
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+        int goalsPerSide = WRITER_COUNT / 2 * UPDATES_PER_WRITER / MATCH_COUNT;
+        for (Match match : scoreboard.summary()) {
+            assertEquals(goalsPerSide, match.getHomeScore());
+            assertEquals(goalsPerSide, match.getAwayScore());
+        }
+    }
+
+    @Test
+    void givenScoreboardIsLoaded_WhenMatchesAreFinishedDuringConcurrentUpdates_ThenFinishedMatchesAreNeverBroughtBack() throws Exception {
+        Scoreboard scoreboard = ScoreboardFactory.getScoreboard();
+        ExecutorService executor = Executors.newFixedThreadPool(2);
+        try {
+            for (int i = 0; i < 200; i++) {
+                scoreboard.startMatch(homeTeam(i), awayTeam(i));
+                CountDownLatch startGate = new CountDownLatch(1);
+                int match = i;
+                Future<?> updater = executor.submit(() -> {
+                    startGate.await();
+                    for (int score = 1; score <= 100; score++) {
+                        try {
+                            scoreboard.updateScore(homeTeam(match), awayTeam(match), score, 0);
+                        } catch (ScoreboardConsistencyException e) {
+                            assertEquals("This match(" + homeTeam(match) + "-" + awayTeam(match) + ") has not been started.", e.getMessage());
+                        }
+                    }
+                    return null;
+                });
+                Future<?> finisher = executor.submit(() -> {
+                    startGate.await();
+                    scoreboard.finishMatch(homeTeam(match), awayTeam(match));
+                    return null;
+                });
+                startGate.countDown();
+                updater.get(1, TimeUnit.MINUTES);
+                finisher.get(1, TimeUnit.MINUTES);
+                assertTrue(scoreboard.summary().isEmpty());
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @ParameterizedTest
+    @EnumSource(SummaryMode.class)
+    void givenScoreboardIsRead_WhenBatchesOfMatchesAreStartedAndFinished_ThenSummaryHoldsEitherNoneOrAllMatchesOfABatch(SummaryMode summaryMode) throws Exception {
+        Scoreboard scoreboard = ScoreboardFactory.builder().summaryMode(summaryMode).build();
+        List<ScoreboardCommand> starts = new ArrayList<>();
+        List<ScoreboardCommand> finishes = new ArrayList<>();
+        for (int i = 0; i < BATCH_SIZE; i++) {
+            starts.add(ScoreboardCommand.startMatch(homeTeam(i), awayTeam(i)));
+            finishes.add(ScoreboardCommand.finishMatch(homeTeam(i), awayTeam(i)));
+        }
+        ExecutorService executor = Executors.newSingleThreadExecutor();
+        AtomicBoolean writing = new AtomicBoolean(true);
+        try {
+            Future<String> reader = executor.submit(() -> {
+                while (writing.get()) {
+                    int size = scoreboard.summary().size();
+                    if (size != 0 && size != BATCH_SIZE) {
+                        return "Summary holds a part of a batch: " + size + " matches";
+                    }
+                }
+                return null;
+            });
+            for (int i = 0; i < 500; i++) {
+                assertTrue(scoreboard.applyBatch(starts).stream().allMatch(ScoreboardCommandResult::isApplied));
+                assertTrue(scoreboard.applyBatch(finishes).stream().allMatch(ScoreboardCommandResult::isApplied));
+            }
+            writing.set(false);
+            assertNull(reader.get(1, TimeUnit.MINUTES));
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @ParameterizedTest
+    @ValueSource(ints = {1, 4})
+    void givenScoreboardIsPolledForDeltas_WhenConcurrentWritersStartScoreAndFinishMatches_ThenAppliedDeltasStayOrdered_AndCatchUpWithTheSummary(int shards) throws Exception {
+        Scoreboard scoreboard = ScoreboardFactory.builder().shards(shards).build();
+        ExecutorService executor = Executors.newFixedThreadPool(WRITER_COUNT);
+        CountDownLatch startGate = new CountDownLatch(1);
+        AtomicBoolean writing = new AtomicBoolean(true);
+        try {
+            List<Future<?>> writers = new ArrayList<>();
+            for (int i = 0; i < WRITER_COUNT; i++) {
+                writers.add(executor.submit(() -> {
+                    startGate.await();
+                    ThreadLocalRandom random = ThreadLocalRandom.current();
+                    for (int write = 0; write < UPDATES_PER_WRITER; write++) {
+                        int match = random.nextInt(4 * MATCH_COUNT);
+                        switch (random.nextInt(4)) {
+                            case 0 -> scoreboard.tryStartMatch(homeTeam(match), awayTeam(match));
+                            case 1 -> scoreboard.tryFinishMatch(homeTeam(match), awayTeam(match));
+                            default -> scoreboard.tryHomeGoal(homeTeam(match), awayTeam(match));
+                        }
+                    }
+                    return null;
+                }));
+            }
+            startGate.countDown();
+            List<Match> polled = List.of();
+            long version = 0L;
+            while (writing.get()) {
+                ScoreboardDelta delta = scoreboard.summarySince(version);
+                polled = delta.applyTo(polled);
+                version = delta.version();
+                assertEquals(polled.size(), polled.stream().map(Match::getHomeTeam).distinct().count(), "Polled summary holds a match twice: " + polled);
+                for (int i = 1; i < polled.size(); i++) {
+                    assertTrue(polled.get(i - 1).getHomeScore() >= polled.get(i).getHomeScore(), "Polled summary is out of order: " + polled);
+                }
+                writing.set(writers.stream().anyMatch(writer -> !writer.isDone()));
+            }
+            for (Future<?> writer : writers) {
+                writer.get(1, TimeUnit.MINUTES);
+            }
+            assertEquals(scoreboard.summary(), scoreboard.summarySince(version).applyTo(polled));
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    void givenScoreboardHasASubscriberThatDoesNotRequest_WhenScoresAreUpdated_ThenWriterIsNotBlocked_AndLateEventsArriveInSequenceOrder() throws Exception {
+        Scoreboard scoreboard = ScoreboardFactory.getScoreboard();
+        BlockingQueue<ScoreboardEvent> received = new LinkedBlockingQueue<>();
+        CompletableFuture<Flow.Subscription> subscription = new CompletableFuture<>();
+        scoreboard.subscribe(new Flow.Subscriber<>() {
+            @Override
+            public void onSubscribe(Flow.Subscription s) {
+                subscription.complete(s);
+            }
+
+            @Override
+            public void onNext(ScoreboardEvent event) {
+                received.add(event);
+            }
+
+            @Override
+            public void onError(Throwable throwable) {
+            }
+
+            @Override
+            public void onComplete() {
+            }
+        });
+        subscription.get(1, TimeUnit.MINUTES);
+        scoreboard.startMatch(homeTeam(0), awayTeam(0));
+        for (int score = 1; score <= UPDATES_PER_WRITER; score++) {
+            scoreboard.updateScore(homeTeam(0), awayTeam(0), score, 0);
+        }
+        subscription.get().request(Long.MAX_VALUE);
+        List<ScoreboardEvent> events = new ArrayList<>();
+        for (ScoreboardEvent event = received.poll(1, TimeUnit.MINUTES); event != null; event = received.poll(1, TimeUnit.SECONDS)) {
+            events.add(event);
+        }
+        assertFalse(events.isEmpty());
+        assertTrue(events.size() < UPDATES_PER_WRITER);
+        for (int i = 1; i < events.size(); i++) {
+            assertTrue(events.get(i - 1).getSequence() < events.get(i).getSequence());
+        }
+    }
+
+    // ************************
+    // Supporting Test Methods:
+    // ************************
+
+    private Callable<List<int[]>> randomScoreWriter(Scoreboard scoreboard, CountDownLatch startGate) {
+        return () -> {
+            startGate.await();
+            List<int[]> accepted = new ArrayList<>();
+            ThreadLocalRandom random = ThreadLocalRandom.current();
+            for (int i = 0; i < UPDATES_PER_WRITER; i++) {
+                int match = random.nextInt(MATCH_COUNT);
+                int homeScore = random.nextInt(i / 50 + 1);
+                int awayScore = random.nextInt(i / 50 + 1);
+                try {
+                    scoreboard.updateScore(homeTeam(match), awayTeam(match), homeScore, awayScore);
+                    accepted.add(new int[]{match, homeScore, awayScore});
+                } catch (ScoreboardConsistencyException ignored) {
+                    // Rejected updates are expected, as writers compete with random scores.
+                }
+            }
+            return accepted;
+        };
+    }
+
+    private Callable<String> backwardScoreDetector(Scoreboard scoreboard, CountDownLatch startGate, AtomicBoolean writing) {
+        return () -> {
+            startGate.await();
+            Map<String, Match> lastSeen = new HashMap<>();
+            while (writing.get()) {
+                for (Match match : scoreboard.summary()) {
+                    Match previous = lastSeen.put(match.getHomeTeam(), match);
+                    if (previous != null && (match.getHomeScore() < previous.getHomeScore() || match.getAwayScore() < previous.getAwayScore())) {
+                        return "Score went backwards from " + previous + " to " + match;
+                    }
+                }
+            }
+            return null;
+        };
+    }
+
+    private void assertLastAcceptedScoresAreKept(Scoreboard scoreboard, List<int[]> accepted) {
+        int[][] highest = new int[MATCH_COUNT][2];
+        for (int[] update : accepted) {
+            int[] score = highest[update[0]];
+            assertFalse(update[1] < score[0] && update[2] > score[1] || update[1] > score[0] && update[2] < score[1],
+                    "Accepted scores are not ordered: " + update[1] + "-" + update[2] + " and " + score[0] + "-" + score[1]);
+            score[0] = Math.max(score[0], update[1]);
+            score[1] = Math.max(score[1], update[2]);
+        }
+        List<Match> summary = scoreboard.summary();
+        assertEquals(MATCH_COUNT, summary.size());
+        for (Match match : summary) {
+            int[] score = highest[Integer.parseInt(match.getHomeTeam().substring("Home ".length()))];
+            assertEquals(score[0], match.getHomeScore());
+            assertEquals(score[1], match.getAwayScore());
+        }
+    }
+
+    private static String homeTeam(int match) {
+        return "Home " + match;
+    }
+
+    private static String awayTeam(int match) {
+        return "Away " + match;
+    }
+
+}
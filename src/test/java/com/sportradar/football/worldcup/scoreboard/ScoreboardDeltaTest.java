@@ -0,0 +1,169 @@
+package com.sportradar.football.worldcup.scoreboard;
+
+import com.sportradar.football.worldcup.scoreboard.exception.ScoreboardConsistencyException;
+import com.sportradar.football.worldcup.scoreboard.exception.ScoreboardInputException;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import java.util.HashSet;
+import java.util.List;
+import java.util.Random;
+import java.util.Set;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Scoreboard tests of the board version and of the summary deltas since a board version.
+ * To understand the purpose and scenarios of the test cases, read the method names carefully.
+ * The names are written in BDD key structure.
+ */
+class ScoreboardDeltaTest {
+
+    @Test
+    void givenScoreboardIsWrittenTo_WhenWritesAreAppliedOrRejected_ThenOnlyTheAppliedWritesRaiseTheBoardVersion() throws ScoreboardInputException, ScoreboardConsistencyException {
+        Scoreboard scoreboard = ScoreboardFactory.getScoreboard();
+        assertEquals(0, scoreboard.version());
+        scoreboard.startMatch("Mexico", "Canada");
+        long started = scoreboard.version();
+        assertTrue(started > 0);
+        assertEquals(ScoreboardOutcome.MATCH_ALREADY_STARTED, scoreboard.tryStartMatch("Mexico", "Canada"));
+        assertEquals(ScoreboardOutcome.SCORE_ALREADY_RECORDED, scoreboard.tryUpdateScore("Mexico", "Canada", 0, 0));
+        assertEquals(started, scoreboard.version());
+        scoreboard.updateScore("Mexico", "Canada", 0, 5);
+        assertTrue(scoreboard.version() > started);
+        long updated = scoreboard.version();
+        scoreboard.finishMatch("Mexico", "Canada");
+        assertTrue(scoreboard.version() > updated);
+    }
+
+    @Test
+    void givenSummaryHasNotChangedSinceAVersion_WhenItsDeltaIsFetched_ThenTheDeltaIsUnchanged_AndKeepsTheVersion() throws ScoreboardInputException, ScoreboardConsistencyException {
+        Scoreboard scoreboard = ScoreboardFactory.getScoreboard();
+        assertTrue(scoreboard.summarySince(0).isUnchanged());
+        scoreboard.startMatch("Mexico", "Canada");
+        scoreboard.startMatch("Spain", "Brazil");
+        ScoreboardDelta delta = scoreboard.summarySince(0);
+        assertTrue(delta.full());
+        assertEquals(scoreboard.summary(), delta.applyTo(List.of()));
+
+        ScoreboardDelta unchanged = scoreboard.summarySince(delta.version());
+        assertTrue(unchanged.isUnchanged());
+        assertEquals(delta.version(), unchanged.version());
+        assertThrows(ScoreboardInputException.class, () -> scoreboard.summarySince(-1));
+    }
+
+    @Test
+    void givenSummaryHasChangedSinceAVersion_WhenItsDeltaIsFetched_ThenOnlyTheChangedAndFinishedMatchesAreReturned() throws ScoreboardInputException, ScoreboardConsistencyException {
+        Scoreboard scoreboard = ScoreboardFactory.getScoreboard();
+        scoreboard.startMatch("Mexico", "Canada");
+        scoreboard.startMatch("Spain", "Brazil");
+        scoreboard.startMatch("Germany", "France");
+        scoreboard.startMatch("Uruguay", "Italy");
+        List<Match> before = scoreboard.summary();
+        long version = scoreboard.version();
+
+        scoreboard.updateScore("Spain", "Brazil", 10, 2);
+        scoreboard.finishMatch("Germany", "France");
+        scoreboard.startMatch("Argentina", "Australia");
+        ScoreboardDelta delta = scoreboard.summarySince(version);
+
+        assertFalse(delta.full());
+        assertEquals(scoreboard.version(), delta.version());
+        assertEquals(List.of(
+                new ScoreboardDelta.RankedMatch(0, scoreboard.match("Spain", "Brazil").orElseThrow()),
+                new ScoreboardDelta.RankedMatch(1, scoreboard.match("Argentina", "Australia").orElseThrow())), delta.changed());
+        assertEquals(List.of("Germany"), delta.finished().stream().map(Match::getHomeTeam).toList());
+        assertEquals(scoreboard.summary(), delta.applyTo(before));
+    }
+
+    @Test
+    void givenFinishesSinceAVersionAreNoLongerRemembered_WhenItsDeltaIsFetched_ThenTheDeltaIsTheFullSummary() throws ScoreboardInputException, ScoreboardConsistencyException {
+        Scoreboard scoreboard = ScoreboardFactory.getScoreboard();
+        scoreboard.startMatch("Mexico", "Canada");
+        long version = scoreboard.version();
+        for (int match = 0; match <= ScoreboardCache.FINISHES_REMEMBERED; match++) {
+            scoreboard.startMatch("Home " + match, "Away " + match);
+            scoreboard.finishMatch("Home " + match, "Away " + match);
+        }
+
+        ScoreboardDelta delta = scoreboard.summarySince(version);
+        assertTrue(delta.full());
+        assertTrue(delta.finished().isEmpty());
+        assertEquals(scoreboard.summary(), delta.applyTo(List.of()));
+        assertTrue(scoreboard.summarySince(version + 1_000_000).full());
+    }
+
+    @ParameterizedTest
+    @ValueSource(ints = {1, 4})
+    void givenScoreboardIsPolledForDeltas_WhenRandomWritesAreApplied_ThenEachAppliedDeltaMatchesTheSummary(int shards) throws ScoreboardInputException {
+        Scoreboard scoreboard = ScoreboardFactory.builder().shards(shards).build();
+        Random random = new Random(42);
+        List<Match> polled = List.of();
+        long version = 0L;
+        for (int round = 0; round < 200; round++) {
+            for (int write = random.nextInt(5); write > 0; write--) {
+                randomWrite(scoreboard, random);
+            }
+            ScoreboardDelta delta = scoreboard.summarySince(version);
+            polled = delta.applyTo(polled);
+            version = delta.version();
+            assertEquals(scoreboard.summary(), polled, "Round " + round);
+        }
+    }
+
+    @Test
+    void givenMatchesAreFinishedConcurrently_WhenDeltasArePolledMeanwhile_ThenEveryDeltaHoldsWholeFinishedMatches_AndTheAppliedDeltasEndAtTheSummary() throws Exception {
+        Scoreboard scoreboard = ScoreboardFactory.getScoreboard();
+        int matchCount = 3 * ScoreboardCache.FINISHES_REMEMBERED;
+        ExecutorService executor = Executors.newSingleThreadExecutor();
+        try {
+            Future<?> writer = executor.submit(() -> {
+                for (int match = 0; match < matchCount; match++) {
+                    scoreboard.startMatch("Home " + match, "Away " + match);
+                    scoreboard.homeGoal("Home " + match, "Away " + match);
+                    if (match >= 20) {
+                        scoreboard.finishMatch("Home " + (match - 20), "Away " + (match - 20));
+                    }
+                }
+                return null;
+            });
+            List<Match> polled = List.of();
+            long version = 0L;
+            while (!writer.isDone()) {
+                ScoreboardDelta delta = scoreboard.summarySince(version);
+                assertTrue(delta.finished().stream().allMatch(match -> match != null && match.getHomeScore() == 1), "Finished matches are whole");
+                polled = delta.applyTo(polled);
+                version = delta.version();
+                assertTrue(polled.size() <= 21, "Finished matches are dropped");
+                Set<String> teams = new HashSet<>();
+                assertTrue(polled.stream().allMatch(match -> teams.add(match.getHomeTeam())), "Each match is polled once");
+            }
+            writer.get(1, TimeUnit.MINUTES);
+            assertEquals(scoreboard.summary(), scoreboard.summarySince(version).applyTo(polled));
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    // ************************
+    // Supporting Test Methods:
+    // ************************
+
+    private void randomWrite(Scoreboard scoreboard, Random random) {
+        int match = random.nextInt(20);
+        String homeTeam = "Home " + match;
+        String awayTeam = "Away " + match;
+        switch (random.nextInt(4)) {
+            case 0 -> scoreboard.tryStartMatch(homeTeam, awayTeam);
+            case 1 -> scoreboard.tryFinishMatch(homeTeam, awayTeam);
+            case 2 -> scoreboard.tryHomeGoal(homeTeam, awayTeam);
+            default -> scoreboard.tryAwayGoal(homeTeam, awayTeam);
+        }
+    }
+
+}
@@ -1,6 +1,16 @@
 package com.sportradar.football.worldcup.scoreboard;
 
+import com.sportradar.football.worldcup.scoreboard.exception.ScoreboardConsistencyException;
+import com.sportradar.football.worldcup.scoreboard.exception.ScoreboardInputException;
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.EnumSource;
+
+import java.nio.file.Path;
+import java.time.Clock;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
 
 import static org.junit.jupiter.api.Assertions.*;
 
@@ -16,4 +26,29 @@ class ScoreboardFactoryTest {
         assertNotNull(ScoreboardFactory.getScoreboard());
     }
 
-}
\ No newline at end of file
+    @Test
+    void whenScoreboardIsBuiltWithASummaryMode_AnswersWithAnInstance() {
+        assertNotNull(ScoreboardFactory.builder().summaryMode(SummaryMode.PUBLISHED_ON_WRITE).build());
+        assertThrows(NullPointerException.class, () -> ScoreboardFactory.builder().summaryMode(null));
+    }
+
+    @Test
+    void whenScoreboardIsBuiltWithShards_AnswersWithAnInstance_UnlessTheShardCountIsNotPositive_OrItHasAJournal() {
+        assertNotNull(ScoreboardFactory.builder().shards(8).build());
+        assertThrows(IllegalArgumentException.class, () -> ScoreboardFactory.builder().shards(0));
+        assertThrows(IllegalStateException.class, () -> ScoreboardFactory.builder().shards(2).journal(Path.of("journal")).build());
+    }
+
+    @ParameterizedTest
+    @EnumSource(ClockStrategy.class)
+    void whenScoreboardIsBuiltWithAFixedClock_StartTimesAreReadFromTheClock(ClockStrategy clockStrategy) throws ScoreboardInputException, ScoreboardConsistencyException {
+        Clock clock = Clock.fixed(Instant.parse("2024-06-14T19:00:00Z"), ZoneOffset.ofHours(2));
+        Scoreboard scoreboard = ScoreboardFactory.builder().clock(clock).clockStrategy(clockStrategy).build();
+        scoreboard.startMatch("Germany", "Scotland");
+        LocalDateTime matchTime = scoreboard.currentMatch("Germany").orElseThrow().getMatchTime();
+        assertFalse(matchTime.isBefore(LocalDateTime.parse("2024-06-14T21:00:00")));
+        assertTrue(matchTime.isBefore(LocalDateTime.parse("2024-06-14T21:01:00")));
+        assertThrows(NullPointerException.class, () -> ScoreboardFactory.builder().clockStrategy(null));
+    }
+
+}
@@ -0,0 +1,141 @@
+package com.sportradar.football.worldcup.scoreboard;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.UncheckedIOException;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Scoreboard tests with an ingestion pipeline, where the writes are queued by producer threads and applied by the writer thread of the pipeline.
+ * To understand the purpose and scenarios of the test cases, read the method names carefully.
+ * The names are written in BDD key structure.
+ */
+class ScoreboardIngestionTest {
+
+    @TempDir
+    private Path directory;
+
+    @Test
+    void givenScoreboardHasAnIngestionPipeline_WhenWritesAreQueued_ThenTheyAreAppliedInOrder_AndCompletedWithTheirOutcomes() throws Exception {
+        Scoreboard scoreboard = ScoreboardFactory.getScoreboard();
+        try (ScoreboardIngestion ingestion = ScoreboardFactory.ingestion(scoreboard, 16)) {
+            CompletableFuture<ScoreboardOutcome> started = ingestion.startMatch("Mexico", "Canada");
+            CompletableFuture<ScoreboardOutcome> restarted = ingestion.startMatch("Mexico", "Canada");
+            CompletableFuture<ScoreboardOutcome> updated = ingestion.updateScore("Mexico", "Canada", 0, 5);
+            CompletableFuture<ScoreboardOutcome> lowered = ingestion.updateScore("Mexico", "Canada", 0, 4);
+            CompletableFuture<ScoreboardOutcome> invalid = ingestion.finishMatch("Mexico", " ");
+            CompletableFuture<ScoreboardOutcome> missing = ingestion.finishMatch("Spain", "Brazil");
+
+            assertEquals(ScoreboardOutcome.APPLIED, started.get(1, TimeUnit.MINUTES));
+            assertEquals(ScoreboardOutcome.MATCH_ALREADY_STARTED, restarted.get(1, TimeUnit.MINUTES));
+            assertEquals(ScoreboardOutcome.APPLIED, updated.get(1, TimeUnit.MINUTES));
+            assertEquals(ScoreboardOutcome.AWAY_SCORE_DECREASED, lowered.get(1, TimeUnit.MINUTES));
+            assertEquals(ScoreboardOutcome.INVALID_INPUT, invalid.get(1, TimeUnit.MINUTES));
+            assertEquals(ScoreboardOutcome.MATCH_NOT_STARTED, missing.get(1, TimeUnit.MINUTES));
+            Match match = scoreboard.match("Mexico", "Canada").orElseThrow();
+            assertEquals(0, match.getHomeScore());
+            assertEquals(5, match.getAwayScore());
+        }
+    }
+
+    @Test
+    void givenScoreboardHasAnIngestionPipelineWithASmallRing_WhenManyProducersQueueUpdates_ThenEveryUpdateIsAppliedAndCompleted() throws Exception {
+        Scoreboard scoreboard = ScoreboardFactory.builder().summaryMode(SummaryMode.PUBLISHED_ON_WRITE).build();
+        int producerCount = 4;
+        int updateCount = 2_000;
+        AtomicInteger applied = new AtomicInteger();
+        ExecutorService executor = Executors.newFixedThreadPool(producerCount);
+        try (ScoreboardIngestion ingestion = ScoreboardFactory.ingestion(scoreboard, 8)) {
+            List<Future<?>> producers = new ArrayList<>();
+            for (int producer = 0; producer < producerCount; producer++) {
+                String homeTeam = "Home " + producer;
+                String awayTeam = "Away " + producer;
+                producers.add(executor.submit(() -> {
+                    ingestion.startMatch(homeTeam, awayTeam).join();
+                    for (int score = 1; score <= updateCount; score++) {
+                        ingestion.updateScore(homeTeam, awayTeam, score, 0, outcome -> {
+                            if (outcome.isApplied()) {
+                                applied.incrementAndGet();
+                            }
+                        });
+                    }
+                    return null;
+                }));
+            }
+            for (Future<?> producer : producers) {
+                producer.get(1, TimeUnit.MINUTES);
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+        assertEquals(producerCount * updateCount, applied.get());
+        List<Match> summary = scoreboard.summary();
+        assertEquals(producerCount, summary.size());
+        for (Match match : summary) {
+            assertEquals(updateCount, match.getHomeScore());
+        }
+    }
+
+    @Test
+    void givenIngestionPipelineIsClosed_WhenAWriteIsQueued_ThenItIsRefused_AndWritesQueuedBeforeAreApplied() throws Exception {
+        Scoreboard scoreboard = ScoreboardFactory.getScoreboard();
+        ScoreboardIngestion ingestion = ScoreboardFactory.ingestion(scoreboard, 4);
+        List<CompletableFuture<ScoreboardOutcome>> outcomes = new ArrayList<>();
+        for (int match = 0; match < 20; match++) {
+            outcomes.add(ingestion.startMatch("Home " + match, "Away " + match));
+        }
+        ingestion.close();
+        for (CompletableFuture<ScoreboardOutcome> outcome : outcomes) {
+            assertTrue(outcome.isDone());
+            assertEquals(ScoreboardOutcome.APPLIED, outcome.get());
+        }
+        assertEquals(20, scoreboard.summary().size());
+        assertThrows(IllegalStateException.class, () -> ingestion.startMatch("Spain", "Brazil"));
+        ingestion.close();
+    }
+
+    @Test
+    void givenScoreboardHasAnIngestionPipeline_WhenSequencedEventsAreRedelivered_ThenTheyAreDroppedAndCounted() throws Exception {
+        Scoreboard scoreboard = ScoreboardFactory.getScoreboard();
+        List<ScoreboardOutcome> outcomes = new ArrayList<>();
+        try (ScoreboardIngestion ingestion = ScoreboardFactory.ingestion(scoreboard, 16)) {
+            ingestion.startMatch("Mexico", "Canada", outcomes::add);
+            ingestion.updateScore("Mexico", "Canada", 1, 0, 1L, outcomes::add);
+            ingestion.updateScore("Mexico", "Canada", 1, 0, 1L, outcomes::add);
+            ingestion.updateScore("Mexico", "Canada", 2, 0, 2L, outcomes::add);
+        }
+        assertIterableEquals(List.of(ScoreboardOutcome.APPLIED, ScoreboardOutcome.APPLIED, ScoreboardOutcome.STALE_EVENT, ScoreboardOutcome.APPLIED), outcomes);
+        assertEquals(1, scoreboard.droppedEvents());
+        assertEquals(2, scoreboard.match("Mexico", "Canada").orElseThrow().getHomeScore());
+    }
+
+    @Test
+    void givenScoreboardJournalIsClosed_WhenTheWriterThreadFailsToApplyARun_ThenThePipelineFails_AndItsWritesAreCompletedAsFailed_AndLaterWritesAreRefused() throws Exception {
+        Scoreboard scoreboard = ScoreboardFactory.builder().journal(directory).build();
+        scoreboard.startMatch("Mexico", "Canada");
+        scoreboard.close();
+        ScoreboardIngestion ingestion = ScoreboardFactory.ingestion(scoreboard, 16);
+        CompletableFuture<ScoreboardOutcome> updated = ingestion.updateScore("Mexico", "Canada", 1, 0);
+
+        assertEquals(ScoreboardOutcome.WRITE_FAILED, updated.get(1, TimeUnit.MINUTES));
+        IllegalStateException refused = assertThrows(IllegalStateException.class, () -> ingestion.startMatch("Spain", "Brazil"));
+        assertInstanceOf(UncheckedIOException.class, refused.getCause());
+        IllegalStateException closed = assertThrows(IllegalStateException.class, ingestion::close);
+        assertInstanceOf(UncheckedIOException.class, closed.getCause());
+        try (Scoreboard reopened = ScoreboardFactory.builder().journal(directory).build()) {
+            assertEquals(0, reopened.match("Mexico", "Canada").orElseThrow().getHomeScore());
+        }
+    }
+
+}
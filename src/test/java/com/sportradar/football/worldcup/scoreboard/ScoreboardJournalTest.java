@@ -0,0 +1,247 @@
+package com.sportradar.football.worldcup.scoreboard;
+
+import com.sportradar.football.worldcup.scoreboard.exception.ScoreboardConsistencyException;
+import com.sportradar.football.worldcup.scoreboard.exception.ScoreboardInputException;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.spy;
+
+/**
+ * Scoreboard tests with a write-ahead journal, where each scoreboard is rebuilt from the journal of the previous one.
+ * To understand the purpose and scenarios of the test cases, read the method names carefully.
+ * The names are written in BDD key structure.
+ */
+class ScoreboardJournalTest {
+
+    @TempDir
+    private Path directory;
+
+    @Test
+    void givenScoreboardHasAJournal_WhenItIsRebuiltFromTheJournal_ThenRunningMatchesAreRecovered_AndNewWritesFollowThem() throws ScoreboardInputException, ScoreboardConsistencyException {
+        Scoreboard scoreboard = buildScoreboard(100_000);
+        scoreboard.startMatch("Mexico", "Canada");
+        scoreboard.startMatch("Spain", "Brazil");
+        scoreboard.startMatch("Germany", "France");
+        scoreboard.updateScore("Mexico", "Canada", 0, 5);
+        scoreboard.updateScore("Spain", "Brazil", 10, 2);
+        scoreboard.finishMatch("Germany", "France");
+        scoreboard.applyBatch(List.of(
+                ScoreboardCommand.startMatch("Uruguay", "Italy"),
+                ScoreboardCommand.updateScore("Uruguay", "Italy", 6, 6)
+        ));
+        List<Match> expected = scoreboard.summary();
+        scoreboard.close();
+
+        Scoreboard recovered = buildScoreboard(100_000);
+        assertIterableEquals(expected, recovered.summary());
+        assertThrows(ScoreboardConsistencyException.class, () -> recovered.startMatch("Mexico", "Canada"));
+        assertThrows(ScoreboardConsistencyException.class, () -> recovered.updateScore("Germany", "France", 1, 0));
+        recovered.startMatch("Argentina", "Australia");
+        recovered.updateScore("Argentina", "Australia", 3, 1);
+        recovered.finishMatch("Spain", "Brazil");
+        expected = recovered.summary();
+        recovered.close();
+
+        assertIterableEquals(expected, recoverSummary(100_000));
+    }
+
+    @Test
+    void givenScoreboardHasAJournal_WhenManyWritesPassTheCheckpointInterval_ThenOldJournalFilesAreCompacted_AndRunningMatchesAreRecovered() throws ScoreboardInputException, ScoreboardConsistencyException, IOException {
+        Scoreboard scoreboard = buildScoreboard(10);
+        for (int i = 0; i < 50; i++) {
+            scoreboard.startMatch("Home " + i, "Away " + i);
+            scoreboard.updateScore("Home " + i, "Away " + i, i % 3, 1);
+            if (i % 5 == 0) {
+                scoreboard.finishMatch("Home " + i, "Away " + i);
+            }
+        }
+        List<Match> expected = scoreboard.summary();
+        assertEquals(40, expected.size());
+        assertEquals(1, journalFiles(".checkpoint").size());
+        assertTrue(journalFiles(".log").size() <= 2);
+        scoreboard.close();
+
+        assertIterableEquals(expected, recoverSummary(10));
+    }
+
+    @Test
+    void givenScoreboardHasAJournal_WhenFinishedTeamsAreRegisteredAgainAfterACheckpoint_ThenTheirRunningMatchIsRecoveredWithTheirNames() throws ScoreboardInputException, ScoreboardConsistencyException, IOException {
+        Scoreboard scoreboard = buildScoreboard(5);
+        scoreboard.startMatch("Mexico", "Canada");
+        scoreboard.startMatch("Spain", "Brazil");
+        scoreboard.finishMatch("Spain", "Brazil");
+        for (int goals = 1; goals <= 10; goals++) {
+            scoreboard.updateScore("Mexico", "Canada", goals, 0);
+        }
+        scoreboard.startMatch("Brazil", "Spain");
+        scoreboard.updateScore("Brazil", "Spain", 1, 0);
+        List<Match> expected = scoreboard.summary();
+        assertEquals(List.of("Mexico", "Brazil"), expected.stream().map(Match::getHomeTeam).toList());
+        assertEquals(1, journalFiles(".checkpoint").size());
+        scoreboard.close();
+
+        assertIterableEquals(expected, recoverSummary(5));
+    }
+
+    @Test
+    void givenScoreboardJournalHasATornRecord_WhenItIsRebuiltFromTheJournal_ThenRecordsBeforeTheTornOneAreRecovered() throws ScoreboardInputException, ScoreboardConsistencyException, IOException {
+        Scoreboard scoreboard = buildScoreboard(100_000);
+        scoreboard.startMatch("Mexico", "Canada");
+        scoreboard.updateScore("Mexico", "Canada", 1, 0);
+        List<Match> expected = scoreboard.summary();
+        scoreboard.close();
+        Path segment = journalFiles(".log").get(0);
+        Files.write(segment, new byte[]{0, 0, 0, 17, 1, 2, 3}, StandardOpenOption.APPEND);
+
+        Scoreboard recovered = buildScoreboard(100_000);
+        assertIterableEquals(expected, recovered.summary());
+        recovered.updateScore("Mexico", "Canada", 2, 0);
+        expected = recovered.summary();
+        recovered.close();
+
+        assertIterableEquals(expected, recoverSummary(100_000));
+    }
+
+    @Test
+    void givenScoreboardHasAJournal_WhenConcurrentWritersUpdateScores_ThenEveryAcceptedScoreIsRecovered() throws Exception {
+        Scoreboard scoreboard = buildScoreboard(500);
+        int writerCount = 4;
+        ExecutorService executor = Executors.newFixedThreadPool(writerCount);
+        try {
+            List<Future<?>> writers = new ArrayList<>();
+            for (int writer = 0; writer < writerCount; writer++) {
+                String homeTeam = "Home " + writer;
+                String awayTeam = "Away " + writer;
+                writers.add(executor.submit(() -> {
+                    scoreboard.startMatch(homeTeam, awayTeam);
+                    for (int score = 1; score <= 300; score++) {
+                        scoreboard.updateScore(homeTeam, awayTeam, score, score / 2);
+                    }
+                    return null;
+                }));
+            }
+            for (Future<?> writer : writers) {
+                writer.get(1, TimeUnit.MINUTES);
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+        List<Match> expected = scoreboard.summary();
+        assertEquals(writerCount, expected.size());
+        scoreboard.close();
+
+        assertIterableEquals(expected, recoverSummary(500));
+    }
+
+    @Test
+    void givenScoreboardHasAJournal_WhenMatchesAreUpdatedAsSoonAsTheyAreStarted_ThenEveryUpdateIsRecoveredAfterItsStart() throws Exception {
+        Scoreboard scoreboard = buildScoreboard(100_000);
+        int matchCount = 200;
+        ExecutorService executor = Executors.newFixedThreadPool(2);
+        try {
+            Future<?> updater = executor.submit(() -> {
+                for (int match = 0; match < matchCount; match++) {
+                    while (!scoreboard.tryUpdateScore("Home " + match, "Away " + match, 1, 0).isApplied()) {
+                        Thread.onSpinWait();
+                    }
+                }
+                return null;
+            });
+            Future<?> starter = executor.submit(() -> {
+                for (int match = 0; match < matchCount; match++) {
+                    scoreboard.startMatch("Home " + match, "Away " + match);
+                }
+                return null;
+            });
+            starter.get(1, TimeUnit.MINUTES);
+            updater.get(1, TimeUnit.MINUTES);
+        } finally {
+            executor.shutdownNow();
+        }
+        scoreboard.close();
+
+        List<Match> recovered = recoverSummary(100_000);
+        assertEquals(matchCount, recovered.size());
+        assertTrue(recovered.stream().allMatch(match -> match.getHomeScore() == 1), "Every update is recovered");
+    }
+
+    @Test
+    void givenScoreboardHasAJournal_WhenAnotherScoreboardIsBuiltOnItsDirectory_ThenItIsRefused_UntilTheFirstScoreboardIsClosed() throws ScoreboardInputException, ScoreboardConsistencyException {
+        Scoreboard scoreboard = buildScoreboard(100_000);
+        scoreboard.startMatch("Mexico", "Canada");
+        assertThrows(UncheckedIOException.class, () -> buildScoreboard(100_000));
+
+        scoreboard.close();
+        scoreboard.close();
+        assertThrows(UncheckedIOException.class, () -> scoreboard.updateScore("Mexico", "Canada", 1, 0));
+        try (Scoreboard reopened = buildScoreboard(100_000)) {
+            assertEquals(0, reopened.match("Mexico", "Canada").orElseThrow().getHomeScore());
+        }
+    }
+
+    @Test
+    void givenScoreboardJournalFailsToSync_WhenMatchesAreWritten_ThenTheWriteOfTheFailedSyncIsAnsweredAsFailed_AndEveryLaterWriteIsRefused() throws Exception {
+        ScoreboardJournal journal = spy(new ScoreboardJournal(directory, 100_000));
+        Scoreboard scoreboard = new ScoreboardImp(new ScoreboardCache(journal), new ScoreboardClock(), new ScoreboardAudit(), SummaryMode.COMPUTED_ON_READ, null, null);
+        scoreboard.startMatch("Mexico", "Canada");
+        doThrow(new IOException("Disk is full")).when(journal).force(any());
+
+        assertEquals(ScoreboardOutcome.WRITE_FAILED, scoreboard.tryUpdateScore("Mexico", "Canada", 1, 0));
+        assertEquals(1, scoreboard.match("Mexico", "Canada").orElseThrow().getHomeScore());
+        assertEquals(ScoreboardOutcome.WRITE_FAILED, scoreboard.tryUpdateScore("Mexico", "Canada", 2, 0));
+        assertEquals(ScoreboardOutcome.WRITE_FAILED, scoreboard.tryStartMatch("Spain", "Brazil"));
+        assertEquals(ScoreboardOutcome.WRITE_FAILED, scoreboard.tryFinishMatch("Mexico", "Canada"));
+        UncheckedIOException failure = assertThrows(UncheckedIOException.class, () -> scoreboard.updateScore("Mexico", "Canada", 3, 0));
+        assertEquals("Disk is full", failure.getCause().getMessage());
+        assertThrows(UncheckedIOException.class, () -> scoreboard.applyBatch(List.of(ScoreboardCommand.startMatch("Spain", "Brazil"))));
+        assertEquals(1, scoreboard.match("Mexico", "Canada").orElseThrow().getHomeScore());
+        assertTrue(scoreboard.match("Spain", "Brazil").isEmpty());
+        scoreboard.close();
+
+        try (Scoreboard recovered = buildScoreboard(100_000)) {
+            assertTrue(recovered.match("Mexico", "Canada").orElseThrow().getHomeScore() <= 1, "The refused writes are not recovered");
+            assertTrue(recovered.match("Spain", "Brazil").isEmpty());
+        }
+    }
+
+    // ************************
+    // Supporting Test Methods:
+    // ************************
+
+    private Scoreboard buildScoreboard(int checkpointInterval) {
+        return ScoreboardFactory.builder().journal(directory).checkpointInterval(checkpointInterval).build();
+    }
+
+    /**
+     * Rebuilds a scoreboard from the journal, and closes it once its summary is read.
+     */
+    private List<Match> recoverSummary(int checkpointInterval) {
+        try (Scoreboard recovered = buildScoreboard(checkpointInterval)) {
+            return recovered.summary();
+        }
+    }
+
+    private List<Path> journalFiles(String suffix) throws IOException {
+        try (Stream<Path> files = Files.list(directory)) {
+            return files.filter(file -> file.getFileName().toString().endsWith(suffix)).sorted().toList();
+        }
+    }
+
+}
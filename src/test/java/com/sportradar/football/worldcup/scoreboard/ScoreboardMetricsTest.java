@@ -0,0 +1,160 @@
+package com.sportradar.football.worldcup.scoreboard;
+
+import com.sportradar.football.worldcup.scoreboard.exception.ScoreboardConsistencyException;
+import com.sportradar.football.worldcup.scoreboard.exception.ScoreboardInputException;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Scoreboard tests of the operation metrics, and of the latency histogram behind them.
+ * To understand the purpose and scenarios of the test cases, read the method names carefully.
+ * The names are written in BDD key structure.
+ */
+class ScoreboardMetricsTest {
+
+    @Test
+    void givenScoreboardIsBuiltWithoutMetrics_WhenMetricsArePolled_ThenNoMetricsAreReturned() throws ScoreboardInputException, ScoreboardConsistencyException {
+        Scoreboard scoreboard = ScoreboardFactory.getScoreboard();
+        scoreboard.startMatch("Mexico", "Canada");
+        assertTrue(scoreboard.metrics().isEmpty());
+    }
+
+    @Test
+    void givenScoreboardKeepsMetrics_WhenWritesAreAppliedAndRejected_ThenEachCallIsCountedByItsOutcome_AndGaugesFollowTheBoard() throws ScoreboardInputException, ScoreboardConsistencyException {
+        Scoreboard scoreboard = ScoreboardFactory.builder().metrics(true).build();
+        scoreboard.startMatch("Mexico", "Canada");
+        scoreboard.startMatch("Spain", "Brazil");
+        assertEquals(ScoreboardOutcome.MATCH_ALREADY_STARTED, scoreboard.tryStartMatch("Mexico", "Canada"));
+        assertThrows(ScoreboardInputException.class, () -> scoreboard.startMatch(null, "Canada"));
+        scoreboard.updateScore("Mexico", "Canada", 0, 5);
+        assertThrows(ScoreboardConsistencyException.class, () -> scoreboard.updateScore("Mexico", "Canada", 0, 4));
+        assertEquals(ScoreboardOutcome.SCORE_ALREADY_RECORDED, scoreboard.tryUpdateScore("Mexico", "Canada", 0, 5));
+        scoreboard.finishMatch("Spain", "Brazil");
+        scoreboard.summary();
+        scoreboard.summary(1);
+
+        ScoreboardMetrics metrics = scoreboard.metrics().orElseThrow();
+        assertEquals(1, metrics.runningMatches());
+        assertEquals(2, metrics.registeredTeams());
+        ScoreboardMetrics.OperationMetrics starts = metrics.operation(ScoreboardMetrics.Operation.START_MATCH);
+        assertEquals(4, starts.calls());
+        assertEquals(2, starts.count(ScoreboardOutcome.APPLIED));
+        assertEquals(1, starts.count(ScoreboardOutcome.MATCH_ALREADY_STARTED));
+        assertEquals(1, starts.count(ScoreboardOutcome.INVALID_INPUT));
+        assertEquals(4, starts.latency().count());
+        ScoreboardMetrics.OperationMetrics updates = metrics.operation(ScoreboardMetrics.Operation.UPDATE_SCORE);
+        assertEquals(3, updates.calls());
+        assertEquals(1, updates.count(ScoreboardOutcome.APPLIED));
+        assertEquals(1, updates.count(ScoreboardOutcome.AWAY_SCORE_DECREASED));
+        assertEquals(1, updates.count(ScoreboardOutcome.SCORE_ALREADY_RECORDED));
+        assertEquals(0, updates.count(ScoreboardOutcome.MATCH_NOT_STARTED));
+        assertEquals(1, metrics.operation(ScoreboardMetrics.Operation.FINISH_MATCH).calls());
+        assertEquals(2, metrics.operation(ScoreboardMetrics.Operation.SUMMARY).latency().count());
+        assertEquals(0, metrics.operation(ScoreboardMetrics.Operation.BATCH).calls());
+    }
+
+    @Test
+    void givenScoreboardKeepsMetrics_WhenABatchIsApplied_ThenItsCommandsAreCountedByTheirOperation_AndTheBatchIsTimedAsAWhole() {
+        Scoreboard scoreboard = ScoreboardFactory.builder().metrics(true).build();
+        scoreboard.applyBatch(List.of(
+                ScoreboardCommand.startMatch("Mexico", "Canada"),
+                ScoreboardCommand.startMatch("Mexico", "Canada"),
+                ScoreboardCommand.updateScore("Mexico", "Canada", 1, 0),
+                ScoreboardCommand.finishMatch("Croatia", "Sweden"),
+                ScoreboardCommand.finishMatch("  ", "Sweden")
+        ));
+
+        ScoreboardMetrics metrics = scoreboard.metrics().orElseThrow();
+        ScoreboardMetrics.OperationMetrics starts = metrics.operation(ScoreboardMetrics.Operation.START_MATCH);
+        assertEquals(1, starts.count(ScoreboardOutcome.APPLIED));
+        assertEquals(1, starts.count(ScoreboardOutcome.MATCH_ALREADY_STARTED));
+        assertEquals(0, starts.latency().count());
+        assertEquals(1, metrics.operation(ScoreboardMetrics.Operation.UPDATE_SCORE).count(ScoreboardOutcome.APPLIED));
+        ScoreboardMetrics.OperationMetrics finishes = metrics.operation(ScoreboardMetrics.Operation.FINISH_MATCH);
+        assertEquals(1, finishes.count(ScoreboardOutcome.MATCH_NOT_STARTED));
+        assertEquals(1, finishes.count(ScoreboardOutcome.INVALID_INPUT));
+        assertEquals(1, metrics.operation(ScoreboardMetrics.Operation.BATCH).calls());
+        assertEquals(1, metrics.operation(ScoreboardMetrics.Operation.BATCH).latency().count());
+    }
+
+    @Test
+    void givenScoreboardKeepsMetrics_WhenStartsAreRejected_ThenTheTeamNamesOfTheRejectedStartsAreNotRegistered() throws ScoreboardInputException, ScoreboardConsistencyException {
+        Scoreboard scoreboard = ScoreboardFactory.builder().metrics(true).build();
+        scoreboard.startMatch("Mexico", "Canada");
+        assertEquals(ScoreboardOutcome.MATCH_ALREADY_STARTED, scoreboard.tryStartMatch("Mexico", "Canada"));
+        for (int team = 0; team < 100; team++) {
+            assertEquals(ScoreboardOutcome.HOME_TEAM_ALREADY_PLAYING, scoreboard.tryStartMatch("Mexico", "Away " + team));
+            assertEquals(ScoreboardOutcome.AWAY_TEAM_ALREADY_PLAYING, scoreboard.tryStartMatch("Home " + team, "Canada"));
+        }
+        assertEquals(2, scoreboard.metrics().orElseThrow().registeredTeams());
+    }
+
+    @Test
+    void givenShardedScoreboardKeepsMetrics_WhenATeamPlaysMatchesOnSeveralShards_ThenTheTeamIsCountedOnce_AndOnlyWhilePlaying() throws ScoreboardInputException, ScoreboardConsistencyException {
+        Scoreboard scoreboard = ScoreboardFactory.builder().shards(4).metrics(true).build();
+        for (int team = 0; team < 20; team++) {
+            scoreboard.startMatch("Mexico", "Away " + team);
+            scoreboard.startMatch("Home " + team, "Canada " + team);
+            assertEquals(4, scoreboard.metrics().orElseThrow().registeredTeams());
+            scoreboard.finishMatch("Mexico", "Away " + team);
+            scoreboard.finishMatch("Home " + team, "Canada " + team);
+        }
+        scoreboard.startMatch("Mexico", "Canada");
+        assertEquals(2, scoreboard.metrics().orElseThrow().registeredTeams());
+    }
+
+    @Test
+    void givenScoreboardKeepsMetrics_WhenManyTeamsPlayAndFinish_ThenTheRegistryHoldsOnlyTheRunningTeams_AndTheMatchesOfReusedTeamIdsAreKeptApart() throws ScoreboardInputException, ScoreboardConsistencyException {
+        Scoreboard scoreboard = ScoreboardFactory.builder().metrics(true).build();
+        scoreboard.startMatch("Mexico", "Canada");
+        for (int match = 0; match < 1_000; match++) {
+            scoreboard.startMatch("Home " + match, "Away " + match);
+            scoreboard.finishMatch("Home " + match, "Away " + match);
+        }
+        scoreboard.startMatch("Spain", "Brazil");
+        scoreboard.updateScore("Spain", "Brazil", 1, 0);
+
+        assertEquals(4, scoreboard.metrics().orElseThrow().registeredTeams());
+        assertEquals(ScoreboardOutcome.MATCH_NOT_STARTED, scoreboard.tryFinishMatch("Home 999", "Away 999"));
+        assertTrue(scoreboard.match("Home 0", "Away 0").isEmpty());
+        assertEquals(List.of("Spain", "Mexico"), scoreboard.summary().stream().map(Match::getHomeTeam).toList());
+    }
+
+    @Test
+    void givenLatencyHistogramHasRecordedValues_WhenItsSnapshotIsTaken_ThenPercentilesAreWithinTheBucketPrecision() {
+        LatencyHistogram histogram = new LatencyHistogram();
+        for (long value = 1; value <= 10_000; value++) {
+            histogram.record(value * 1_000);
+        }
+        ScoreboardMetrics.Latency latency = histogram.snapshot();
+        assertEquals(10_000, latency.count());
+        assertEquals(5_000_500, latency.mean());
+        assertEquals(10_000_000, latency.max());
+        assertWithinPrecision(5_000_000, latency.p50());
+        assertWithinPrecision(9_000_000, latency.p90());
+        assertWithinPrecision(9_900_000, latency.p99());
+        assertWithinPrecision(9_990_000, latency.p999());
+    }
+
+    @Test
+    void givenLatencyHistogramBuckets_WhenValuesAreMappedToBuckets_ThenEachValueIsWithinTheRangeOfItsBucket() {
+        for (long value : new long[]{0, 1, 31, 32, 33, 63, 64, 1_000, 123_456_789, Long.MAX_VALUE}) {
+            int index = LatencyHistogram.indexOf(value);
+            assertTrue(value <= LatencyHistogram.highestValueOf(index), "Value " + value);
+            assertTrue(index == 0 || value > LatencyHistogram.highestValueOf(index - 1), "Value " + value);
+        }
+        assertEquals(Long.MAX_VALUE, LatencyHistogram.highestValueOf(LatencyHistogram.indexOf(Long.MAX_VALUE)));
+    }
+
+    // ************************
+    // Supporting Test Methods:
+    // ************************
+
+    private void assertWithinPrecision(long expected, long actual) {
+        assertTrue(actual >= expected && actual <= expected + expected / 32, "Expected about " + expected + " but was " + actual);
+    }
+
+}
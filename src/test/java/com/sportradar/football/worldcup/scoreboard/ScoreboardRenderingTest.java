@@ -0,0 +1,140 @@
+package com.sportradar.football.worldcup.scoreboard;
+
+import com.sportradar.football.worldcup.scoreboard.exception.ScoreboardConsistencyException;
+import com.sportradar.football.worldcup.scoreboard.exception.ScoreboardInputException;
+import org.junit.jupiter.api.Test;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.time.Clock;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.spy;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+/**
+ * Scoreboard tests of the summary rendered to the wire formats, and of the rendering cache.
+ * To understand the purpose and scenarios of the test cases, read the method names carefully.
+ * The names are written in BDD key structure.
+ */
+class ScoreboardRenderingTest {
+
+    @Test
+    void givenScoreboardHasRunningMatches_WhenTheSummaryIsRenderedToJson_ThenTheMatchesAreWrittenInSummaryOrder_AsEscapedUtf8() throws ScoreboardInputException, ScoreboardConsistencyException {
+        Scoreboard scoreboard = ScoreboardFactory.builder().clock(Clock.fixed(Instant.parse("2024-06-14T19:00:00Z"), ZoneOffset.UTC)).build();
+        scoreboard.startMatch("Mexico", "Canada");
+        scoreboard.startMatch("C\u00f4te d'Ivoire", "\"Brazil\"");
+        scoreboard.updateScore("Mexico", "Canada", 0, 5);
+
+        String json = utf8(scoreboard.renderedSummary(SummaryFormat.JSON));
+        assertEquals("{\"version\":" + scoreboard.version() + ",\"matches\":["
+                + "{\"homeTeam\":\"Mexico\",\"awayTeam\":\"Canada\",\"homeScore\":0,\"awayScore\":5,\"matchTime\":\"2024-06-14T19:00\"},"
+                + "{\"homeTeam\":\"C\u00f4te d'Ivoire\",\"awayTeam\":\"\\\"Brazil\\\"\",\"homeScore\":0,\"awayScore\":0,\"matchTime\":\"2024-06-14T19:00\"}]}", json);
+        assertEquals("{\"version\":0,\"matches\":[]}", utf8(ScoreboardFactory.getScoreboard().renderedSummary(SummaryFormat.JSON)));
+        assertThrows(ScoreboardInputException.class, () -> scoreboard.renderedSummary(null));
+    }
+
+    @Test
+    void givenScoreboardHasRunningMatches_WhenTheSummaryIsRenderedToBinary_ThenTheLayoutDecodesToTheSummary() throws ScoreboardInputException, ScoreboardConsistencyException {
+        Scoreboard scoreboard = ScoreboardFactory.builder().shards(4).build();
+        scoreboard.startMatch("Mexico", "Canada");
+        scoreboard.startMatch("Spain", "Brazil");
+        scoreboard.startMatch("Germany", "France");
+        scoreboard.updateScore("Spain", "Brazil", 10, 2);
+
+        ByteBuffer rendered = scoreboard.renderedSummary(SummaryFormat.BINARY);
+        assertEquals(scoreboard.version(), rendered.getLong());
+        assertEquals(scoreboard.summary(), decodeBinary(rendered));
+        assertFalse(rendered.hasRemaining());
+    }
+
+    @Test
+    void givenTheSummaryHasBeenRendered_WhenItIsRenderedAgainAtTheSameVersion_ThenEachCallerGetsAReadOnlyViewOfTheSameRendering() throws ScoreboardInputException, ScoreboardConsistencyException {
+        ScoreboardCache cache = spy(new ScoreboardCache());
+        Scoreboard scoreboard = new ScoreboardImp(cache, new ScoreboardClock(), new ScoreboardAudit(), SummaryMode.COMPUTED_ON_READ, null, null);
+        scoreboard.startMatch("Mexico", "Canada");
+
+        ByteBuffer first = scoreboard.renderedSummary(SummaryFormat.JSON);
+        String json = utf8(first);
+        ByteBuffer second = scoreboard.renderedSummary(SummaryFormat.JSON);
+        assertEquals(ScoreboardOutcome.MATCH_ALREADY_STARTED, scoreboard.tryStartMatch("Mexico", "Canada"));
+        ByteBuffer third = scoreboard.renderedSummary(SummaryFormat.JSON);
+
+        assertTrue(first.isReadOnly());
+        assertFalse(second.isDirect());
+        assertFalse(first.hasRemaining());
+        assertEquals(0, second.position());
+        assertEquals(json, utf8(second));
+        assertEquals(json, utf8(third));
+        verify(cache, times(1)).ranked();
+
+        scoreboard.updateScore("Mexico", "Canada", 1, 0);
+        assertTrue(utf8(scoreboard.renderedSummary(SummaryFormat.JSON)).contains("\"homeScore\":1"));
+        verify(cache, times(2)).ranked();
+        verify(cache, never()).changesSince(anyLong());
+    }
+
+    @Test
+    void givenShardedScoreboardSummaryHasBeenRendered_WhenItIsRenderedAgainAtTheSameVersion_ThenTheRenderingIsServedFromTheCache() throws ScoreboardInputException, ScoreboardConsistencyException {
+        ShardedScoreboardCache cache = spy(new ShardedScoreboardCache(4));
+        Scoreboard scoreboard = new ScoreboardImp(cache, new ScoreboardClock(), new ScoreboardAudit(), SummaryMode.COMPUTED_ON_READ, null, null);
+        for (int match = 0; match < 20; match++) {
+            scoreboard.startMatch("Home " + match, "Away " + match);
+        }
+        scoreboard.updateScore("Home 7", "Away 7", 3, 1);
+
+        String json = utf8(scoreboard.renderedSummary(SummaryFormat.JSON));
+        assertEquals(json, utf8(scoreboard.renderedSummary(SummaryFormat.JSON)));
+        ByteBuffer binary = scoreboard.renderedSummary(SummaryFormat.BINARY);
+        assertEquals(binary, scoreboard.renderedSummary(SummaryFormat.BINARY));
+        verify(cache, times(2)).ranked();
+        verify(cache, never()).changesSince(anyLong());
+    }
+
+    // ************************
+    // Supporting Test Methods:
+    // ************************
+
+    private String utf8(ByteBuffer buffer) {
+        byte[] bytes = new byte[buffer.remaining()];
+        buffer.get(bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+
+    /**
+     * Decodes the matches of the binary layout, from the team count on. See {@link SummaryFormat#BINARY}.
+     */
+    private List<Match> decodeBinary(ByteBuffer buffer) {
+        int teamCount = buffer.getInt();
+        int matchCount = buffer.getInt();
+        int[] ends = new int[teamCount];
+        for (int i = 0; i < teamCount; i++) {
+            ends[i] = buffer.getInt();
+        }
+        String[] teams = new String[teamCount];
+        for (int i = 0; i < teamCount; i++) {
+            byte[] name = new byte[ends[i] - (i == 0 ? 0 : ends[i - 1])];
+            buffer.get(name);
+            teams[i] = new String(name, StandardCharsets.UTF_8);
+        }
+        List<Match> matches = new ArrayList<>();
+        for (int i = 0; i < matchCount; i++) {
+            String homeTeam = teams[buffer.getInt()];
+            String awayTeam = teams[buffer.getInt()];
+            int homeScore = buffer.getInt();
+            int awayScore = buffer.getInt();
+            LocalDateTime matchTime = LocalDateTime.ofEpochSecond(buffer.getLong(), buffer.getInt(), ZoneOffset.UTC);
+            matches.add(new Match(homeTeam, awayTeam, matchTime, homeScore, awayScore));
+        }
+        return matches;
+    }
+
+}
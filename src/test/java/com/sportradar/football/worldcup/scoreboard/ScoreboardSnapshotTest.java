@@ -0,0 +1,80 @@
+package com.sportradar.football.worldcup.scoreboard;
+
+import com.sportradar.football.worldcup.scoreboard.exception.ScoreboardConsistencyException;
+import com.sportradar.football.worldcup.scoreboard.exception.ScoreboardInputException;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Scoreboard snapshot save and load tests.
+ * To understand the purpose and scenarios of the test cases, read the method names carefully.
+ * The names are written in BDD key structure.
+ */
+class ScoreboardSnapshotTest {
+
+    @TempDir
+    private Path directory;
+
+    @Test
+    void givenScoreboardIsLoaded_WhenItIsSavedAndLoaded_ThenLoadedScoreboardHasTheSameSummary_AndAcceptsNewWrites() throws ScoreboardInputException, ScoreboardConsistencyException, IOException {
+        Scoreboard scoreboard = ScoreboardFactory.getScoreboard();
+        scoreboard.startMatch("Mexico", "Canada");
+        scoreboard.startMatch("Spain", "Brazil");
+        scoreboard.startMatch("Germany", "France");
+        scoreboard.startMatch("\u010Cile", "\u00D6sterreich");
+        scoreboard.updateScore("Mexico", "Canada", 0, 5);
+        scoreboard.updateScore("Spain", "Brazil", 10, 2);
+        scoreboard.updateScore("\u010Cile", "\u00D6sterreich", 1, 1);
+        scoreboard.finishMatch("Germany", "France");
+        Path file = directory.resolve("board.snapshot");
+        ScoreboardFactory.saveSnapshot(scoreboard, file);
+
+        Scoreboard loaded = ScoreboardFactory.loadSnapshot(file);
+        assertIterableEquals(scoreboard.summary(), loaded.summary());
+        assertThrows(ScoreboardConsistencyException.class, () -> loaded.startMatch("Spain", "Brazil"));
+        loaded.startMatch("Germany", "France");
+        loaded.startMatch("Argentina", "Australia");
+        loaded.updateScore("Mexico", "Canada", 1, 5);
+        List<Match> summary = loaded.summary();
+        assertEquals(5, summary.size());
+        assertEquals("Spain", summary.get(0).getHomeTeam());
+        assertEquals("Mexico", summary.get(1).getHomeTeam());
+        assertEquals("Argentina", summary.get(3).getHomeTeam());
+        assertEquals("Germany", summary.get(4).getHomeTeam());
+
+        assertIterableEquals(scoreboard.summary(), ScoreboardFactory.builder().snapshot(file).summaryMode(SummaryMode.PUBLISHED_ON_WRITE).build().summary(0, 10));
+    }
+
+    @Test
+    void givenScoreboardIsEmpty_WhenItIsSavedAndLoaded_ThenLoadedScoreboardIsEmpty() throws IOException {
+        Path file = directory.resolve("board.snapshot");
+        ScoreboardFactory.saveSnapshot(ScoreboardFactory.getScoreboard(), file);
+        assertTrue(ScoreboardFactory.loadSnapshot(file).summary().isEmpty());
+    }
+
+    @Test
+    void givenSnapshotFileIsCorrupt_WhenItIsLoaded_ThenExceptionIsThrown() throws ScoreboardInputException, ScoreboardConsistencyException, IOException {
+        Scoreboard scoreboard = ScoreboardFactory.getScoreboard();
+        scoreboard.startMatch("Mexico", "Canada");
+        Path file = directory.resolve("board.snapshot");
+        ScoreboardFactory.saveSnapshot(scoreboard, file);
+        byte[] content = Files.readAllBytes(file);
+        content[content.length - 1]++;
+        Files.write(file, content);
+        IOException thrown = assertThrows(IOException.class, () -> ScoreboardFactory.loadSnapshot(file));
+        assertEquals("Corrupt scoreboard snapshot: " + file, thrown.getMessage());
+        Files.write(file, new byte[]{1, 2, 3});
+        assertThrows(IOException.class, () -> ScoreboardFactory.loadSnapshot(file));
+        assertThrows(UncheckedIOException.class, () -> ScoreboardFactory.builder().snapshot(directory.resolve("missing.snapshot")).build());
+        assertThrows(IllegalStateException.class, () -> ScoreboardFactory.builder().snapshot(file).journal(directory).build());
+    }
+
+}
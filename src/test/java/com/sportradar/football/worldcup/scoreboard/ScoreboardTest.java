@@ -8,13 +8,20 @@ import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.Arguments;
+import org.junit.jupiter.params.provider.EnumSource;
 import org.junit.jupiter.params.provider.MethodSource;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 
 import java.time.LocalDateTime;
+import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Flow;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
 import java.util.stream.Stream;
 
 import static org.junit.jupiter.api.Assertions.*;
@@ -111,6 +118,28 @@ class ScoreboardTest {
         assertNotAlteredRecord("Mexico", "Canada", "2024-03-01T21:35:30", 0, 0);
     }
 
+    private static Stream<Arguments> teamAlreadyPlayingScenarios() {
+        return Stream.of(
+                Arguments.of("Mexico", "Brazil", "Mexico"),
+                Arguments.of("Spain", "Mexico", "Mexico"),
+                Arguments.of("Canada", "Mexico", "Canada"),
+                Arguments.of("Canada", "Spain", "Canada"),
+                Arguments.of("Brazil", "Canada", "Canada")
+        );
+    }
+
+    @ParameterizedTest
+    @MethodSource("teamAlreadyPlayingScenarios")
+    void givenScoreboardIsLoaded_WhenAMatchIsStartedForATeamThatIsAlreadyPlaying_ThenThrowAWarningMessage_AndDoNotAlterTheScoreboard(String homeTeam, String awayTeam, String playingTeam) throws ScoreboardInputException, ScoreboardConsistencyException {
+        initScoreboardWithClockMock("2024-03-01T21:35:30");
+        scoreboard.startMatch("Mexico", "Canada");
+        ScoreboardConsistencyException thrown = Assertions.assertThrows(ScoreboardConsistencyException.class, () -> scoreboard.startMatch(homeTeam, awayTeam));
+        Assertions.assertEquals("This team(" + playingTeam + ") is already playing a match.", thrown.getMessage());
+        assertNotAlteredRecord("Mexico", "Canada", "2024-03-01T21:35:30", 0, 0);
+        assertTrue(scoreboard.currentMatch("Spain").isEmpty());
+        assertTrue(scoreboard.currentMatch("Brazil").isEmpty());
+    }
+
     @Test
     void givenScoreboardIsLoaded_WhenUpdateScoreHasNotStarted_ThenThrowAWarningMessage_AndDoNotAlterTheScoreboard() throws ScoreboardInputException, ScoreboardConsistencyException {
         initScoreboardWithClockMock("2024-03-01T21:35:30");
@@ -131,10 +160,116 @@ class ScoreboardTest {
         assertNotAlteredRecord("Mexico", "Canada", "2024-03-01T21:35:30", 0, 0);
     }
 
+    private static Stream<Arguments> rejectedOutcomeScenarios() {
+        return Stream.of(
+                Arguments.of("START", null, "Canada", 0, 0, ScoreboardOutcome.INVALID_INPUT),
+                Arguments.of("UPDATE", "Mexico", "   ", 2, 2, ScoreboardOutcome.INVALID_INPUT),
+                Arguments.of("START", "Mexico", "Canada", 0, 0, ScoreboardOutcome.MATCH_ALREADY_STARTED),
+                Arguments.of("START", "Mexico", "Brazil", 0, 0, ScoreboardOutcome.HOME_TEAM_ALREADY_PLAYING),
+                Arguments.of("START", "Brazil", "Canada", 0, 0, ScoreboardOutcome.AWAY_TEAM_ALREADY_PLAYING),
+                Arguments.of("UPDATE", "Croatia", "Sweden", 1, 0, ScoreboardOutcome.MATCH_NOT_STARTED),
+                Arguments.of("UPDATE", "Mexico", "Canada", 1, 2, ScoreboardOutcome.SCORE_ALREADY_RECORDED),
+                Arguments.of("UPDATE", "Mexico", "Canada", 0, 3, ScoreboardOutcome.HOME_SCORE_DECREASED),
+                Arguments.of("UPDATE", "Mexico", "Canada", 1, 1, ScoreboardOutcome.AWAY_SCORE_DECREASED),
+                Arguments.of("FINISH", "Croatia", "Sweden", 0, 0, ScoreboardOutcome.MATCH_NOT_STARTED)
+        );
+    }
+
+    @ParameterizedTest
+    @MethodSource("rejectedOutcomeScenarios")
+    void givenScoreboardIsLoaded_WhenARejectedWriteIsTried_ThenItsOutcomeIsReturnedWithoutThrowing_AndDoNotAlterTheScoreboard(String operation, String homeTeam, String awayTeam, int homeScore, int awayScore, ScoreboardOutcome expected) throws ScoreboardInputException, ScoreboardConsistencyException {
+        initScoreboardWithClockMock("2024-03-01T21:35:30");
+        scoreboard.startMatch("Mexico", "Canada");
+        scoreboard.updateScore("Mexico", "Canada", 1, 2);
+        ScoreboardOutcome actual = switch (operation) {
+            case "START" -> scoreboard.tryStartMatch(homeTeam, awayTeam);
+            case "UPDATE" -> scoreboard.tryUpdateScore(homeTeam, awayTeam, homeScore, awayScore);
+            default -> scoreboard.tryFinishMatch(homeTeam, awayTeam);
+        };
+        assertEquals(expected, actual);
+        assertFalse(actual.isApplied());
+        assertNotAlteredRecord("Mexico", "Canada", "2024-03-01T21:35:30", 1, 2);
+    }
+
     //************************************
     // Expected Valid Scenario Test Cases:
     //************************************
 
+    @Test
+    void givenScoreboardIsLoaded_WhenSequencedUpdatesAreRedeliveredOrLate_ThenTheyAreDroppedSilently_AndCounted() throws ScoreboardInputException, ScoreboardConsistencyException {
+        initScoreboardWithClockMock("2024-03-01T21:35:30");
+        scoreboard.startMatch("Mexico", "Canada");
+        assertEquals(ScoreboardOutcome.APPLIED, scoreboard.tryUpdateScore("Mexico", "Canada", 1, 0, 1));
+        assertEquals(ScoreboardOutcome.APPLIED, scoreboard.tryUpdateScore("Mexico", "Canada", 1, 2, 3));
+        assertEquals(ScoreboardOutcome.STALE_EVENT, scoreboard.tryUpdateScore("Mexico", "Canada", 1, 2, 3));
+        assertEquals(ScoreboardOutcome.STALE_EVENT, scoreboard.tryUpdateScore("Mexico", "Canada", 1, 1, 2));
+        assertEquals(ScoreboardOutcome.STALE_EVENT, scoreboard.tryUpdateScore("Mexico", "Canada", 1, 0, 1));
+        assertEquals(3, scoreboard.droppedEvents());
+        assertNotAlteredRecord("Mexico", "Canada", "2024-03-01T21:35:30", 1, 2);
+
+        assertEquals(ScoreboardOutcome.HOME_SCORE_DECREASED, scoreboard.tryUpdateScore("Mexico", "Canada", 0, 2, 4));
+        assertEquals(ScoreboardOutcome.APPLIED, scoreboard.tryUpdateScore("Mexico", "Canada", 2, 2, 4));
+        assertEquals(ScoreboardOutcome.INVALID_INPUT, scoreboard.tryUpdateScore("Mexico", "Canada", 3, 2, Long.MIN_VALUE));
+        assertEquals(3, scoreboard.droppedEvents());
+        assertNotAlteredRecord("Mexico", "Canada", "2024-03-01T21:35:30", 2, 2);
+    }
+
+    @Test
+    void givenAMatchIsFinishedAndStartedAgain_WhenSequencedUpdatesAreReceived_ThenTheEventSequenceStartsOverWithTheNewMatch() throws ScoreboardInputException, ScoreboardConsistencyException {
+        initScoreboardWithClockMock("2024-03-01T21:35:30");
+        scoreboard.startMatch("Mexico", "Canada");
+        assertEquals(ScoreboardOutcome.APPLIED, scoreboard.tryUpdateScore("Mexico", "Canada", 1, 0, 10));
+        scoreboard.finishMatch("Mexico", "Canada");
+        assertEquals(ScoreboardOutcome.MATCH_NOT_STARTED, scoreboard.tryUpdateScore("Mexico", "Canada", 2, 0, 11));
+        scoreboard.startMatch("Mexico", "Canada");
+        assertEquals(ScoreboardOutcome.APPLIED, scoreboard.tryUpdateScore("Mexico", "Canada", 0, 1, 1));
+        scoreboard.updateScore("Mexico", "Canada", 0, 2);
+        assertEquals(ScoreboardOutcome.STALE_EVENT, scoreboard.tryUpdateScore("Mexico", "Canada", 0, 3, 1));
+        assertEquals(1, scoreboard.droppedEvents());
+        assertNotAlteredRecord("Mexico", "Canada", "2024-03-01T21:35:30", 0, 2);
+    }
+
+    @Test
+    void givenScoreboardIsLoaded_WhenGoalsAreReported_ThenTheScoreOfTheScoringTeamIsIncreasedByOne_AndTheSummaryIsReordered() throws ScoreboardInputException, ScoreboardConsistencyException {
+        initScoreboardWithClockMock("2024-03-01T21:35:30");
+        scoreboard.startMatch("Mexico", "Canada");
+        scoreboard.startMatch("Spain", "Brazil");
+        scoreboard.updateScore("Spain", "Brazil", 1, 0);
+        scoreboard.homeGoal("Mexico", "Canada");
+        scoreboard.awayGoal("Mexico", "Canada");
+        assertEquals(ScoreboardOutcome.APPLIED, scoreboard.tryAwayGoal("Mexico", "Canada"));
+        List<Match> expected = Stream.of(
+                decorateMatch("Mexico", "Canada", "2024-03-01T21:35:30", 1, 2),
+                decorateMatch("Spain", "Brazil", "2024-03-01T21:35:30", 1, 0)
+        ).toList();
+        assertIterableEquals(expected, scoreboard.summary());
+    }
+
+    @Test
+    void givenScoreboardIsLoaded_WhenAGoalIsRejected_ThenThrowAWarningMessage_AndDoNotAlterTheScoreboard() throws ScoreboardInputException, ScoreboardConsistencyException {
+        initScoreboardWithClockMock("2024-03-01T21:35:30");
+        scoreboard.startMatch("Mexico", "Canada");
+        scoreboard.updateScore("Mexico", "Canada", Integer.MAX_VALUE, 0);
+        ScoreboardConsistencyException thrown = Assertions.assertThrows(ScoreboardConsistencyException.class, () -> scoreboard.homeGoal("Mexico", "Canada"));
+        Assertions.assertEquals("An input value is inconsistent: Home Team Score. The score can only be increased or unchanged.", thrown.getMessage());
+        thrown = Assertions.assertThrows(ScoreboardConsistencyException.class, () -> scoreboard.awayGoal("Croatia", "Sweden"));
+        Assertions.assertEquals("This match(Croatia-Sweden) has not been started.", thrown.getMessage());
+        assertThrows(ScoreboardInputException.class, () -> scoreboard.homeGoal("Mexico", null));
+        assertEquals(ScoreboardOutcome.HOME_SCORE_DECREASED, scoreboard.tryHomeGoal("Mexico", "Canada"));
+        assertNotAlteredRecord("Mexico", "Canada", "2024-03-01T21:35:30", Integer.MAX_VALUE, 0);
+    }
+
+    @Test
+    void givenScoreboardIsEmpty_WhenWritesAreTriedWithoutThrowing_ThenTheyAreAppliedAsTheThrowingWritesAre() throws ScoreboardInputException {
+        initScoreboardWithClockMock("2024-03-01T21:35:30");
+        assertEquals(ScoreboardOutcome.APPLIED, scoreboard.tryStartMatch("Mexico", "Canada"));
+        assertEquals(ScoreboardOutcome.APPLIED, scoreboard.tryStartMatch("Spain", "Brazil"));
+        assertEquals(ScoreboardOutcome.APPLIED, scoreboard.tryUpdateScore("Mexico", "Canada", 0, 5));
+        assertEquals(ScoreboardOutcome.APPLIED, scoreboard.tryFinishMatch("Spain", "Brazil"));
+        assertNotAlteredRecord("Mexico", "Canada", "2024-03-01T21:35:30", 0, 5);
+        assertTrue(scoreboard.currentMatch("Spain").isEmpty());
+    }
+
     @Test
     void givenScoreboardIsEmpty_WhenValidStartMatchInputIsReceived_ThenANewMatchIsAddedToTheScoreboard() throws ScoreboardInputException, ScoreboardConsistencyException {
         initScoreboardWithClockMock("2024-03-01T21:35:30");
@@ -162,6 +297,29 @@ class ScoreboardTest {
         assertTrue(expected.containsAll(actual));
     }
 
+    @Test
+    void givenClockTicksCoarselyOrGoesBackwards_WhenMatchesAreStarted_ThenMatchesWithTheSameTotalScoreAreOrderedByTheirStartOrder() throws ScoreboardInputException, ScoreboardConsistencyException {
+        initScoreboard(clockMock);
+        when(clockMock.fetchTime()).thenReturn(
+                LocalDateTime.parse("2024-03-01T21:35:30"),
+                LocalDateTime.parse("2024-03-01T21:35:30"),
+                LocalDateTime.parse("2024-03-01T21:35:29"),
+                LocalDateTime.parse("2024-03-01T21:35:31"));
+        scoreboard.startMatch("Mexico", "Canada");
+        scoreboard.startMatch("Spain", "Brazil");
+        scoreboard.startMatch("Germany", "France");
+        scoreboard.startMatch("Uruguay", "Italy");
+        scoreboard.updateScore("Mexico", "Canada", 1, 0);
+        scoreboard.updateScore("Germany", "France", 0, 1);
+        List<Match> expected = Stream.of(
+                decorateMatch("Germany", "France", "2024-03-01T21:35:29", 0, 1),
+                decorateMatch("Mexico", "Canada", "2024-03-01T21:35:30", 1, 0),
+                decorateMatch("Uruguay", "Italy", "2024-03-01T21:35:31", 0, 0),
+                decorateMatch("Spain", "Brazil", "2024-03-01T21:35:30", 0, 0)
+        ).toList();
+        assertIterableEquals(expected, scoreboard.summary());
+    }
+
     @Test
     void givenScoreboardIsLoaded_WhenMultipleValidUpdateScoreInputsAreReceived_ThenExistingMatchScoresAreUpdated() throws ScoreboardInputException, ScoreboardConsistencyException {
         initScoreboardWithClockMock("2024-03-01T21:35:30");
@@ -217,12 +375,193 @@ class ScoreboardTest {
         assertIterableEquals(expected, actual);
     }
 
+    @Test
+    void givenScoreboardIsLoadedWithManyMatches_WhenMatchesAreFinishedAndStartedAgain_ThenOnlyRunningMatchesAreOnTheScoreboard() throws ScoreboardInputException, ScoreboardConsistencyException {
+        initScoreboard(new ScoreboardClock());
+        for (int i = 0; i < 500; i++) {
+            scoreboard.startMatch("Home " + i, "Away " + i);
+        }
+        for (int i = 0; i < 500; i += 2) {
+            scoreboard.finishMatch("Home " + i, "Away " + i);
+        }
+        for (int i = 0; i < 100; i += 2) {
+            scoreboard.startMatch("Home " + i, "Away " + i);
+            scoreboard.updateScore("Home " + i, "Away " + i, 1, 0);
+        }
+        List<Match> actual = scoreboard.summary();
+        assertEquals(300, actual.size());
+        assertEquals(50, actual.stream().filter(match -> match.getHomeScore() == 1).count());
+        assertThrows(ScoreboardConsistencyException.class, () -> scoreboard.updateScore("Home 100", "Away 100", 1, 0));
+        assertThrows(ScoreboardConsistencyException.class, () -> scoreboard.startMatch("Home 101", "Away 101"));
+    }
+
+    @Test
+    void givenScoreboardIsLoaded_WhenAMatchIsFetchedByItsTeams_ThenTheRunningMatchIsReturned_UntilTheMatchIsFinished() throws ScoreboardInputException, ScoreboardConsistencyException {
+        injectUpdated5MatchLoadedScoreboardScenario();
+        assertEquals(decorateMatch("Uruguay", "Italy", "2024-03-01T21:38:30", 6, 6), scoreboard.match("Uruguay", "Italy").orElseThrow());
+        assertTrue(scoreboard.match("Italy", "Uruguay").isEmpty());
+        assertTrue(scoreboard.match("Croatia", "Sweden").isEmpty());
+        assertThrows(ScoreboardInputException.class, () -> scoreboard.match("Uruguay", null));
+
+        scoreboard.updateScore("Uruguay", "Italy", 7, 6);
+        assertEquals(7, scoreboard.match("Uruguay", "Italy").orElseThrow().getHomeScore());
+        scoreboard.finishMatch("Uruguay", "Italy");
+        assertTrue(scoreboard.match("Uruguay", "Italy").isEmpty());
+    }
+
+    @Test
+    void givenScoreboardIsLoaded_WhenCurrentMatchOfATeamIsFetched_ThenItsRunningMatchIsReturned_UntilTheMatchIsFinished() throws ScoreboardInputException, ScoreboardConsistencyException {
+        injectUpdated5MatchLoadedScoreboardScenario();
+        Match expected = decorateMatch("Spain", "Brazil", "2024-03-01T21:36:30", 10, 2);
+        assertEquals(expected, scoreboard.currentMatch("Spain").orElseThrow());
+        assertEquals(expected, scoreboard.currentMatch("Brazil").orElseThrow());
+        assertTrue(scoreboard.currentMatch("Croatia").isEmpty());
+        assertThrows(ScoreboardInputException.class, () -> scoreboard.currentMatch(" "));
+
+        scoreboard.finishMatch("Spain", "Brazil");
+        assertTrue(scoreboard.currentMatch("Spain").isEmpty());
+        scoreboard.startMatch("Brazil", "Croatia");
+        assertEquals("Brazil", scoreboard.currentMatch("Croatia").orElseThrow().getHomeTeam());
+    }
+
+    @Test
+    void givenScoreboardIsLoaded_WhenABatchOfMixedCommandsIsApplied_ThenValidCommandsAreApplied_AndRejectedCommandsAreReported() throws ScoreboardInputException, ScoreboardConsistencyException {
+        injectUpdated5MatchLoadedScoreboardScenario();
+        when(clockMock.fetchTime()).thenReturn(LocalDateTime.parse("2024-03-01T21:40:30"));
+        List<ScoreboardCommand> commands = List.of(
+                ScoreboardCommand.finishMatch("Mexico", "Canada"),
+                ScoreboardCommand.startMatch("Portugal", "Ghana"),
+                ScoreboardCommand.updateScore("Portugal", "Ghana", 1, 0),
+                ScoreboardCommand.updateScore("Spain", "Brazil", 9, 2),
+                ScoreboardCommand.startMatch("   ", "Ghana"),
+                ScoreboardCommand.finishMatch("Mexico", "Canada")
+        );
+        List<ScoreboardCommandResult> results = scoreboard.applyBatch(commands);
+        assertEquals(6, results.size());
+        assertIterableEquals(commands, results.stream().map(ScoreboardCommandResult::getCommand).toList());
+        assertTrue(results.get(0).isApplied());
+        assertTrue(results.get(1).isApplied());
+        assertTrue(results.get(2).isApplied());
+        assertFalse(results.get(3).isApplied());
+        assertInstanceOf(ScoreboardConsistencyException.class, results.get(3).getFailure().orElseThrow());
+        assertFalse(results.get(4).isApplied());
+        assertEquals("An input value is blank: Home Team", results.get(4).getFailure().orElseThrow().getMessage());
+        assertFalse(results.get(5).isApplied());
+        assertEquals("This match(Mexico-Canada) has not been started.", results.get(5).getFailure().orElseThrow().getMessage());
+        List<Match> actual = scoreboard.summary();
+        List<Match> expected = Stream.of(
+                decorateMatch("Uruguay", "Italy", "2024-03-01T21:38:30", 6, 6),
+                decorateMatch("Spain", "Brazil", "2024-03-01T21:36:30", 10, 2),
+                decorateMatch("Argentina", "Australia", "2024-03-01T21:39:30", 3, 1),
+                decorateMatch("Germany", "France", "2024-03-01T21:37:30", 2, 2),
+                decorateMatch("Portugal", "Ghana", "2024-03-01T21:40:30", 1, 0)
+        ).toList();
+        assertIterableEquals(expected, actual);
+    }
+
+    @Test
+    void givenScoreboardPublishesSummaryOnWrite_WhenMatchesAreUpdated_ThenSummaryIsInOrder_AndSameSummaryIsReturnedUntilNextWrite() throws ScoreboardInputException, ScoreboardConsistencyException {
+        initScoreboard(clockMock, SummaryMode.PUBLISHED_ON_WRITE);
+        assertEmptyScoreboard();
+        injectUpdated5MatchLoadedScoreboardScenario(SummaryMode.PUBLISHED_ON_WRITE);
+        List<Match> actual = scoreboard.summary();
+        assertSame(actual, scoreboard.summary());
+        assertThrows(UnsupportedOperationException.class, () -> actual.remove(0));
+        List<Match> expected = Stream.of(
+                decorateMatch("Uruguay", "Italy", "2024-03-01T21:38:30", 6, 6),
+                decorateMatch("Spain", "Brazil", "2024-03-01T21:36:30", 10, 2),
+                decorateMatch("Mexico", "Canada", "2024-03-01T21:35:30", 0, 5),
+                decorateMatch("Argentina", "Australia", "2024-03-01T21:39:30", 3, 1),
+                decorateMatch("Germany", "France", "2024-03-01T21:37:30", 2, 2)
+        ).toList();
+        assertIterableEquals(expected, actual);
+        assertThrows(ScoreboardConsistencyException.class, () -> scoreboard.updateScore("Mexico", "Canada", 0, 4));
+        assertSame(actual, scoreboard.summary());
+        scoreboard.finishMatch("Mexico", "Canada");
+        assertNotSame(actual, scoreboard.summary());
+        assertEquals(4, scoreboard.summary().size());
+        assertEquals(5, actual.size());
+    }
+
+    @ParameterizedTest
+    @EnumSource(SummaryMode.class)
+    void givenScoreboardIsLoaded_WhenPagesOfTheSummaryAreFetched_ThenOnlyTheMatchesOfThePageAreReturned_InSummaryOrder(SummaryMode summaryMode) throws ScoreboardInputException, ScoreboardConsistencyException {
+        injectUpdated5MatchLoadedScoreboardScenario(summaryMode);
+        List<Match> summary = scoreboard.summary();
+        assertIterableEquals(summary.subList(0, 2), scoreboard.summary(2));
+        assertIterableEquals(summary.subList(2, 4), scoreboard.summary(2, 2));
+        assertIterableEquals(summary.subList(4, 5), scoreboard.summary(4, 2));
+        assertIterableEquals(summary, scoreboard.summary(10));
+        assertTrue(scoreboard.summary(0).isEmpty());
+        assertTrue(scoreboard.summary(5, 2).isEmpty());
+        assertTrue(scoreboard.summary(Integer.MAX_VALUE, Integer.MAX_VALUE).isEmpty());
+        assertEquals(decorateMatch("Uruguay", "Italy", "2024-03-01T21:38:30", 6, 6), scoreboard.summary(1).get(0));
+    }
+
+    @Test
+    void givenScoreboardIsLoaded_WhenNegativeSummaryRangeIsReceived_ThenExceptionIsThrown() throws ScoreboardInputException, ScoreboardConsistencyException {
+        injectUpdated5MatchLoadedScoreboardScenario();
+        ScoreboardInputException thrown = Assertions.assertThrows(ScoreboardInputException.class, () -> scoreboard.summary(-1));
+        Assertions.assertEquals("An input value is negative: Limit", thrown.getMessage());
+        thrown = Assertions.assertThrows(ScoreboardInputException.class, () -> scoreboard.summary(-1, 5));
+        Assertions.assertEquals("An input value is negative: Offset", thrown.getMessage());
+    }
+
+    @Test
+    void givenScoreboardHasASubscriber_WhenMatchesAreStartedUpdatedAndFinished_ThenChangeEventsArePushedInOrder() throws Exception {
+        initScoreboard(clockMock);
+        EventCollector events = new EventCollector();
+        scoreboard.subscribe(events);
+        when(clockMock.fetchTime()).thenReturn(LocalDateTime.parse("2024-03-01T21:35:30"));
+        scoreboard.startMatch("Mexico", "Canada");
+        when(clockMock.fetchTime()).thenReturn(LocalDateTime.parse("2024-03-01T21:36:30"));
+        scoreboard.startMatch("Spain", "Brazil");
+        scoreboard.updateScore("Mexico", "Canada", 1, 0);
+        scoreboard.updateScore("Spain", "Brazil", 0, 1);
+        scoreboard.updateScore("Spain", "Brazil", 0, 2);
+        assertThrows(ScoreboardConsistencyException.class, () -> scoreboard.updateScore("Spain", "Brazil", 0, 1));
+        scoreboard.finishMatch("Mexico", "Canada");
+        Match mexico = decorateMatch("Mexico", "Canada", "2024-03-01T21:35:30", 1, 0);
+        Match spain = decorateMatch("Spain", "Brazil", "2024-03-01T21:36:30", 0, 1);
+        List<ScoreboardEvent> expected = List.of(
+                new ScoreboardEvent(ScoreboardEvent.Type.MATCH_STARTED, 1, decorateMatch("Mexico", "Canada", "2024-03-01T21:35:30", 0, 0), null),
+                new ScoreboardEvent(ScoreboardEvent.Type.MATCH_STARTED, 2, decorateMatch("Spain", "Brazil", "2024-03-01T21:36:30", 0, 0), null),
+                new ScoreboardEvent(ScoreboardEvent.Type.SCORE_CHANGED, 3, mexico, null),
+                new ScoreboardEvent(ScoreboardEvent.Type.RANK_CHANGED, 4, mexico, null),
+                new ScoreboardEvent(ScoreboardEvent.Type.SCORE_CHANGED, 5, spain, null),
+                new ScoreboardEvent(ScoreboardEvent.Type.RANK_CHANGED, 6, spain, null),
+                new ScoreboardEvent(ScoreboardEvent.Type.SCORE_CHANGED, 7, decorateMatch("Spain", "Brazil", "2024-03-01T21:36:30", 0, 2), null),
+                new ScoreboardEvent(ScoreboardEvent.Type.MATCH_FINISHED, 8, mexico, null)
+        );
+        assertIterableEquals(expected, events.take(expected.size()));
+    }
+
+    @Test
+    void givenScoreboardHasASubscriber_WhenTheScoreboardIsClosed_ThenTheSubscriberIsCompletedAfterItsEvents_AndLaterWritesAreNotPushed() throws Exception {
+        initScoreboard(clockMock);
+        EventCollector events = new EventCollector();
+        scoreboard.subscribe(events);
+        when(clockMock.fetchTime()).thenReturn(LocalDateTime.parse("2024-03-01T21:35:30"));
+        scoreboard.startMatch("Mexico", "Canada");
+        scoreboard.close();
+        scoreboard.updateScore("Mexico", "Canada", 1, 0);
+
+        assertIterableEquals(List.of(new ScoreboardEvent(ScoreboardEvent.Type.MATCH_STARTED, 1, decorateMatch("Mexico", "Canada", "2024-03-01T21:35:30", 0, 0), null)),
+                events.take(1));
+        assertTrue(events.completed.await(1, TimeUnit.MINUTES));
+        assertTrue(events.events.isEmpty());
+    }
+
     // **************************
     // Common Injected Scenarios:
     // **************************
 
     private void injectUpdated5MatchLoadedScoreboardScenario() throws ScoreboardInputException, ScoreboardConsistencyException {
-        initScoreboard(clockMock);
+        injectUpdated5MatchLoadedScoreboardScenario(SummaryMode.COMPUTED_ON_READ);
+    }
+
+    private void injectUpdated5MatchLoadedScoreboardScenario(SummaryMode summaryMode) throws ScoreboardInputException, ScoreboardConsistencyException {
+        initScoreboard(clockMock, summaryMode);
         when(clockMock.fetchTime()).thenReturn(LocalDateTime.parse("2024-03-01T21:35:30"));
         scoreboard.startMatch("Mexico", "Canada");
         when(clockMock.fetchTime()).thenReturn(LocalDateTime.parse("2024-03-01T21:36:30"));
@@ -250,7 +589,11 @@ class ScoreboardTest {
     }
 
     void initScoreboard(ScoreboardClock clock) {
-        this.scoreboard = new ScoreboardImp(new ScoreboardCache(), clock, new ScoreboardAudit());
+        this.scoreboard = new ScoreboardImp(new ScoreboardCache(), clock, new ScoreboardAudit(), SummaryMode.COMPUTED_ON_READ, null, null);
+    }
+
+    void initScoreboard(ScoreboardClock clock, SummaryMode summaryMode) {
+        this.scoreboard = new ScoreboardImp(new ScoreboardCache(), clock, new ScoreboardAudit(), summaryMode, null, null);
     }
 
     private void initScoreboardWithClockMock(String fixedTimestamp){
@@ -273,14 +616,48 @@ class ScoreboardTest {
         assertIterableEquals(expected, actual);
     }
 
+    /**
+     * Subscriber that requests every event and collects them.
+     */
+    private static class EventCollector implements Flow.Subscriber<ScoreboardEvent> {
+
+        private final BlockingQueue<ScoreboardEvent> events = new LinkedBlockingQueue<>();
+
+        private final CountDownLatch completed = new CountDownLatch(1);
+
+        @Override
+        public void onSubscribe(Flow.Subscription subscription) {
+            subscription.request(Long.MAX_VALUE);
+        }
+
+        @Override
+        public void onNext(ScoreboardEvent event) {
+            events.add(event);
+        }
+
+        @Override
+        public void onError(Throwable throwable) {
+        }
+
+        @Override
+        public void onComplete() {
+            completed.countDown();
+        }
+
+        List<ScoreboardEvent> take(int count) throws InterruptedException {
+            List<ScoreboardEvent> taken = new ArrayList<>();
+            for (int i = 0; i < count; i++) {
+                ScoreboardEvent event = events.poll(1, TimeUnit.MINUTES);
+                assertNotNull(event, "Missing event after " + taken);
+                taken.add(event);
+            }
+            return taken;
+        }
+
+    }
+
     private Match decorateMatch(String home, String away, String time, int homeScore, int awayScore) {
-        Match match = new Match();
-        match.setHomeTeam(home);
-        match.setAwayTeam(away);
-        match.setMatchTime(LocalDateTime.parse(time));
-        match.setHomeScore(homeScore);
-        match.setAwayScore(awayScore);
-        return match;
+        return new Match(home, away, LocalDateTime.parse(time), homeScore, awayScore);
     }
 
 }
\ No newline at end of file
@@ -0,0 +1,144 @@
+package com.sportradar.football.worldcup.scoreboard;
+
+import com.sportradar.football.worldcup.scoreboard.exception.ScoreboardConsistencyException;
+import com.sportradar.football.worldcup.scoreboard.exception.ScoreboardInputException;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.api.io.TempDir;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.when;
+
+/**
+ * Sharded scoreboard tests, where a sharded scoreboard is checked against a single cache scoreboard that takes the same writes.
+ * Every match starts at the same instant, so the order of the matches with the same total score rests on the start order shared by the shards.
+ * To understand the purpose and scenarios of the test cases, read the method names carefully.
+ * The names are written in BDD key structure.
+ */
+@ExtendWith(MockitoExtension.class)
+class ShardedScoreboardTest {
+
+    @Mock
+    private ScoreboardClock clockMock;
+
+    @TempDir
+    private Path directory;
+
+    private Scoreboard single;
+
+    private Scoreboard sharded;
+
+    @BeforeEach
+    void beforeEach() {
+        when(clockMock.fetchTime()).thenReturn(LocalDateTime.parse("2024-06-14T21:00:00"));
+        single = new ScoreboardImp(new ScoreboardCache(), clockMock, new ScoreboardAudit(), SummaryMode.COMPUTED_ON_READ, null, null);
+        sharded = new ScoreboardImp(new ShardedScoreboardCache(4), clockMock, new ScoreboardAudit(), SummaryMode.COMPUTED_ON_READ, null, null);
+    }
+
+    @Test
+    void givenShardedScoreboard_WhenTheSameWritesAreApplied_ThenSummaryAndPagesAreMergedInTheSameOrder() throws ScoreboardInputException {
+        applyRandomWrites(new Random(42), 2_000);
+
+        List<Match> expected = single.summary();
+        assertFalse(expected.isEmpty());
+        assertIterableEquals(expected, sharded.summary());
+        assertIterableEquals(single.summary(10), sharded.summary(10));
+        assertIterableEquals(single.summary(25, 40), sharded.summary(25, 40));
+        assertIterableEquals(single.summary(expected.size() - 3, 10), sharded.summary(expected.size() - 3, 10));
+        assertTrue(sharded.summary(expected.size(), 10).isEmpty());
+    }
+
+    @Test
+    void givenShardedScoreboard_WhenABatchIsApplied_ThenEachCommandHasTheSameResult_AndSummaryIsTheSame() throws ScoreboardInputException, ScoreboardConsistencyException {
+        single.startMatch("Mexico", "Canada");
+        sharded.startMatch("Mexico", "Canada");
+        List<ScoreboardCommand> commands = List.of(
+                ScoreboardCommand.startMatch("Spain", "Brazil"),
+                ScoreboardCommand.startMatch("Germany", "France"),
+                ScoreboardCommand.updateScore("Mexico", "Canada", 0, 5),
+                ScoreboardCommand.updateScore("Spain", "Brazil", 10, 2),
+                ScoreboardCommand.startMatch("Mexico", "Canada"),
+                ScoreboardCommand.finishMatch("Germany", "France"),
+                ScoreboardCommand.updateScore("Uruguay", "Italy", 6, 6)
+        );
+
+        List<ScoreboardCommandResult> expected = single.applyBatch(commands);
+        List<ScoreboardCommandResult> actual = sharded.applyBatch(commands);
+        for (int i = 0; i < commands.size(); i++) {
+            assertEquals(expected.get(i).isApplied(), actual.get(i).isApplied());
+        }
+        assertIterableEquals(single.summary(), sharded.summary());
+    }
+
+    @Test
+    void givenShardedScoreboardIsLoaded_WhenItIsSavedAndLoadedWithAnotherShardCount_ThenSummaryIsKept() throws ScoreboardInputException, IOException {
+        applyRandomWrites(new Random(7), 500);
+        Path file = directory.resolve("board.snapshot");
+        ScoreboardFactory.saveSnapshot(sharded, file);
+
+        assertIterableEquals(single.summary(), ScoreboardFactory.loadSnapshot(file).summary());
+        assertIterableEquals(single.summary(), ScoreboardFactory.builder().snapshot(file).shards(7).build().summary());
+    }
+
+    @Test
+    void givenShardedScoreboardIsLoaded_WhenAMatchIsStartedForATeamThatIsPlayingOnAnotherShard_ThenItIsRejected() throws ScoreboardInputException, ScoreboardConsistencyException {
+        for (int i = 0; i < 20; i++) {
+            sharded.startMatch("Home " + i, "Away " + i);
+        }
+        for (int i = 0; i < 20; i++) {
+            String homeTeam = "Home " + i;
+            String awayTeam = "Away " + (i + 1) % 20;
+            assertThrows(ScoreboardConsistencyException.class, () -> sharded.startMatch(homeTeam, awayTeam));
+            assertThrows(ScoreboardConsistencyException.class, () -> sharded.startMatch(awayTeam, homeTeam));
+            assertEquals("Away " + i, sharded.currentMatch(homeTeam).orElseThrow().getAwayTeam());
+        }
+        assertEquals(20, sharded.summary().size());
+    }
+
+    // ************************
+    // Supporting Test Methods:
+    // ************************
+
+    /**
+     * Applies the same random starts, score updates and finishes to both scoreboards, and checks that each write has the same outcome on both.
+     */
+    private void applyRandomWrites(Random random, int writeCount) throws ScoreboardInputException {
+        for (int write = 0; write < writeCount; write++) {
+            String homeTeam = "Team " + random.nextInt(150);
+            String awayTeam = "Team " + random.nextInt(150);
+            if (homeTeam.equals(awayTeam)) {
+                continue;
+            }
+            int operation = random.nextInt(10);
+            int homeScore = random.nextInt(10);
+            int awayScore = random.nextInt(10);
+            boolean expected = apply(single, operation, homeTeam, awayTeam, homeScore, awayScore);
+            assertEquals(expected, apply(sharded, operation, homeTeam, awayTeam, homeScore, awayScore));
+        }
+    }
+
+    private boolean apply(Scoreboard scoreboard, int operation, String homeTeam, String awayTeam, int homeScore, int awayScore) throws ScoreboardInputException {
+        try {
+            if (operation < 4) {
+                scoreboard.startMatch(homeTeam, awayTeam);
+            } else if (operation < 9) {
+                scoreboard.updateScore(homeTeam, awayTeam, homeScore, awayScore);
+            } else {
+                scoreboard.finishMatch(homeTeam, awayTeam);
+            }
+            return true;
+        } catch (ScoreboardConsistencyException e) {
+            return false;
+        }
+    }
+
+}